@@ -0,0 +1,100 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeNearCache;
+import com.reliaquest.api.cache.IdIndex;
+import com.reliaquest.api.cache.NameTrigramIndex;
+import com.reliaquest.api.cache.SalaryIndex;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.config.RedisConfig;
+import com.reliaquest.api.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+final class BenchmarkData {
+
+    private static final String[] SYLLABLES = {
+        "an", "ber", "cal", "dor", "el", "fin", "gar", "hol", "is", "jen", "kel", "lo", "mar", "nix", "or", "pel",
+        "quin", "ros", "sam", "tor", "ul", "van", "wil", "xan", "yor", "zel"
+    };
+
+    // EmployeeCache fixes its own key names, so the benchmarks keep clear of a live snapshot in a database of their own
+    static final int REDIS_DATABASE = 15;
+
+    private BenchmarkData() {}
+
+    static List<Employee> employees(int count) {
+
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Employee employee = new Employee();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setEmployee_name(word(random, 2) + " " + word(random, 3));
+            employee.setEmployee_salary(30_000 + random.nextInt(470_000));
+            employee.setEmployee_age(16 + random.nextInt(55));
+            employee.setEmployee_title("Title " + random.nextInt(200));
+            employee.setEmployee_email("employee" + i + "@company.com");
+            employees.add(employee);
+        }
+
+        return employees;
+    }
+
+    static LettuceConnectionFactory localRedis() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
+        configuration.setDatabase(REDIS_DATABASE);
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration);
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    static RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory factory) {
+        RedisTemplate<String, Object> template =
+                new RedisConfig(factory).redisTemplate(new EmployeeCacheProperties());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    static EmployeeNearCache nearCache(LettuceConnectionFactory factory) {
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(factory);
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(factory);
+        return new EmployeeNearCache(
+                stringRedisTemplate,
+                listenerContainer,
+                List.of(),
+                new SimpleMeterRegistry(),
+                new EmployeeCacheProperties());
+    }
+
+    static EmployeeCache employeeCache(
+            LettuceConnectionFactory factory, RedisTemplate<String, Object> template, EmployeeNearCache nearCache) {
+        return new EmployeeCache(
+                template,
+                new StringRedisTemplate(factory),
+                new EmployeeCacheProperties(),
+                nearCache,
+                new SalaryIndex(),
+                new NameTrigramIndex(),
+                new IdIndex());
+    }
+
+    private static String word(Random random, int maxSyllables) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 1 + random.nextInt(maxSyllables);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.NameTrigramIndex;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the linear {@code String.contains} scan previously run by {@code searchEmployeesByName} with
+ * {@link NameTrigramIndex}, for a selective fragment and a common one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int employeeCount;
+
+    @Param({"Nixquinel", "mar"})
+    private String fragment;
+
+    private List<Employee> employees;
+    private NameTrigramIndex nameIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employees = BenchmarkData.employees(employeeCount);
+        nameIndex = new NameTrigramIndex();
+        nameIndex.rebuild(employees);
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        return employees.stream()
+                .filter(Objects::nonNull)
+                .filter(e -> {
+                    String name = e.getEmployee_name();
+                    return name != null && name.contains(fragment);
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> trigramIndex() {
+        return nameIndex.search(fragment).orElseThrow();
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.CompactEmployeeRedisSerializer;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Encode and decode cost per cached employee for the JSON and compact binary formats. The average entry size of each
+ * format is printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializerBenchmark {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    @Param({"JSON", "BINARY"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private List<Employee> employees;
+    private byte[][] encoded;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        serializer = new CompactEmployeeRedisSerializer(
+                new GenericJackson2JsonRedisSerializer(), "BINARY".equals(format));
+        employees = BenchmarkData.employees(SAMPLE_SIZE);
+        encoded = new byte[SAMPLE_SIZE][];
+
+        long totalBytes = 0;
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            encoded[i] = serializer.serialize(employees.get(i));
+            totalBytes += encoded[i].length;
+        }
+
+        System.out.printf("%n%s: %.1f bytes per employee%n", format, (double) totalBytes / SAMPLE_SIZE);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        next = (next + 1) & (SAMPLE_SIZE - 1);
+        return serializer.serialize(employees.get(next));
+    }
+
+    @Benchmark
+    public Object decode() {
+        next = (next + 1) & (SAMPLE_SIZE - 1);
+        return serializer.deserialize(encoded[next]);
+    }
+}
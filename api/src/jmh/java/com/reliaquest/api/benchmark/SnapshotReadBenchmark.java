@@ -0,0 +1,105 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.cache.EmployeeNearCache;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Compares the previous per-key snapshot layout ({@code SMEMBERS} followed by one {@code GET} per employee) with the
+ * single-hash layout read by {@link EmployeeCache#getSnapshot()}. The near cache is cleared before every read so both
+ * variants go to Redis. Requires Redis on localhost:6379; everything is written to database
+ * {@value BenchmarkData#REDIS_DATABASE} and only the keys written here are deleted afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotReadBenchmark {
+
+    private static final String LEGACY_IDS_KEY = "bench:employee_ids";
+
+    @Param({"100", "1000", "10000"})
+    private int employeeCount;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
+    private EmployeeNearCache nearCache;
+    private EmployeeCache employeeCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        connectionFactory = BenchmarkData.localRedis();
+        redisTemplate = BenchmarkData.redisTemplate(connectionFactory);
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        nearCache = BenchmarkData.nearCache(connectionFactory);
+        employeeCache = BenchmarkData.employeeCache(connectionFactory, redisTemplate, nearCache);
+
+        List<Employee> employees = BenchmarkData.employees(employeeCount);
+
+        redisTemplate.delete(LEGACY_IDS_KEY);
+        for (Employee employee : employees) {
+            redisTemplate.opsForValue().set("bench:" + employee.getId(), employee);
+            redisTemplate.opsForSet().add(LEGACY_IDS_KEY, employee.getId());
+        }
+
+        employeeCache.replaceAll(employees, Instant.now(), null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Set<Object> ids = redisTemplate.opsForSet().members(LEGACY_IDS_KEY);
+        if (ids != null) {
+            redisTemplate.delete(ids.stream().map(id -> "bench:" + id).toList());
+        }
+        redisTemplate.delete(LEGACY_IDS_KEY);
+
+        String generation = stringRedisTemplate
+                .<String, String>opsForHash()
+                .get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD);
+        if (generation != null) {
+            redisTemplate.delete(List.of(
+                    ServiceConstants.EMPLOYEE_SNAPSHOT_KEY_PREFIX + generation,
+                    ServiceConstants.EMPLOYEE_SALARIES_KEY_PREFIX + generation));
+        }
+        redisTemplate.delete(List.of(
+                ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, ServiceConstants.EMPLOYEE_SNAPSHOT_GENERATION_KEY));
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public List<Employee> perKeyGets() {
+        Set<Object> ids = redisTemplate.opsForSet().members(LEGACY_IDS_KEY);
+        return Objects.requireNonNull(ids).stream()
+                .map(id -> (Employee) redisTemplate.opsForValue().get("bench:" + id))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> snapshotHash() {
+        nearCache.invalidateAll();
+        return employeeCache.getSnapshot().employees();
+    }
+}
@@ -0,0 +1,160 @@
+package com.reliaquest.api.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop load against a running API: {@code concurrency} clients each send their next request as soon as the
+ * previous one completes. A share of the requests ask for unknown IDs, which miss the cache and wait on upstream and
+ * its retries, so request threads spend most of their time parked. Run it once against an API started with
+ * {@code spring.threads.virtual.enabled=false} and once with {@code true} to compare the two.
+ */
+public final class LoadTest {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final double missRatio;
+    private final Duration requestTimeout;
+
+    private LoadTest(String baseUrl, double missRatio, Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.missRatio = missRatio;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        String label = System.getProperty("loadTest.label", "run");
+        String baseUrl = System.getProperty("loadTest.baseUrl", "http://localhost:8111");
+        int concurrency = Integer.getInteger("loadTest.concurrency", 1000);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadTest.warmupSeconds", 5));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadTest.durationSeconds", 30));
+        double missRatio = Double.parseDouble(System.getProperty("loadTest.missRatio", "0.1"));
+
+        LoadTest loadTest = new LoadTest(baseUrl, missRatio, Duration.ofSeconds(30));
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            System.out.printf("Warming up %s with %d clients for %ss%n", baseUrl, concurrency, warmup.toSeconds());
+            loadTest.run(clients, concurrency, warmup);
+
+            System.out.printf("Measuring for %ss%n", duration.toSeconds());
+            Result result = loadTest.run(clients, concurrency, duration);
+            System.out.println(result.summary(label, concurrency));
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Result run(ExecutorService clients, int concurrency, Duration duration) throws Exception {
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        List<Future<Client>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> {
+                Client client = new Client();
+                while (System.nanoTime() < deadline) {
+                    client.send();
+                }
+                return client;
+            }));
+        }
+
+        List<Client> finished = new ArrayList<>(concurrency);
+        for (Future<Client> future : futures) {
+            finished.add(future.get());
+        }
+        return Result.of(finished, System.nanoTime() - start);
+    }
+
+    private HttpRequest nextRequest() {
+
+        // Unknown IDs are never cached, so each one goes upstream
+        String path = ThreadLocalRandom.current().nextDouble() < missRatio ? "/" + UUID.randomUUID() : "/highestSalary";
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+    }
+
+    private final class Client {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private int errors;
+
+        void send() {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(nextRequest(), HttpResponse.BodyHandlers.discarding());
+                // A 404 for an unknown ID is the expected answer
+                if (response.statusCode() >= 500 || response.statusCode() == 429) {
+                    errors++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a response", e);
+            } catch (Exception e) {
+                errors++;
+            }
+            latencies.add(System.nanoTime() - start);
+        }
+    }
+
+    private record Result(long[] latencies, int errors, long elapsedNanos) {
+
+        static Result of(List<Client> clients, long elapsedNanos) {
+            long[] latencies = clients.stream()
+                    .flatMap(client -> client.latencies.stream())
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray();
+            int errors = clients.stream().mapToInt(client -> client.errors).sum();
+            return new Result(latencies, errors, elapsedNanos);
+        }
+
+        String summary(String label, int concurrency) {
+            double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+            return String.format(
+                    Locale.ROOT,
+                    "%s: concurrency=%d requests=%d errors=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms max=%.1fms",
+                    label,
+                    concurrency,
+                    latencies.length,
+                    errors,
+                    latencies.length / seconds,
+                    millis(percentile(0.50)),
+                    millis(percentile(0.99)),
+                    millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+        }
+
+        private long percentile(double quantile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
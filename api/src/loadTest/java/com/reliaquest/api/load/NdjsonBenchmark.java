@@ -0,0 +1,192 @@
+package com.reliaquest.api.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@code GET /} as a JSON array with the same list as NDJSON against a running API: time to the first body
+ * byte, time to the last, and the API's peak heap while each format is being served. Peak heap is sampled from
+ * {@code /actuator/metrics/jvm.memory.used}, so it is an upper bound on what the requests cost rather than an exact
+ * figure; start the API with a fixed {@code -Xmx} and a large upstream list to make the difference visible.
+ */
+public final class NdjsonBenchmark {
+
+    private static final String JSON = "application/json";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final Pattern MEASUREMENT_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    private NdjsonBenchmark(String baseUrl) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        String baseUrl = System.getProperty("ndjsonBenchmark.baseUrl", "http://localhost:8111");
+        String actuatorUrl = System.getProperty("ndjsonBenchmark.actuatorUrl", "http://localhost:8111/actuator");
+        int concurrency = Integer.getInteger("ndjsonBenchmark.concurrency", 8);
+        int requests = Integer.getInteger("ndjsonBenchmark.requests", 200);
+        int warmupRequests = Integer.getInteger("ndjsonBenchmark.warmupRequests", 20);
+
+        NdjsonBenchmark benchmark = new NdjsonBenchmark(baseUrl);
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (String accept : List.of(JSON, NDJSON)) {
+                benchmark.run(clients, accept, warmupRequests);
+
+                HeapSampler heap = benchmark.new HeapSampler(actuatorUrl);
+                Thread sampler = new Thread(heap, "heap-sampler");
+                sampler.start();
+                Result result = benchmark.run(clients, accept, requests);
+                heap.stop();
+                sampler.join();
+
+                System.out.println(result.summary(accept, concurrency, heap.peakBytes()));
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Result run(ExecutorService clients, String accept, int requests) throws Exception {
+
+        List<Future<Timing>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(clients.submit(() -> send(accept)));
+        }
+
+        List<Timing> timings = new ArrayList<>(requests);
+        for (Future<Timing> future : futures) {
+            timings.add(future.get());
+        }
+        return Result.of(timings);
+    }
+
+    private Timing send(String accept) throws IOException, InterruptedException {
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Accept", accept)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200 || body.read() < 0) {
+                return Timing.FAILED;
+            }
+            long firstByte = System.nanoTime() - start;
+            long bytes = 1 + body.transferTo(OutputStream.nullOutputStream());
+            return new Timing(firstByte, System.nanoTime() - start, bytes);
+        }
+    }
+
+    private record Timing(long firstByteNanos, long totalNanos, long bytes) {
+
+        static final Timing FAILED = new Timing(-1, -1, 0);
+    }
+
+    private final class HeapSampler implements Runnable {
+
+        private final HttpRequest request;
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private volatile double peakBytes;
+
+        HeapSampler(String actuatorUrl) {
+            this.request = HttpRequest.newBuilder(URI.create(actuatorUrl + "/metrics/jvm.memory.used?tag=area:heap"))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+        }
+
+        @Override
+        public void run() {
+            while (running.get()) {
+                try {
+                    String body = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+                    Matcher matcher = MEASUREMENT_VALUE.matcher(body);
+                    if (matcher.find()) {
+                        peakBytes = Math.max(peakBytes, Double.parseDouble(matcher.group(1)));
+                    }
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (IOException e) {
+                    // A missed sample only makes the peak less precise
+                }
+            }
+        }
+
+        void stop() {
+            running.set(false);
+        }
+
+        double peakBytes() {
+            return peakBytes;
+        }
+    }
+
+    private record Result(long[] firstBytes, long[] totals, int errors, long bytes) {
+
+        static Result of(List<Timing> timings) {
+            List<Timing> succeeded = timings.stream().filter(timing -> timing != Timing.FAILED).toList();
+            long[] firstBytes = succeeded.stream().mapToLong(Timing::firstByteNanos).sorted().toArray();
+            long[] totals = succeeded.stream().mapToLong(Timing::totalNanos).sorted().toArray();
+            long bytes = succeeded.isEmpty() ? 0 : succeeded.get(0).bytes();
+            return new Result(firstBytes, totals, timings.size() - succeeded.size(), bytes);
+        }
+
+        String summary(String accept, int concurrency, double peakHeapBytes) {
+            return String.format(
+                    Locale.ROOT,
+                    "%s: concurrency=%d requests=%d errors=%d bytes=%d ttfb p50=%.1fms p99=%.1fms"
+                            + " total p50=%.1fms p99=%.1fms peakHeap=%.1fMB",
+                    accept,
+                    concurrency,
+                    totals.length,
+                    errors,
+                    bytes,
+                    millis(percentile(firstBytes, 0.50)),
+                    millis(percentile(firstBytes, 0.99)),
+                    millis(percentile(totals, 0.50)),
+                    millis(percentile(totals, 0.99)),
+                    peakHeapBytes / (1024 * 1024));
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Schema-versioned binary encoding for cached {@link Employee} entries, without the {@code @class} hint and field names
+ * that JSON repeats in every entry.
+ *
+ * <p>Layout: magic byte, schema version, type tag, field-presence bitmask, then the present fields in declaration
+ * order. A canonical UUID id is stored as 16 raw bytes, strings as varint length plus UTF-8, ints as zigzag varints.
+ *
+ * <p>Values that do not start with the magic byte are handed to the JSON serializer, so entries written before the
+ * switch stay readable. Everything other than an {@link Employee} is always written as JSON.
+ */
+public class CompactEmployeeRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xE7;
+    static final byte SCHEMA_VERSION = 1;
+
+    private static final byte TYPE_EMPLOYEE = 1;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NAME = 1 << 1;
+    private static final int HAS_SALARY = 1 << 2;
+    private static final int HAS_AGE = 1 << 3;
+    private static final int HAS_TITLE = 1 << 4;
+    private static final int HAS_EMAIL = 1 << 5;
+    private static final int ID_IS_UUID = 1 << 6;
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final boolean writeBinary;
+
+    public CompactEmployeeRedisSerializer(RedisSerializer<Object> jsonSerializer, boolean writeBinary) {
+        this.jsonSerializer = jsonSerializer;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (writeBinary && value instanceof Employee employee) {
+            return encode(employee);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+
+        try {
+            return decode(ByteBuffer.wrap(bytes));
+        } catch (BufferUnderflowException e) {
+            throw new SerializationException("Truncated binary employee entry", e);
+        }
+    }
+
+    private static byte[] encode(Employee employee) {
+
+        UUID uuid = canonicalUuid(employee.getId());
+        int fields = (employee.getId() != null ? HAS_ID : 0)
+                | (uuid != null ? ID_IS_UUID : 0)
+                | (employee.getEmployee_name() != null ? HAS_NAME : 0)
+                | (employee.getEmployee_salary() != null ? HAS_SALARY : 0)
+                | (employee.getEmployee_age() != null ? HAS_AGE : 0)
+                | (employee.getEmployee_title() != null ? HAS_TITLE : 0)
+                | (employee.getEmployee_email() != null ? HAS_EMAIL : 0);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(96);
+        out.write(MAGIC);
+        out.write(SCHEMA_VERSION);
+        out.write(TYPE_EMPLOYEE);
+        out.write(fields);
+
+        if (uuid != null) {
+            writeLong(out, uuid.getMostSignificantBits());
+            writeLong(out, uuid.getLeastSignificantBits());
+        } else if (employee.getId() != null) {
+            writeString(out, employee.getId());
+        }
+        if (employee.getEmployee_name() != null) {
+            writeString(out, employee.getEmployee_name());
+        }
+        if (employee.getEmployee_salary() != null) {
+            writeInt(out, employee.getEmployee_salary());
+        }
+        if (employee.getEmployee_age() != null) {
+            writeInt(out, employee.getEmployee_age());
+        }
+        if (employee.getEmployee_title() != null) {
+            writeString(out, employee.getEmployee_title());
+        }
+        if (employee.getEmployee_email() != null) {
+            writeString(out, employee.getEmployee_email());
+        }
+
+        return out.toByteArray();
+    }
+
+    private static Employee decode(ByteBuffer in) {
+
+        in.get(); // magic
+        byte version = in.get();
+        if (version > SCHEMA_VERSION) {
+            throw new SerializationException("Unsupported binary employee schema version " + version);
+        }
+        byte type = in.get();
+        if (type != TYPE_EMPLOYEE) {
+            throw new SerializationException("Unknown binary entry type " + type);
+        }
+
+        int fields = in.get();
+        Employee employee = new Employee();
+        if ((fields & ID_IS_UUID) != 0) {
+            employee.setId(new UUID(in.getLong(), in.getLong()).toString());
+        } else if ((fields & HAS_ID) != 0) {
+            employee.setId(readString(in));
+        }
+        if ((fields & HAS_NAME) != 0) {
+            employee.setEmployee_name(readString(in));
+        }
+        if ((fields & HAS_SALARY) != 0) {
+            employee.setEmployee_salary(readInt(in));
+        }
+        if ((fields & HAS_AGE) != 0) {
+            employee.setEmployee_age(readInt(in));
+        }
+        if ((fields & HAS_TITLE) != 0) {
+            employee.setEmployee_title(readString(in));
+        }
+        if ((fields & HAS_EMAIL) != 0) {
+            employee.setEmployee_email(readString(in));
+        }
+
+        return employee;
+    }
+
+    private static UUID canonicalUuid(String id) {
+        if (id == null || id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    private static int readInt(ByteBuffer in) {
+        int zigzag = readVarInt(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint in binary employee entry");
+    }
+}
@@ -0,0 +1,764 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.ChangeFeedPosition;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis layout for the employee snapshot, fronted by {@link EmployeeNearCache}.
+ *
+ * <p>The snapshot is a single hash keyed by employee ID, so the full list is one {@code HGETALL} and a single employee
+ * is one {@code HGET}, regardless of headcount.
+ *
+ * <p>Each rebuild writes a new generation of the hash and its salary sorted set, then publishes it by moving the
+ * pointer hash (generation, fetch time and upstream ETag) in one script. Readers resolve the pointer first, so they
+ * only ever see a complete generation. A replaced generation stays readable for
+ * {@code employee.cache.retired-snapshot-ttl} and is then expired by Redis. A missing pointer means no snapshot is
+ * cached.
+ *
+ * <p>When upstream confirms the published ETag is still current, {@link #extendSnapshot} moves only the fetch time and
+ * the expiries; the generation itself is not written again. The pointer also records the upstream change feed position
+ * the generation is synced to, and {@link #applyChanges} writes just the creates and deletes since then into it.
+ *
+ * <p>Single employees are written by a script that checks the pointer still names the generation it writes to, and
+ * retries against the new one when a publish got in between. Every key shares one hash tag, so the scripts also run
+ * on Redis Cluster.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeCache {
+
+    static final RedisScript<Long> PUBLISH_SNAPSHOT =
+            RedisScript.of(new ClassPathResource(ServiceConstants.PUBLISH_SNAPSHOT_SCRIPT), Long.class);
+    static final RedisScript<Long> EXTEND_SNAPSHOT =
+            RedisScript.of(new ClassPathResource(ServiceConstants.EXTEND_SNAPSHOT_SCRIPT), Long.class);
+    static final RedisScript<Long> ADVANCE_SNAPSHOT =
+            RedisScript.of(new ClassPathResource(ServiceConstants.ADVANCE_SNAPSHOT_SCRIPT), Long.class);
+    static final RedisScript<Long> WRITE_EMPLOYEES =
+            RedisScript.of(new ClassPathResource(ServiceConstants.WRITE_EMPLOYEES_SCRIPT), Long.class);
+    static final RedisSerializer<Long> SCRIPT_RESULT = new GenericToStringSerializer<>(Long.class);
+    private static final Long PUBLISH_RETRY = -1L;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final EmployeeCacheProperties cacheProperties;
+    private final EmployeeNearCache nearCache;
+    private final SalaryIndex salaryIndex;
+    private final NameTrigramIndex nameIndex;
+    private final IdIndex idIndex;
+
+    /**
+     * The cached snapshot with the time it was fetched, or {@code null} when no snapshot is cached.
+     */
+    public EmployeeSnapshot getSnapshot() {
+
+        EmployeeSnapshot nearSnapshot = nearCache.getSnapshot();
+        if (nearSnapshot != null) {
+            return nearSnapshot;
+        }
+
+        SnapshotPointer pointer = currentPointer();
+        if (pointer == null) {
+            return null;
+        }
+
+        Map<String, Object> entries = hashOps().entries(snapshotKey(pointer.generation()));
+        List<Employee> employees = new ArrayList<>(entries != null ? entries.size() : 0);
+        if (entries != null) {
+            for (Object value : entries.values()) {
+                if (value instanceof Employee employee) {
+                    employees.add(employee);
+                }
+            }
+        }
+
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(employees, pointer.fetchedAt());
+        // A publish between the two reads may already have dropped the near cache; caching this one would bring back
+        // the generation it retired
+        if (Long.valueOf(pointer.generation()).equals(currentGeneration())) {
+            nearCache.cacheSnapshot(snapshot);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * When the cached snapshot was fetched, from the near cache when it holds the snapshot and from the pointer
+     * otherwise; {@code null} when no snapshot is cached.
+     */
+    public Instant getSnapshotFetchedAt() {
+
+        EmployeeSnapshot nearSnapshot = nearCache.getSnapshot();
+        if (nearSnapshot != null) {
+            return nearSnapshot.fetchedAt();
+        }
+
+        SnapshotPointer pointer = currentPointer();
+        return pointer != null ? pointer.fetchedAt() : null;
+    }
+
+    public Employee get(String id) {
+
+        Employee nearEmployee = nearCache.get(id);
+        if (nearEmployee != null) {
+            return nearEmployee;
+        }
+
+        Long generation = currentGeneration();
+        if (generation == null) {
+            return null;
+        }
+
+        Employee employee = (Employee) hashOps().get(snapshotKey(generation), id);
+        if (employee != null) {
+            nearCache.cache(employee);
+        }
+
+        return employee;
+    }
+
+    /**
+     * Highest salary from the in-memory index, or from the head of the Redis sorted set when this replica has not
+     * loaded the snapshot yet. Empty when neither holds any salaries.
+     */
+    public OptionalInt getHighestSalary() {
+
+        if (salaryIndex.isLoaded()) {
+            return salaryIndex.highest();
+        }
+
+        Long generation = currentGeneration();
+        if (generation == null) {
+            return OptionalInt.empty();
+        }
+
+        Set<ZSetOperations.TypedTuple<Object>> head =
+                redisTemplate.opsForZSet().reverseRangeWithScores(salariesKey(generation), 0, 0);
+        if (head == null || head.isEmpty()) {
+            return OptionalInt.empty();
+        }
+
+        Double score = head.iterator().next().getScore();
+        return score != null ? OptionalInt.of(score.intValue()) : OptionalInt.empty();
+    }
+
+    /**
+     * Names of the {@code limit} highest earners from the in-memory index, or from the Redis sorted set plus one
+     * {@code HMGET} when this replica has not loaded the snapshot yet. Empty when neither holds any salaries.
+     */
+    public Optional<List<String>> getTopEarnerNames(int limit) {
+
+        if (salaryIndex.isLoaded()) {
+            return salaryIndex.topNames(limit);
+        }
+
+        Long generation = currentGeneration();
+        if (generation == null) {
+            return Optional.empty();
+        }
+
+        Set<Object> ids = redisTemplate.opsForZSet().reverseRange(salariesKey(generation), 0, limit - 1);
+        if (ids == null || ids.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Object> employees =
+                hashOps().multiGet(snapshotKey(generation), ids.stream().map(Object::toString).toList());
+
+        return Optional.of(employees.stream()
+                .filter(Employee.class::isInstance)
+                .map(employee -> ((Employee) employee).getEmployee_name())
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    /**
+     * Employees whose name contains {@code fragment}, from the in-memory name index. Empty when this replica has not
+     * loaded the snapshot yet.
+     */
+    public Optional<List<Employee>> searchByName(String fragment) {
+        return nameIndex.search(fragment);
+    }
+
+    /**
+     * Up to {@code limit} employees in ID order after {@code afterId}, or empty while no snapshot is loaded.
+     */
+    public Optional<List<Employee>> getPage(String afterId, int limit) {
+        return idIndex.page(afterId, limit);
+    }
+
+    /**
+     * Writes {@code employees} as a new generation and publishes it. The previous generation stays in place, and
+     * readable, until the pointer moves. If another writer published a newer generation in the meantime, this one is
+     * discarded.
+     */
+    public void replaceAll(List<Employee> employees, Instant fetchedAt, String etag, ChangeFeedPosition position) {
+
+        SnapshotEntries batch = SnapshotEntries.of(employees);
+        SnapshotWriter writer = openSnapshot();
+        writer.write(batch);
+
+        if (writer.publish(fetchedAt, etag, position)) {
+            // The caller already holds the whole list, so this replica's near cache takes it as it is
+            nearCache.cacheSnapshot(new EmployeeSnapshot(batch.employees(), fetchedAt));
+        }
+    }
+
+    /**
+     * The upstream ETag the published snapshot was fetched with, or {@code null} when there is no snapshot or upstream
+     * sent none.
+     */
+    public String getSnapshotEtag() {
+        return stringHashOps()
+                .get(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, ServiceConstants.SNAPSHOT_POINTER_ETAG_FIELD);
+    }
+
+    /**
+     * Marks the published snapshot as fetched at {@code fetchedAt} and renews its TTL, after upstream answered 304 for
+     * {@code etag}. A non-null {@code position} replaces the change feed position it is synced to. Returns the
+     * extended snapshot, or {@code null} when the published snapshot no longer carries that ETag, because another
+     * writer replaced it or it expired, or was replaced while extending it; the caller then has to fetch the list in
+     * full.
+     *
+     * <p>Only this replica's near cache sees the new fetch time. Other replicas keep serving their copy until it is
+     * too old, then revalidate it themselves.
+     */
+    public EmployeeSnapshot extendSnapshot(String etag, Instant fetchedAt, ChangeFeedPosition position) {
+
+        Long current = currentGeneration();
+        if (current == null) {
+            log.info("No cached snapshot; not extending it for ETag {}", etag);
+            return null;
+        }
+
+        Long generation = stringRedisTemplate.execute(
+                EXTEND_SNAPSHOT,
+                generationKeys(current),
+                extendArgs(current, etag, fetchedAt, position, cacheProperties).toArray());
+
+        if (generation == null || generation == 0) {
+            log.info("Cached snapshot no longer carries ETag {}; not extending it", etag);
+            return null;
+        }
+
+        EmployeeSnapshot extended = nearCache.extendSnapshot(fetchedAt);
+        if (extended == null) {
+            // Not loaded on this replica; the pointer already holds the new fetch time
+            extended = getSnapshot();
+        }
+
+        log.debug("Extended snapshot generation {} to {}", generation, fetchedAt);
+        return extended;
+    }
+
+    /**
+     * The published generation with the change feed position it is synced to, or {@code null} when there is no
+     * snapshot or its position is unknown.
+     */
+    public SyncPoint getSyncPoint() {
+        return SyncPoint.of(stringHashOps().multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, SyncPoint.FIELDS));
+    }
+
+    /**
+     * Writes {@code changes}, which upstream published after {@code from}, into that generation and moves its pointer
+     * to {@code to}, in one script that first checks the pointer is still at {@code from}. Only the employees named in
+     * the changes are written; when one is named more than once, its last change wins. Returns the updated snapshot, or
+     * {@code null} when the pointer moved away from {@code from} in the meantime and nothing was written.
+     */
+    public EmployeeSnapshot applyChanges(
+            SyncPoint from, List<EmployeeChange> changes, ChangeFeedPosition to, Instant fetchedAt) {
+
+        Map<String, Employee> upserts = new LinkedHashMap<>();
+        Set<String> deletes = new LinkedHashSet<>();
+        collectChanges(changes, upserts, deletes);
+
+        // Written by the same script that checks the position, so nothing lands unless the pointer is still at it
+        boolean changed = !upserts.isEmpty() || !deletes.isEmpty();
+        List<byte[]> args = advanceArgs(
+                from, to, fetchedAt, cacheProperties, List.copyOf(upserts.values()), deletes, this::serializeValue);
+        Long advanced = redisTemplate.execute(
+                ADVANCE_SNAPSHOT,
+                RedisSerializer.byteArray(),
+                SCRIPT_RESULT,
+                generationKeys(from.generation()),
+                args.toArray());
+
+        if (!Long.valueOf(1).equals(advanced)) {
+            log.info(
+                    "Snapshot moved on from generation {} at version {}; not applying changes to it",
+                    from.generation(),
+                    from.version());
+            nearCache.invalidateAll();
+            return null;
+        }
+
+        nearCache.apply(upserts.values(), deletes);
+        if (changed && !cacheProperties.getChanges().getSubscription().isEnabled()) {
+            // Replicas on the change stream apply these same changes themselves; polling ones would not see them
+            nearCache.publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+        }
+
+        EmployeeSnapshot snapshot = nearCache.extendSnapshot(fetchedAt);
+        if (snapshot == null) {
+            snapshot = getSnapshot();
+        }
+
+        log.debug(
+                "Applied {} upserts and {} deletes to snapshot generation {}, now at version {}",
+                upserts.size(),
+                deletes.size(),
+                from.generation(),
+                to.version());
+        return snapshot;
+    }
+
+    /**
+     * Applies {@code changes}, which another replica has already written into the published generation, to this
+     * replica's near cache only, so its snapshot keeps up without re-reading Redis.
+     */
+    public void applyToNearCache(List<EmployeeChange> changes) {
+        Map<String, Employee> upserts = new LinkedHashMap<>();
+        Set<String> deletes = new LinkedHashSet<>();
+        collectChanges(changes, upserts, deletes);
+        nearCache.apply(upserts.values(), deletes);
+    }
+
+    /**
+     * Folds {@code changes} into the employees to write and the IDs to delete; an employee's last change wins.
+     */
+    private static void collectChanges(
+            List<EmployeeChange> changes, Map<String, Employee> upserts, Set<String> deletes) {
+        for (EmployeeChange change : changes) {
+            Employee employee = change.getEmployee();
+            if (employee == null || employee.getId() == null) {
+                log.warn("Skipping change without an employee ID: {}", change);
+            } else if (change.getType() == EmployeeChange.Type.DELETED) {
+                upserts.remove(employee.getId());
+                deletes.add(employee.getId());
+            } else {
+                deletes.remove(employee.getId());
+                upserts.put(employee.getId(), employee);
+            }
+        }
+    }
+
+    /**
+     * Starts a new generation to be filled in batches, for a snapshot decoded as it streams in. Readers see none of it
+     * until {@link SnapshotWriter#publish}; an abandoned generation expires after the snapshot TTL. The writer keeps
+     * none of the employees it writes, so a streamed refresh holds one batch at a time.
+     */
+    public SnapshotWriter openSnapshot() {
+        long generation = Objects.requireNonNull(
+                stringRedisTemplate.opsForValue().increment(ServiceConstants.EMPLOYEE_SNAPSHOT_GENERATION_KEY));
+        return new SnapshotWriter(generation);
+    }
+
+    /**
+     * Adds a single employee to the snapshot. Nothing is written while no snapshot is cached, so a lone entry is never
+     * mistaken for the complete list.
+     */
+    public void put(Employee employee) {
+
+        if (!writeToCurrent(List.of(employee), List.of())) {
+            log.debug("No cached snapshot; not caching employee ID {}", employee.getId());
+            nearCache.invalidateAll();
+            return;
+        }
+
+        nearCache.update(employee);
+        nearCache.publishInvalidation(employee.getId());
+    }
+
+    /**
+     * Adds several employees to the snapshot, like {@link #put} but in a single script call and one copy of the near
+     * snapshot. Other instances hear about each employee, as they would from {@link #put}.
+     */
+    public void putAll(List<Employee> employees) {
+
+        SnapshotEntries batch = SnapshotEntries.of(employees);
+        if (batch.entries().isEmpty()) {
+            return;
+        }
+
+        if (!writeToCurrent(batch.employees(), List.of())) {
+            log.debug("No cached snapshot; not caching {} employees", employees.size());
+            nearCache.invalidateAll();
+            return;
+        }
+
+        nearCache.apply(batch.employees(), List.of());
+        batch.employees().forEach(employee -> nearCache.publishInvalidation(employee.getId()));
+    }
+
+    public void evict(String id) {
+        writeToCurrent(List.of(), List.of(id));
+        nearCache.remove(id);
+        nearCache.publishInvalidation(id);
+    }
+
+    /**
+     * Removes several employees from the snapshot, like {@link #evict} but in a single script call and one copy of the
+     * near snapshot.
+     */
+    public void evictAll(Collection<String> ids) {
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        writeToCurrent(List.of(), ids);
+        nearCache.apply(List.of(), ids);
+        ids.forEach(nearCache::publishInvalidation);
+    }
+
+    /**
+     * One unpublished snapshot generation. Not thread-safe; a single refresh writes its batches in order.
+     */
+    public class SnapshotWriter {
+
+        private final long generation;
+        private int written;
+        private boolean entriesExpire;
+        private boolean salariesExpire;
+
+        private SnapshotWriter(long generation) {
+            this.generation = generation;
+        }
+
+        public void write(List<Employee> employees) {
+            write(SnapshotEntries.of(employees));
+        }
+
+        private void write(SnapshotEntries batch) {
+
+            Duration ttl = cacheProperties.getSnapshotTtl();
+
+            if (!batch.entries().isEmpty()) {
+                hashOps().putAll(snapshotKey(generation), batch.entries());
+                if (!entriesExpire) {
+                    redisTemplate.expire(snapshotKey(generation), ttl);
+                    entriesExpire = true;
+                }
+            }
+            if (!batch.salaries().isEmpty()) {
+                redisTemplate.opsForZSet().add(salariesKey(generation), batch.salaries());
+                if (!salariesExpire) {
+                    redisTemplate.expire(salariesKey(generation), ttl);
+                    salariesExpire = true;
+                }
+            }
+
+            written += batch.employees().size();
+        }
+
+        /**
+         * Moves the pointer to this generation unless a newer one was published meanwhile, and returns whether it did.
+         * {@code etag} is what upstream sent with the list and {@code position} the change feed position the list is
+         * synced to; either may be {@code null}. Every near cache is dropped either way and reloads from Redis on its
+         * next read.
+         */
+        public boolean publish(Instant fetchedAt, String etag, ChangeFeedPosition position) {
+
+            // The retired generation's keys are named up front, so the pointer is re-read whenever a publish races
+            Long published = PUBLISH_RETRY;
+            int attempts = 0;
+            while (PUBLISH_RETRY.equals(published) && attempts++ < ServiceConstants.SNAPSHOT_WRITE_ATTEMPTS) {
+                Long retired = currentGeneration();
+                published = stringRedisTemplate.execute(
+                        PUBLISH_SNAPSHOT,
+                        publishKeys(generation, retired),
+                        publishArgs(generation, retired, fetchedAt, etag, position, cacheProperties).toArray());
+            }
+
+            nearCache.invalidateAll();
+
+            if (!Long.valueOf(1).equals(published)) {
+                log.info("Snapshot generation {} was superseded by a newer one and discarded", generation);
+                return false;
+            }
+
+            nearCache.publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+
+            log.debug("Published snapshot generation {} with {} employees", generation, written);
+            return true;
+        }
+    }
+
+    /**
+     * Writes {@code upserts} and removes {@code deletes} in the published generation, checking in the same script that
+     * it is still published. Returns {@code false} when no snapshot is cached, or when it kept being replaced for
+     * {@link ServiceConstants#SNAPSHOT_WRITE_ATTEMPTS} attempts.
+     */
+    private boolean writeToCurrent(List<Employee> upserts, Collection<String> deletes) {
+
+        for (int attempt = 1; attempt <= ServiceConstants.SNAPSHOT_WRITE_ATTEMPTS; attempt++) {
+            Long generation = currentGeneration();
+            if (generation == null) {
+                return false;
+            }
+
+            Long written = redisTemplate.execute(
+                    WRITE_EMPLOYEES,
+                    RedisSerializer.byteArray(),
+                    SCRIPT_RESULT,
+                    generationKeys(generation),
+                    writeArgs(generation, upserts, deletes, this::serializeValue).toArray());
+            if (Long.valueOf(1).equals(written)) {
+                return true;
+            }
+            log.debug("Snapshot generation {} was replaced while writing to it; retrying", generation);
+        }
+
+        log.warn("Snapshot kept being replaced; dropped a write of {} employees", upserts.size() + deletes.size());
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] serializeValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
+    }
+
+    private SnapshotPointer currentPointer() {
+
+        return SnapshotPointer.of(
+                stringHashOps().multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, SnapshotPointer.FIELDS));
+    }
+
+    private Long currentGeneration() {
+        String generation = stringHashOps()
+                .get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD);
+        return generation != null ? Long.valueOf(generation) : null;
+    }
+
+    static String snapshotKey(long generation) {
+        return ServiceConstants.EMPLOYEE_SNAPSHOT_KEY_PREFIX + generation;
+    }
+
+    static String salariesKey(long generation) {
+        return ServiceConstants.EMPLOYEE_SALARIES_KEY_PREFIX + generation;
+    }
+
+    /**
+     * The pointer and both keys of {@code generation}, as the scripts that touch one generation take them.
+     */
+    static List<String> generationKeys(long generation) {
+        return List.of(
+                ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, snapshotKey(generation), salariesKey(generation));
+    }
+
+    /**
+     * {@link #generationKeys} of the new generation, followed by those of the {@code retired} one when there is one.
+     */
+    static List<String> publishKeys(long generation, Long retired) {
+        if (retired == null) {
+            return generationKeys(generation);
+        }
+        return List.of(
+                ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                snapshotKey(generation),
+                salariesKey(generation),
+                snapshotKey(retired),
+                salariesKey(retired));
+    }
+
+    static List<String> publishArgs(
+            long generation,
+            Long retired,
+            Instant fetchedAt,
+            String etag,
+            ChangeFeedPosition position,
+            EmployeeCacheProperties cacheProperties) {
+        return List.of(
+                String.valueOf(generation),
+                String.valueOf(fetchedAt.toEpochMilli()),
+                String.valueOf(cacheProperties.getSnapshotTtl().toMillis()),
+                String.valueOf(cacheProperties.getRetiredSnapshotTtl().toMillis()),
+                retired != null ? String.valueOf(retired) : "",
+                etag != null ? etag : "",
+                position != null ? position.epoch() : "",
+                position != null ? String.valueOf(position.version()) : "");
+    }
+
+    static List<String> extendArgs(
+            long generation,
+            String etag,
+            Instant fetchedAt,
+            ChangeFeedPosition position,
+            EmployeeCacheProperties cacheProperties) {
+        return List.of(
+                String.valueOf(generation),
+                etag,
+                String.valueOf(fetchedAt.toEpochMilli()),
+                String.valueOf(cacheProperties.getSnapshotTtl().toMillis()),
+                position != null ? position.epoch() : "",
+                position != null ? String.valueOf(position.version()) : "");
+    }
+
+    static List<byte[]> advanceArgs(
+            SyncPoint from,
+            ChangeFeedPosition to,
+            Instant fetchedAt,
+            EmployeeCacheProperties cacheProperties,
+            List<Employee> upserts,
+            Collection<String> deletes,
+            Function<Object, byte[]> values) {
+
+        List<byte[]> args = new ArrayList<>(7 + upserts.size() * 4 + deletes.size() * 2);
+        args.add(utf8(String.valueOf(from.generation())));
+        args.add(utf8(from.epoch()));
+        args.add(utf8(String.valueOf(from.version())));
+        args.add(utf8(String.valueOf(to.version())));
+        args.add(utf8(String.valueOf(fetchedAt.toEpochMilli())));
+        args.add(utf8(String.valueOf(cacheProperties.getSnapshotTtl().toMillis())));
+        addEmployees(args, upserts, deletes, values);
+        return args;
+    }
+
+    /**
+     * Arguments of the write script for {@code generation}: the upserts as hash field, serialized employee, salary
+     * member and salary, then the deletes as hash field and salary member. Hash fields are the raw UTF-8 ID, as the
+     * templates' string hash key serializer writes them; employees and salary members go through {@code values}, the
+     * template's value serializer.
+     */
+    static List<byte[]> writeArgs(
+            long generation, List<Employee> upserts, Collection<String> deletes, Function<Object, byte[]> values) {
+
+        List<byte[]> args = new ArrayList<>(2 + upserts.size() * 4 + deletes.size() * 2);
+        args.add(utf8(String.valueOf(generation)));
+        addEmployees(args, upserts, deletes, values);
+        return args;
+    }
+
+    /**
+     * The employee part shared by the write and advance scripts: the number of upserts, the upserts as hash field,
+     * serialized employee, salary member and salary, then the deletes as hash field and salary member.
+     */
+    private static void addEmployees(
+            List<byte[]> args, List<Employee> upserts, Collection<String> deletes, Function<Object, byte[]> values) {
+        args.add(utf8(String.valueOf(upserts.size())));
+        for (Employee employee : upserts) {
+            args.add(utf8(employee.getId()));
+            args.add(values.apply(employee));
+            args.add(values.apply(employee.getId()));
+            args.add(utf8(employee.getEmployee_salary() != null ? String.valueOf(employee.getEmployee_salary()) : ""));
+        }
+        for (String id : deletes) {
+            args.add(utf8(id));
+            args.add(values.apply(id));
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static ZSetOperations.TypedTuple<Object> salaryEntry(Employee employee) {
+        return new DefaultTypedTuple<>(employee.getId(), employee.getEmployee_salary().doubleValue());
+    }
+
+    private HashOperations<String, String, Object> hashOps() {
+        return redisTemplate.opsForHash();
+    }
+
+    private HashOperations<String, String, String> stringHashOps() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    record SnapshotPointer(long generation, Instant fetchedAt) {
+
+        static final List<String> FIELDS = List.of(
+                ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD, ServiceConstants.SNAPSHOT_POINTER_FETCHED_AT_FIELD);
+
+        /**
+         * The pointer held by {@code fields}, read in {@link #FIELDS} order, or {@code null} when it is incomplete.
+         */
+        static SnapshotPointer of(List<String> fields) {
+            if (fields == null || fields.size() < 2 || fields.get(0) == null || fields.get(1) == null) {
+                return null;
+            }
+            return new SnapshotPointer(
+                    Long.parseLong(fields.get(0)), Instant.ofEpochMilli(Long.parseLong(fields.get(1))));
+        }
+    }
+
+    /**
+     * A published generation and the change feed position it is synced to.
+     */
+    public record SyncPoint(long generation, String epoch, long version) {
+
+        static final List<String> FIELDS = List.of(
+                ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD,
+                ServiceConstants.SNAPSHOT_POINTER_CHANGE_EPOCH_FIELD,
+                ServiceConstants.SNAPSHOT_POINTER_CHANGE_VERSION_FIELD);
+
+        /**
+         * The sync point held by {@code fields}, read in {@link #FIELDS} order, or {@code null} when it is incomplete.
+         */
+        static SyncPoint of(List<String> fields) {
+            if (fields == null || fields.size() < 3 || fields.stream().anyMatch(Objects::isNull)) {
+                return null;
+            }
+            return new SyncPoint(Long.parseLong(fields.get(0)), fields.get(1), Long.parseLong(fields.get(2)));
+        }
+    }
+
+    /**
+     * Hash entries and salary scores for one snapshot generation, with employees lacking an ID left out.
+     */
+    record SnapshotEntries(
+            Map<String, Object> entries, Set<ZSetOperations.TypedTuple<Object>> salaries, List<Employee> employees) {
+
+        static SnapshotEntries of(List<Employee> employees) {
+
+            Map<String, Object> entries = new LinkedHashMap<>();
+            Set<ZSetOperations.TypedTuple<Object>> salaries = new HashSet<>();
+            for (Employee employee : employees) {
+                if (employee != null && employee.getId() != null) {
+                    entries.put(employee.getId(), employee);
+                    if (employee.getEmployee_salary() != null) {
+                        salaries.add(salaryEntry(employee));
+                    }
+                } else {
+                    log.warn("Skipping employee with null or missing ID: {}", employee);
+                }
+            }
+
+            // One employee per ID, the last one given, as the hash holds them
+            List<Employee> cached = entries.values().stream().map(Employee.class::cast).toList();
+            return new SnapshotEntries(entries, salaries, cached);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Collection;
+
+/**
+ * In-memory index kept in step with the snapshot held by {@link EmployeeNearCache}. An index is only queryable while
+ * the near cache holds a snapshot; {@link #clear()} marks it unloaded until the next {@link #rebuild(Collection)}.
+ */
+public interface EmployeeIndex {
+
+    void rebuild(Collection<Employee> employees);
+
+    void add(Employee employee);
+
+    void remove(String id);
+
+    void clear();
+}
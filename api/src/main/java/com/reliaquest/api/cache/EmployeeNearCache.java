@@ -0,0 +1,247 @@
+package com.reliaquest.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process tier in front of {@link EmployeeCache}. Local writes update it in place; writes on other replicas arrive
+ * as invalidations on {@link ServiceConstants#EMPLOYEE_CACHE_INVALIDATION_CHANNEL}.
+ */
+@Slf4j
+@Component
+public class EmployeeNearCache implements MessageListener {
+
+    private static final String SNAPSHOT = "snapshot";
+    private static final String SEPARATOR = "|";
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final List<EmployeeIndex> indexes;
+    private final Cache<String, Employee> employees;
+    private final Cache<String, EmployeeSnapshot> snapshot;
+
+    /**
+     * Held for every change to the snapshot together with the matching change to the indexes, so the indexes always
+     * describe the cached snapshot, or nothing when none is cached.
+     */
+    private final Object snapshotLock = new Object();
+
+    public EmployeeNearCache(
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            List<EmployeeIndex> indexes,
+            MeterRegistry meterRegistry,
+            EmployeeCacheProperties cacheProperties) {
+
+        long maxEmployees = cacheProperties.getNear().getMaxEmployees();
+        Duration expireAfterWrite = cacheProperties.getNear().getExpireAfterWrite();
+
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.indexes = indexes;
+        this.employees = Caffeine.newBuilder()
+                .maximumSize(maxEmployees)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.snapshot = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                // Not an eviction listener: that runs inside the map's own lock, which a holder of snapshotLock may be
+                // waiting for
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        onSnapshotEvicted();
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, employees, "employee-near-cache");
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshot, "employee-snapshot-near-cache");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(
+                this, new ChannelTopic(ServiceConstants.EMPLOYEE_CACHE_INVALIDATION_CHANNEL));
+        log.info("Near cache {} subscribed to cache invalidations", instanceId);
+    }
+
+    public Employee get(String id) {
+        return employees.getIfPresent(id);
+    }
+
+    public void cache(Employee employee) {
+        employees.put(employee.getId(), employee);
+    }
+
+    public EmployeeSnapshot getSnapshot() {
+        return snapshot.getIfPresent(SNAPSHOT);
+    }
+
+    public void cacheSnapshot(EmployeeSnapshot employeeSnapshot) {
+        List<Employee> copy = List.copyOf(employeeSnapshot.employees());
+        synchronized (snapshotLock) {
+            snapshot.put(SNAPSHOT, employeeSnapshot.withEmployees(copy));
+            copy.forEach(this::cache);
+            indexes.forEach(index -> index.rebuild(copy));
+        }
+    }
+
+    /**
+     * Moves the cached snapshot's fetch time to {@code fetchedAt}, keeping its employees and indexes. Returns the
+     * updated snapshot, or {@code null} when none is cached.
+     */
+    public EmployeeSnapshot extendSnapshot(Instant fetchedAt) {
+        return snapshot.asMap()
+                .computeIfPresent(SNAPSHOT, (key, current) -> new EmployeeSnapshot(current.employees(), fetchedAt));
+    }
+
+    /**
+     * Applies a local create to both tiers without dropping the snapshot.
+     */
+    public void update(Employee employee) {
+        apply(List.of(employee), List.of());
+    }
+
+    /**
+     * Applies a local delete to both tiers without dropping the snapshot.
+     */
+    public void remove(String id) {
+        apply(List.of(), List.of(id));
+    }
+
+    /**
+     * Applies several creates and deletes to both tiers in one copy of the snapshot, without dropping it. Each
+     * employee is named at most once across {@code upserts} and {@code deletes}.
+     */
+    public void apply(Collection<Employee> upserts, Collection<String> deletes) {
+        if (upserts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+
+        Set<String> replaced = new HashSet<>(deletes);
+        upserts.forEach(employee -> replaced.add(employee.getId()));
+        synchronized (snapshotLock) {
+            upserts.forEach(this::cache);
+            employees.invalidateAll(deletes);
+            snapshot.asMap().computeIfPresent(SNAPSHOT, (key, current) -> {
+                List<Employee> updated = new ArrayList<>(current.employees().size() + upserts.size());
+                for (Employee existing : current.employees()) {
+                    if (!replaced.contains(existing.getId())) {
+                        updated.add(existing);
+                    }
+                }
+                updated.addAll(upserts);
+                return current.withEmployees(List.copyOf(updated));
+            });
+            for (EmployeeIndex index : indexes) {
+                upserts.forEach(index::add);
+                deletes.forEach(index::remove);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (snapshotLock) {
+            employees.invalidateAll();
+            snapshot.invalidateAll();
+            clearIndexes();
+        }
+    }
+
+    /**
+     * Tells the other replicas to drop their copy of the given employee, or of everything for
+     * {@link ServiceConstants#INVALIDATE_ALL}. The snapshot is always dropped.
+     */
+    public void publishInvalidation(String id) {
+        try {
+            stringRedisTemplate.convertAndSend(
+                    ServiceConstants.EMPLOYEE_CACHE_INVALIDATION_CHANNEL, invalidationMessage(id));
+        } catch (Exception e) {
+            log.warn("Failed to publish near cache invalidation for '{}'", id, e);
+        }
+    }
+
+    /**
+     * Body of an invalidation for {@code id} sent from this replica, for publishers that do not go through
+     * {@link #publishInvalidation(String)}.
+     */
+    String invalidationMessage(String id) {
+        return instanceId + SEPARATOR + id;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            log.warn("Ignoring malformed cache invalidation: {}", body);
+            return;
+        }
+
+        String origin = body.substring(0, separator);
+        if (instanceId.equals(origin)) {
+            return;
+        }
+
+        String id = body.substring(separator + 1);
+        if (ServiceConstants.INVALIDATE_ALL.equals(id)) {
+            invalidateAll();
+        } else {
+            employees.invalidate(id);
+            dropSnapshot();
+        }
+
+        log.debug("Near cache invalidated '{}' on request of {}", id, origin);
+    }
+
+    private void dropSnapshot() {
+        synchronized (snapshotLock) {
+            snapshot.invalidateAll();
+            clearIndexes();
+        }
+    }
+
+    /**
+     * Runs after the expired snapshot is gone, so a snapshot cached in the meantime keeps the indexes built for it.
+     */
+    private void onSnapshotEvicted() {
+        synchronized (snapshotLock) {
+            if (snapshot.getIfPresent(SNAPSHOT) == null) {
+                clearIndexes();
+            }
+        }
+    }
+
+    private void clearIndexes() {
+        indexes.forEach(EmployeeIndex::clear);
+    }
+}
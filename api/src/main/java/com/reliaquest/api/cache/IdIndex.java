@@ -0,0 +1,80 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employees of the snapshot ordered by ID, for keyset paging: a page is the entries after the last ID of the previous
+ * one, so it neither skips nor repeats employees when others are added or removed in between.
+ */
+@Component
+public class IdIndex implements EmployeeIndex {
+
+    private volatile ConcurrentSkipListMap<String, Employee> byId;
+
+    public boolean isLoaded() {
+        return byId != null;
+    }
+
+    /**
+     * Up to {@code limit} employees with an ID after {@code afterId}, or from the first one when {@code afterId} is
+     * {@code null}.
+     */
+    public Optional<List<Employee>> page(String afterId, int limit) {
+
+        ConcurrentSkipListMap<String, Employee> current = byId;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        Collection<Employee> tail = afterId == null ? current.values() : current.tailMap(afterId, false).values();
+        List<Employee> page = new ArrayList<>(Math.min(limit, current.size()));
+        for (Employee employee : tail) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(employee);
+        }
+
+        return Optional.of(page);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Employee> employees) {
+        ConcurrentSkipListMap<String, Employee> rebuilt = new ConcurrentSkipListMap<>();
+        employees.forEach(employee -> add(rebuilt, employee));
+        byId = rebuilt;
+    }
+
+    @Override
+    public synchronized void add(Employee employee) {
+        ConcurrentSkipListMap<String, Employee> current = byId;
+        if (current != null) {
+            add(current, employee);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        ConcurrentSkipListMap<String, Employee> current = byId;
+        if (current != null) {
+            current.remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        byId = null;
+    }
+
+    private static void add(ConcurrentSkipListMap<String, Employee> index, Employee employee) {
+        if (employee.getId() != null) {
+            index.put(employee.getId(), employee);
+        }
+    }
+}
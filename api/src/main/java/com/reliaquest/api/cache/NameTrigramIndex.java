@@ -0,0 +1,146 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trigram inverted index over {@code employee_name}. A substring query intersects the postings of its trigrams and only
+ * verifies the surviving candidates with {@link String#contains}. Matching is case-sensitive, like the linear scan it
+ * replaces; queries shorter than a trigram scan the indexed names.
+ */
+@Component
+public class NameTrigramIndex implements EmployeeIndex {
+
+    private static final int GRAM = 3;
+
+    private volatile State state;
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    public Optional<List<Employee>> search(String fragment) {
+
+        State current = state;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        if (fragment.length() < GRAM) {
+            return Optional.of(current.byId().values().stream()
+                    .filter(employee -> employee.getEmployee_name().contains(fragment))
+                    .toList());
+        }
+
+        List<Set<String>> postings = new ArrayList<>();
+        for (long trigram : trigrams(fragment)) {
+            Set<String> ids = current.postings().get(trigram);
+            if (ids == null) {
+                return Optional.of(List.of());
+            }
+            postings.add(ids);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        List<Employee> matches = new ArrayList<>();
+        Set<String> smallest = postings.get(0);
+        for (String id : smallest) {
+            if (!inAll(id, postings)) {
+                continue;
+            }
+            Employee employee = current.byId().get(id);
+            if (employee != null && employee.getEmployee_name().contains(fragment)) {
+                matches.add(employee);
+            }
+        }
+
+        return Optional.of(matches);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Employee> employees) {
+        State rebuilt = new State(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        employees.forEach(rebuilt::add);
+        state = rebuilt;
+    }
+
+    @Override
+    public synchronized void add(Employee employee) {
+        State current = state;
+        if (current != null) {
+            current.remove(employee.getId());
+            current.add(employee);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        State current = state;
+        if (current != null) {
+            current.remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        state = null;
+    }
+
+    private static boolean inAll(String id, List<Set<String>> postings) {
+        for (int i = 1; i < postings.size(); i++) {
+            if (!postings.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Distinct trigrams of {@code text}, each packed into a {@code long} as three UTF-16 code units.
+     */
+    static long[] trigrams(String text) {
+        return IntStream.rangeClosed(0, text.length() - GRAM)
+                .mapToLong(i -> ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2))
+                .distinct()
+                .toArray();
+    }
+
+    private record State(Map<Long, Set<String>> postings, Map<String, Employee> byId) {
+
+        void add(Employee employee) {
+            if (employee.getId() == null || employee.getEmployee_name() == null) {
+                return;
+            }
+            byId.put(employee.getId(), employee);
+            for (long trigram : trigrams(employee.getEmployee_name())) {
+                postings.computeIfAbsent(trigram, ignored -> ConcurrentHashMap.newKeySet())
+                        .add(employee.getId());
+            }
+        }
+
+        void remove(String id) {
+            Employee employee = byId.remove(id);
+            if (employee == null) {
+                return;
+            }
+            for (long trigram : trigrams(employee.getEmployee_name())) {
+                Set<String> ids = postings.get(trigram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeCache} over the reactive Lettuce driver, for the request path. It reads
+ * the same generational Redis layout and shares the near cache and indexes, so both API modes and the background
+ * refresher serve one snapshot. Snapshots are only ever written by {@link EmployeeCache}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ServiceConstants.API_MODE_PROPERTY, havingValue = ServiceConstants.API_MODE_REACTIVE)
+public class ReactiveEmployeeCache {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final EmployeeNearCache nearCache;
+    private final SalaryIndex salaryIndex;
+    private final NameTrigramIndex nameIndex;
+
+    /**
+     * The cached snapshot with the time it was fetched; empty when no snapshot is cached.
+     */
+    public Mono<EmployeeSnapshot> getSnapshot() {
+        return Mono.defer(() -> {
+            EmployeeSnapshot nearSnapshot = nearCache.getSnapshot();
+            if (nearSnapshot != null) {
+                return Mono.just(nearSnapshot);
+            }
+
+            return currentPointer()
+                    .flatMap(pointer -> hashOps()
+                            .values(EmployeeCache.snapshotKey(pointer.generation()))
+                            .ofType(Employee.class)
+                            .collectList()
+                            .map(employees -> new EmployeeSnapshot(employees, pointer.fetchedAt()))
+                            .flatMap(snapshot -> cacheIfCurrent(snapshot, pointer.generation())));
+        });
+    }
+
+    /**
+     * When the cached snapshot was fetched, as {@link EmployeeCache#getSnapshotFetchedAt()}; empty when no snapshot is
+     * cached.
+     */
+    public Mono<Instant> getSnapshotFetchedAt() {
+        return Mono.defer(() -> {
+            EmployeeSnapshot nearSnapshot = nearCache.getSnapshot();
+            if (nearSnapshot != null) {
+                return Mono.just(nearSnapshot.fetchedAt());
+            }
+            return currentPointer().map(EmployeeCache.SnapshotPointer::fetchedAt);
+        });
+    }
+
+    public Mono<Employee> get(String id) {
+        return Mono.defer(() -> {
+            Employee nearEmployee = nearCache.get(id);
+            if (nearEmployee != null) {
+                return Mono.just(nearEmployee);
+            }
+
+            return currentGeneration()
+                    .flatMap(generation -> hashOps().get(EmployeeCache.snapshotKey(generation), id))
+                    .ofType(Employee.class)
+                    .doOnNext(nearCache::cache);
+        });
+    }
+
+    /**
+     * Highest salary from the in-memory index, or from the head of the Redis sorted set when this replica has not
+     * loaded the snapshot yet. Empty when neither holds any salaries.
+     */
+    public Mono<Integer> getHighestSalary() {
+        return Mono.defer(() -> {
+            if (salaryIndex.isLoaded()) {
+                OptionalInt highest = salaryIndex.highest();
+                return highest.isPresent() ? Mono.just(highest.getAsInt()) : Mono.empty();
+            }
+
+            return currentGeneration()
+                    .flatMap(generation -> reactiveRedisTemplate
+                            .opsForZSet()
+                            .reverseRangeWithScores(EmployeeCache.salariesKey(generation), Range.closed(0L, 0L))
+                            .next())
+                    .mapNotNull(ZSetOperations.TypedTuple::getScore)
+                    .map(Double::intValue);
+        });
+    }
+
+    /**
+     * Names of the {@code limit} highest earners from the in-memory index, or from the Redis sorted set plus one
+     * {@code HMGET} when this replica has not loaded the snapshot yet. Empty when neither holds any salaries.
+     */
+    public Mono<List<String>> getTopEarnerNames(int limit) {
+        return Mono.defer(() -> {
+            if (salaryIndex.isLoaded()) {
+                return Mono.justOrEmpty(salaryIndex.topNames(limit));
+            }
+
+            return currentGeneration().flatMap(generation -> reactiveRedisTemplate
+                    .opsForZSet()
+                    .reverseRange(EmployeeCache.salariesKey(generation), Range.closed(0L, limit - 1L))
+                    .map(Object::toString)
+                    .collectList()
+                    .filter(ids -> !ids.isEmpty())
+                    .flatMap(ids -> hashOps().multiGet(EmployeeCache.snapshotKey(generation), ids))
+                    .map(employees -> employees.stream()
+                            .filter(Employee.class::isInstance)
+                            .map(employee -> ((Employee) employee).getEmployee_name())
+                            .filter(Objects::nonNull)
+                            .toList()));
+        });
+    }
+
+    /**
+     * Employees whose name contains {@code fragment}, from the in-memory name index. Empty when this replica has not
+     * loaded the snapshot yet.
+     */
+    public Optional<List<Employee>> searchByName(String fragment) {
+        return nameIndex.search(fragment);
+    }
+
+    /**
+     * Adds a single employee to the snapshot. Nothing is written while no snapshot is cached, so a lone entry is never
+     * mistaken for the complete list.
+     */
+    public Mono<Void> put(Employee employee) {
+        return writeToCurrent(List.of(employee), List.of(), 1).flatMap(written -> {
+            if (!written) {
+                log.debug("No cached snapshot; not caching employee ID {}", employee.getId());
+                nearCache.invalidateAll();
+                return Mono.empty();
+            }
+
+            nearCache.update(employee);
+            return publishInvalidation(employee.getId());
+        });
+    }
+
+    public Mono<Void> evict(String id) {
+        return writeToCurrent(List.of(), List.of(id), 1)
+                .then(Mono.fromRunnable(() -> nearCache.remove(id)))
+                .then(publishInvalidation(id));
+    }
+
+    /**
+     * Runs the same generation-checked write script as {@link EmployeeCache}, reading the pointer again when a publish
+     * got in between. Emits {@code false} when no snapshot is cached or it kept being replaced.
+     */
+    private Mono<Boolean> writeToCurrent(List<Employee> upserts, List<String> deletes, int attempt) {
+        return currentGeneration()
+                .flatMap(generation -> reactiveRedisTemplate
+                        .execute(
+                                EmployeeCache.WRITE_EMPLOYEES,
+                                EmployeeCache.generationKeys(generation),
+                                EmployeeCache.writeArgs(generation, upserts, deletes, this::serializeValue),
+                                RedisElementWriter.from(RedisSerializer.byteArray()),
+                                RedisElementReader.from(EmployeeCache.SCRIPT_RESULT))
+                        .next()
+                        .flatMap(written -> {
+                            if (written == 1) {
+                                return Mono.just(true);
+                            }
+                            if (attempt >= ServiceConstants.SNAPSHOT_WRITE_ATTEMPTS) {
+                                log.warn(
+                                        "Snapshot kept being replaced; dropped a write of {} employees",
+                                        upserts.size() + deletes.size());
+                                return Mono.just(false);
+                            }
+                            return writeToCurrent(upserts, deletes, attempt + 1);
+                        }))
+                .defaultIfEmpty(false);
+    }
+
+    private byte[] serializeValue(Object value) {
+        return ByteUtils.getBytes(
+                reactiveRedisTemplate.getSerializationContext().getValueSerializationPair().write(value));
+    }
+
+    private Mono<Void> publishInvalidation(String id) {
+        return reactiveStringRedisTemplate
+                .convertAndSend(ServiceConstants.EMPLOYEE_CACHE_INVALIDATION_CHANNEL, nearCache.invalidationMessage(id))
+                .onErrorResume(e -> {
+                    log.warn("Failed to publish near cache invalidation for '{}'", id, e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Caches {@code snapshot} in the near cache only when the pointer still names {@code generation}, as
+     * {@link EmployeeCache#getSnapshot()} does. Emits the snapshot either way.
+     */
+    private Mono<EmployeeSnapshot> cacheIfCurrent(EmployeeSnapshot snapshot, long generation) {
+        return currentGeneration()
+                .filter(current -> current == generation)
+                // Rebuilding the indexes is CPU work proportional to headcount; keep it off the Lettuce event loop
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(current -> nearCache.cacheSnapshot(snapshot))
+                .thenReturn(snapshot);
+    }
+
+    private Mono<EmployeeCache.SnapshotPointer> currentPointer() {
+        return reactiveStringRedisTemplate
+                .<String, String>opsForHash()
+                .multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SnapshotPointer.FIELDS)
+                .mapNotNull(EmployeeCache.SnapshotPointer::of);
+    }
+
+    private Mono<Long> currentGeneration() {
+        return reactiveStringRedisTemplate
+                .<String, String>opsForHash()
+                .get(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD)
+                .map(Long::valueOf);
+    }
+
+    private ReactiveHashOperations<String, String, Object> hashOps() {
+        return reactiveRedisTemplate.opsForHash();
+    }
+}
@@ -0,0 +1,111 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Salary-ordered mirror of the current generation's {@code {employee_snapshot}:salaries:gen:N} sorted set. The highest
+ * salary is the head of the set and the top earners are its first entries, so neither query touches the full list.
+ */
+@Component
+public class SalaryIndex implements EmployeeIndex {
+
+    private static final Comparator<Entry> BY_SALARY_DESC =
+            Comparator.comparingInt(Entry::salary).reversed().thenComparing(Entry::id);
+
+    private volatile State state;
+
+    public boolean isLoaded() {
+        return state != null;
+    }
+
+    public OptionalInt highest() {
+
+        State current = state;
+        if (current == null) {
+            return OptionalInt.empty();
+        }
+
+        Iterator<Entry> iterator = current.bySalary().iterator();
+        return iterator.hasNext() ? OptionalInt.of(iterator.next().salary()) : OptionalInt.empty();
+    }
+
+    public Optional<List<String>> topNames(int limit) {
+
+        State current = state;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        List<String> names = new ArrayList<>(Math.max(limit, 0));
+        Iterator<Entry> iterator = current.bySalary().iterator();
+        while (names.size() < limit && iterator.hasNext()) {
+            String name = iterator.next().name();
+            if (name != null) {
+                names.add(name);
+            }
+        }
+
+        return Optional.of(names);
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Employee> employees) {
+        State rebuilt = new State(new ConcurrentSkipListSet<>(BY_SALARY_DESC), new ConcurrentHashMap<>());
+        employees.forEach(rebuilt::add);
+        state = rebuilt;
+    }
+
+    @Override
+    public synchronized void add(Employee employee) {
+        State current = state;
+        if (current != null) {
+            current.remove(employee.getId());
+            current.add(employee);
+        }
+    }
+
+    @Override
+    public synchronized void remove(String id) {
+        State current = state;
+        if (current != null) {
+            current.remove(id);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        state = null;
+    }
+
+    private record Entry(String id, String name, int salary) {}
+
+    private record State(ConcurrentSkipListSet<Entry> bySalary, Map<String, Entry> byId) {
+
+        void add(Employee employee) {
+            if (employee.getId() == null || employee.getEmployee_salary() == null) {
+                return;
+            }
+            Entry entry = new Entry(employee.getId(), employee.getEmployee_name(), employee.getEmployee_salary());
+            byId.put(entry.id(), entry);
+            bySalary.add(entry);
+        }
+
+        void remove(String id) {
+            Entry entry = byId.remove(id);
+            if (entry != null) {
+                bySalary.remove(entry);
+            }
+        }
+    }
+}
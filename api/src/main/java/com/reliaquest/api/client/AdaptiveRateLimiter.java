@@ -0,0 +1,224 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.config.RateLimitProperties;
+import com.reliaquest.api.constants.ClientConstants;
+import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.exception.UpstreamBackoffException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Upstream budget shared by every call made through the employee {@code WebClient}, blocking or reactive. It learns the
+ * budget from the {@code RateLimit-*} headers, hands out one permit per call while any remain, and holds calls back
+ * until the reset advertised by the upstream or its {@code Retry-After}. A reset further away than
+ * {@link RateLimitProperties#getMaxWait()} fails the call with {@link UpstreamBackoffException} without sending it, so
+ * the caller hears when to come back instead of holding a request for the whole window.
+ *
+ * <p>When the window resets, the held calls do not all go at once: the budget restarts at the last learned limit, or,
+ * when upstream never sent one, a single call probes the new window while the others pace until its response arrives.
+ */
+@Slf4j
+@Component
+public class AdaptiveRateLimiter implements ExchangeFilterFunction {
+
+    private static final Budget UNKNOWN = new Budget(-1, null);
+    // Told apart from a spent budget by identity: its response sets the budget rather than only lowering it
+    private static final Budget PROBING = new Budget(0, null);
+
+    private final RateLimitProperties properties;
+    private final Clock clock;
+    private final AtomicReference<Budget> budget = new AtomicReference<>(UNKNOWN);
+    private final AtomicInteger limit = new AtomicInteger(-1);
+
+    @Autowired
+    public AdaptiveRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    AdaptiveRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+
+        Gauge.builder("employee.api.rate.limit", limit, AtomicInteger::get)
+                .description("Upstream request budget per window, -1 until learned")
+                .register(meterRegistry);
+        Gauge.builder("employee.api.rate.remaining", budget, current -> current.get().remaining())
+                .description("Upstream requests left in the current window, -1 when unknown")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+
+        if (!properties.isEnabled()) {
+            return next.exchange(request);
+        }
+
+        return Mono.defer(() -> {
+            Duration wait = acquire();
+            if (wait.isZero()) {
+                return next.exchange(request).doOnNext(this::learn).doOnError(e -> releaseUnconfirmed());
+            }
+
+            if (wait.compareTo(properties.getMaxWait()) > 0) {
+                long seconds = (wait.toMillis() + 999) / 1000;
+                log.warn(
+                        "Employee API rate limit resets in {}s; not sending {} {}",
+                        seconds,
+                        request.method(),
+                        request.url());
+                return Mono.error(new UpstreamBackoffException(
+                        String.format(ExceptionConstants.EXC_UPSTREAM_BACKOFF, seconds), wait));
+            }
+
+            log.debug(
+                    "Holding {} {} for {}ms for the employee API rate limit",
+                    request.method(),
+                    request.url(),
+                    wait.toMillis());
+            return Mono.delay(wait).then(filter(request, next));
+        });
+    }
+
+    /**
+     * Takes a permit when the call may go now and returns {@link Duration#ZERO}; otherwise returns how long to wait
+     * before asking again.
+     */
+    Duration acquire() {
+        while (true) {
+            Budget current = budget.get();
+            Instant now = clock.instant();
+
+            if (current.resetAt() != null) {
+                if (now.isBefore(current.resetAt())) {
+                    return Duration.between(now, current.resetAt());
+                }
+                // Only the caller that reopens the window goes now; the rest see the reopened budget
+                int learnedLimit = limit.get();
+                Budget reopened = learnedLimit > 0 ? new Budget(learnedLimit - 1, null) : PROBING;
+                if (budget.compareAndSet(current, reopened)) {
+                    return Duration.ZERO;
+                }
+                continue;
+            }
+
+            if (current.remaining() < 0) {
+                // Nothing learned yet: the response to this call tells us the budget
+                return Duration.ZERO;
+            }
+            if (current.remaining() == 0) {
+                // Every permit is in flight; their responses say whether the window was spent
+                return properties.getPaceInterval();
+            }
+            if (budget.compareAndSet(current, new Budget(current.remaining() - 1, null))) {
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    void learn(ClientResponse response) {
+
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        Instant now = clock.instant();
+
+        Long learnedLimit = longHeader(headers, ClientConstants.RATE_LIMIT_LIMIT_HEADER);
+        if (learnedLimit != null) {
+            limit.set(learnedLimit.intValue());
+        }
+
+        if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            Duration backoff = retryAfter(headers, now);
+            budget.set(new Budget(0, now.plus(backoff)));
+            log.info("Employee API rate limited; holding calls for {}ms", backoff.toMillis());
+            return;
+        }
+
+        Long remaining = longHeader(headers, ClientConstants.RATE_LIMIT_REMAINING_HEADER);
+        if (remaining == null) {
+            // Nothing to learn from the probe either; stop pacing on it
+            budget.compareAndSet(PROBING, UNKNOWN);
+            return;
+        }
+
+        if (remaining > 0) {
+            budget.updateAndGet(current -> {
+                if (current.resetAt() != null) {
+                    // A response to an earlier call must not reopen a window that has since been closed
+                    return current;
+                }
+                int known = current.remaining() < 0 || current == PROBING
+                        ? remaining.intValue()
+                        : current.remaining();
+                return new Budget(Math.min(known, remaining.intValue()), null);
+            });
+            return;
+        }
+
+        Long resetSeconds = longHeader(headers, ClientConstants.RATE_LIMIT_RESET_HEADER);
+        Duration backoff = resetSeconds != null ? Duration.ofSeconds(resetSeconds) : properties.getDefaultBackoff();
+        budget.set(new Budget(0, now.plus(backoff)));
+        log.info("Employee API budget spent; holding calls for {}ms", backoff.toMillis());
+    }
+
+    private void releaseUnconfirmed() {
+        // No response to learn from; stop waiting on one so callers do not poll forever
+        budget.updateAndGet(current -> current.remaining() == 0 && current.resetAt() == null ? UNKNOWN : current);
+    }
+
+    private Duration retryAfter(HttpHeaders headers, Instant now) {
+
+        String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return properties.getDefaultBackoff();
+        }
+
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            // Retry-After may also be an HTTP date
+        }
+
+        try {
+            Instant retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return retryAt.isAfter(now) ? Duration.between(now, retryAt) : Duration.ZERO;
+        } catch (DateTimeParseException e) {
+            log.warn("Ignoring unparseable Retry-After '{}'", value);
+            return properties.getDefaultBackoff();
+        }
+    }
+
+    private static Long longHeader(HttpHeaders headers, String name) {
+
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring non-numeric {} header '{}'", name, value);
+            return null;
+        }
+    }
+
+    private record Budget(int remaining, Instant resetAt) {}
+}
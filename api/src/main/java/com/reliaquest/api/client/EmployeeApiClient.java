@@ -3,22 +3,47 @@ package com.reliaquest.api.client;
 import com.reliaquest.api.constants.ClientConstants;
 import com.reliaquest.api.constants.ExceptionConstants;
 import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamBackoffException;
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.ConditionalResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeIdRange;
+import com.reliaquest.api.model.EmployeePage;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import java.time.Duration;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
+/**
+ * Blocking calls to the employee API. Each call runs inside the circuit breaker, then the retry, then the bulkhead (the
+ * aspect orders are set in {@code application.yml}). An open breaker fails the call before any attempt, and the breaker
+ * sees only the outcome after retries, so one throttled call counts once rather than once per attempt.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class EmployeeApiClient {
 
     private final WebClient webClient;
+    private final EmployeeStreamDecoder streamDecoder;
 
     private <T> ApiResponse<T> getApiResponse(
             String uri, ParameterizedTypeReference<ApiResponse<T>> typeRef, Object... uriVars) {
@@ -32,6 +57,31 @@ public class EmployeeApiClient {
         } catch (WebClientResponseException.TooManyRequests e) {
             log.warn("Too many requests while calling GET '{}'", uri);
             return null;
+        } catch (UpstreamBackoffException e) {
+            // Held back by the rate limiter, which already logged why
+            throw e;
+        } catch (Exception e) {
+            log.error("Unexpected error during GET '{}' call", uri, e);
+            throw e;
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> getApiResponseEntity(
+            String uri, String etag, ParameterizedTypeReference<ApiResponse<T>> typeRef) {
+        try {
+            return webClient
+                    .get()
+                    .uri(uri)
+                    .headers(headers -> ifNoneMatch(headers, etag))
+                    .retrieve()
+                    .toEntity(typeRef)
+                    .block();
+        } catch (WebClientResponseException.TooManyRequests e) {
+            log.warn("Too many requests while calling GET '{}'", uri);
+            return null;
+        } catch (UpstreamBackoffException e) {
+            // Held back by the rate limiter, which already logged why
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error during GET '{}' call", uri, e);
             throw e;
@@ -51,6 +101,9 @@ public class EmployeeApiClient {
         } catch (WebClientResponseException.TooManyRequests e) {
             log.warn("Too many requests while calling POST '{}'", uri);
             return null;
+        } catch (UpstreamBackoffException e) {
+            // Held back by the rate limiter, which already logged why
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error during POST '{}' call", uri, e);
             throw e;
@@ -70,6 +123,9 @@ public class EmployeeApiClient {
         } catch (WebClientResponseException.TooManyRequests e) {
             log.warn("Too many requests while calling DELETE '{}'", uri);
             return null;
+        } catch (UpstreamBackoffException e) {
+            // Held back by the rate limiter, which already logged why
+            throw e;
         } catch (Exception e) {
             log.error("Unexpected error during DELETE '{}' call", uri, e);
             throw e;
@@ -77,6 +133,8 @@ public class EmployeeApiClient {
     }
 
     @Retry(name = ClientConstants.EMPLOYEE_API_RETRY)
+    @CircuitBreaker(name = ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+    @Bulkhead(name = ClientConstants.EMPLOYEE_API_BULKHEAD)
     public <T> T get(String uri, ParameterizedTypeReference<ApiResponse<T>> typeRef, Object... uriVars) {
         ApiResponse<T> response = getApiResponse(uri, typeRef, uriVars);
 
@@ -88,7 +146,115 @@ public class EmployeeApiClient {
         return response.getData();
     }
 
+    /**
+     * Like {@link #get}, but sent with {@code If-None-Match: etag} when {@code etag} is not {@code null}. A 304 comes
+     * back as {@link ConditionalResponse#notModified} without a body; otherwise the data comes back with the ETag
+     * upstream sent for it, which may be {@code null}.
+     */
     @Retry(name = ClientConstants.EMPLOYEE_API_RETRY)
+    @CircuitBreaker(name = ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+    @Bulkhead(name = ClientConstants.EMPLOYEE_API_BULKHEAD)
+    public <T> ConditionalResponse<T> getIfNoneMatch(
+            String uri, String etag, ParameterizedTypeReference<ApiResponse<T>> typeRef) {
+        ResponseEntity<ApiResponse<T>> response = getApiResponseEntity(uri, etag, typeRef);
+
+        if (response != null && etag != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            log.debug("GET '{}' not modified since ETag {}", uri, etag);
+            return ConditionalResponse.notModified(etag);
+        }
+
+        if (response == null || response.getBody() == null || response.getBody().getData() == null) {
+            log.warn("GET '{}' returned null response or data", uri);
+            throw new TooManyRequestsException(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE);
+        }
+
+        return ConditionalResponse.modified(response.getBody().getData(), response.getHeaders().getETag());
+    }
+
+    /**
+     * The employee list at {@code uri}, decoded element by element as the body arrives instead of buffered whole, and
+     * requested with {@code If-None-Match: etag} when {@code etag} is not {@code null}. The result arrives with the
+     * response headers: a 304 as {@link ConditionalResponse#notModified}, anything else as the employee stream still to
+     * be read, with the ETag upstream sent for it. Throttling is retried as in {@link #get}; it is only ever signalled
+     * before the headers, so a retried call never repeats employees. A stream that fails midway is not restarted.
+     */
+    @Retry(name = ClientConstants.EMPLOYEE_API_RETRY)
+    @CircuitBreaker(name = ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+    @Bulkhead(name = ClientConstants.EMPLOYEE_API_BULKHEAD)
+    public Mono<ConditionalResponse<Flux<Employee>>> streamIfNoneMatch(String uri, String etag) {
+        return Mono.defer(() -> webClient
+                        .get()
+                        .uri(uri)
+                        .headers(headers -> ifNoneMatch(headers, etag))
+                        .retrieve()
+                        .toEntityFlux(DataBuffer.class))
+                .onErrorMap(WebClientResponseException.TooManyRequests.class, e -> {
+                    log.warn("Too many requests while streaming GET '{}'", uri);
+                    return new TooManyRequestsException(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE);
+                })
+                .map(response -> etag != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED
+                        ? ConditionalResponse.<Flux<Employee>>notModified(etag)
+                        : ConditionalResponse.modified(
+                                streamDecoder.decode(response.getBody()), response.getHeaders().getETag()));
+    }
+
+    /**
+     * One page of the employees in {@code range}, continuing after {@code cursor}, or from the start of the range when
+     * it is {@code null}. Every page is a call of its own, retried and guarded like {@link #get}, so a walk over many
+     * pages picks up again at the page that failed. Nothing is sent until the result is subscribed to.
+     */
+    @Retry(name = ClientConstants.EMPLOYEE_API_RETRY)
+    @CircuitBreaker(name = ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+    @Bulkhead(name = ClientConstants.EMPLOYEE_API_BULKHEAD)
+    public Mono<EmployeePage> getPage(String cursor, EmployeeIdRange range, int limit) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(ClientConstants.EMPLOYEE_PAGE_URI)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParamIfPresent("from", Optional.ofNullable(range.from()))
+                        .queryParamIfPresent("to", Optional.ofNullable(range.to()))
+                        .queryParam("limit", limit)
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<ApiResponse<EmployeePage>>() {})
+                .onErrorMap(WebClientResponseException.TooManyRequests.class, e -> {
+                    log.warn("Too many requests while calling GET '{}'", ClientConstants.EMPLOYEE_PAGE_URI);
+                    return new TooManyRequestsException(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE);
+                })
+                .flatMap(response -> Mono.justOrEmpty(response.getData()))
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("GET '{}' returned null response or data", ClientConstants.EMPLOYEE_PAGE_URI);
+                    return new TooManyRequestsException(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE);
+                }));
+    }
+
+    /**
+     * Upstream's changes as it publishes them, from its server-sent event stream: first those after {@code since}, or
+     * only the current version when {@code since} is {@code null}, then one {@link EmployeeChanges} per published
+     * version, each continuing from the one before. Heartbeats are skipped. The stream is meant to stay open, so it is
+     * not retried or guarded like the short calls; it ends or fails with the connection, and fails once it has been
+     * silent for {@code idleTimeout}. Nothing is sent until the result is subscribed to.
+     */
+    public Flux<EmployeeChanges> streamChanges(Long since, Duration idleTimeout) {
+        return webClient
+                .get()
+                .uri(ClientConstants.EMPLOYEE_CHANGES_STREAM_URI)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> lastEventId(headers, since))
+                .httpRequest(request -> {
+                    // Stands in for the client-wide response timeout, which is sized for short calls
+                    HttpClientRequest nativeRequest = request.getNativeRequest();
+                    nativeRequest.responseTimeout(idleTimeout);
+                })
+                .retrieve()
+                .bodyToFlux(new ParameterizedTypeReference<ServerSentEvent<EmployeeChanges>>() {})
+                .mapNotNull(ServerSentEvent::data);
+    }
+
+    @Retry(name = ClientConstants.EMPLOYEE_API_RETRY)
+    @CircuitBreaker(name = ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+    @Bulkhead(name = ClientConstants.EMPLOYEE_API_BULKHEAD)
     public <T> T post(String uri, Object body, ParameterizedTypeReference<ApiResponse<T>> typeRef) {
         ApiResponse<T> response = postApiResponse(uri, body, typeRef);
 
@@ -100,6 +266,8 @@ public class EmployeeApiClient {
         return response.getData();
     }
 
+    @CircuitBreaker(name = ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+    @Bulkhead(name = ClientConstants.EMPLOYEE_API_BULKHEAD)
     public <T> T delete(String uri, Object body, ParameterizedTypeReference<ApiResponse<T>> typeRef) {
         ApiResponse<T> response = deleteApiResponse(uri, body, typeRef);
 
@@ -110,4 +278,16 @@ public class EmployeeApiClient {
 
         return response.getData();
     }
+
+    private static void ifNoneMatch(HttpHeaders headers, String etag) {
+        if (etag != null) {
+            headers.setIfNoneMatch(etag);
+        }
+    }
+
+    private static void lastEventId(HttpHeaders headers, Long version) {
+        if (version != null) {
+            headers.set(ClientConstants.LAST_EVENT_ID_HEADER, Long.toString(version));
+        }
+    }
 }
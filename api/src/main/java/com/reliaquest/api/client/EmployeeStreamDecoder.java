@@ -0,0 +1,142 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes the {@code data} array of an employee API response one element at a time as the body arrives, using
+ * Jackson's non-blocking parser. Only the element being parsed is buffered, however long the list is.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeStreamDecoder {
+
+    private static final String DATA_FIELD = "data";
+
+    // Root object is depth 1, so elements of its data array start at depth 2
+    private static final int ELEMENT_DEPTH = 2;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Employees in the {@code data} array of {@code body}, in order. Fails with {@link TooManyRequestsException} when
+     * the response has no {@code data} array, as {@link EmployeeApiClient} does for a null {@code data}.
+     */
+    public Flux<Employee> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            DataArrayParser parser = new DataArrayParser();
+            return body.concatMapIterable(parser::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(parser.finish())));
+        });
+    }
+
+    private final class DataArrayParser {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+
+        private int depth;
+        private boolean atDataField;
+        private boolean inData;
+        private boolean sawData;
+        private TokenBuffer element;
+
+        DataArrayParser() {
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not create a non-blocking JSON parser", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<Employee> feed(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw new DecodingException("Could not decode employee list", e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        List<Employee> finish() {
+
+            List<Employee> decoded;
+            try {
+                feeder.endOfInput();
+                decoded = drain();
+            } catch (IOException e) {
+                throw new DecodingException("Could not decode employee list", e);
+            }
+
+            if (depth != 0) {
+                throw new DecodingException("Employee list ended before the JSON document was complete");
+            }
+            if (!sawData) {
+                throw new TooManyRequestsException(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE);
+            }
+            return decoded;
+        }
+
+        private List<Employee> drain() throws IOException {
+
+            List<Employee> decoded = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    if (token.isStructStart()) {
+                        depth++;
+                    } else if (token.isStructEnd() && --depth == ELEMENT_DEPTH) {
+                        decoded.add(objectMapper.readValue(element.asParser(objectMapper), Employee.class));
+                        element = null;
+                    }
+                    continue;
+                }
+
+                if (token == JsonToken.FIELD_NAME) {
+                    atDataField = depth == 1 && DATA_FIELD.equals(parser.currentName());
+                } else if (token.isStructStart()) {
+                    if (inData && depth == ELEMENT_DEPTH && token == JsonToken.START_OBJECT) {
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                    } else if (atDataField && token == JsonToken.START_ARRAY) {
+                        inData = true;
+                        sawData = true;
+                    }
+                    atDataField = false;
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                    if (inData && depth == 1) {
+                        inData = false;
+                    }
+                } else {
+                    // Scalars, including a null data field, and non-object array elements
+                    atDataField = false;
+                }
+            }
+            return decoded;
+        }
+    }
+}
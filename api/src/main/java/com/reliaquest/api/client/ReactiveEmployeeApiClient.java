@@ -0,0 +1,108 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.constants.ClientConstants;
+import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.exception.UpstreamBackoffException;
+import com.reliaquest.api.model.ApiResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeApiClient}. Same error mapping, retry, circuit breaker and bulkhead
+ * instances, but retries are scheduled by the resilience4j Reactor operator instead of sleeping on the calling thread.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = ServiceConstants.API_MODE_PROPERTY, havingValue = ServiceConstants.API_MODE_REACTIVE)
+public class ReactiveEmployeeApiClient {
+
+    private final WebClient webClient;
+    private final Retry retry;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+
+    public ReactiveEmployeeApiClient(
+            WebClient webClient,
+            RetryRegistry retryRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry) {
+        this.webClient = webClient;
+        this.retry = retryRegistry.retry(ClientConstants.EMPLOYEE_API_RETRY);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER);
+        this.bulkhead = bulkheadRegistry.bulkhead(ClientConstants.EMPLOYEE_API_BULKHEAD);
+    }
+
+    public <T> Mono<T> get(String uri, ParameterizedTypeReference<ApiResponse<T>> typeRef, Object... uriVars) {
+        return Mono.defer(() -> data(HttpMethod.GET, uri, webClient.get().uri(uri, uriVars), typeRef))
+                .transformDeferred(this::retried);
+    }
+
+    public <T> Mono<T> post(String uri, Object body, ParameterizedTypeReference<ApiResponse<T>> typeRef) {
+        return Mono.defer(() -> data(HttpMethod.POST, uri, webClient.post().uri(uri).bodyValue(body), typeRef))
+                .transformDeferred(this::retried);
+    }
+
+    public <T> Mono<T> delete(String uri, Object body, ParameterizedTypeReference<ApiResponse<T>> typeRef) {
+        return Mono.defer(() -> data(
+                        HttpMethod.DELETE, uri, webClient.method(HttpMethod.DELETE).uri(uri).bodyValue(body), typeRef))
+                .transformDeferred(this::guard);
+    }
+
+    /**
+     * Bulkhead around each attempt, retry around the attempts and the circuit breaker around the whole call, matching
+     * the aspect order on {@link EmployeeApiClient}.
+     */
+    private <T> Mono<T> retried(Mono<T> call) {
+        return call.transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(RetryOperator.of(retry))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * Like {@link #retried}, for a call that is sent once.
+     */
+    private <T> Mono<T> guard(Mono<T> call) {
+        return call.transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private <T> Mono<T> data(
+            HttpMethod method,
+            String uri,
+            WebClient.RequestHeadersSpec<?> request,
+            ParameterizedTypeReference<ApiResponse<T>> typeRef) {
+
+        return request.retrieve()
+                .bodyToMono(typeRef)
+                .onErrorResume(WebClientResponseException.TooManyRequests.class, e -> {
+                    log.warn("Too many requests while calling {} '{}'", method, uri);
+                    return Mono.empty();
+                })
+                // Calls held back by the rate limiter were already logged there
+                .doOnError(
+                        e -> !(e instanceof UpstreamBackoffException),
+                        e -> log.error("Unexpected error during {} '{}' call", method, uri, e))
+                .mapNotNull(ApiResponse::getData)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("{} '{}' returned null response or data", method, uri);
+                    return new TooManyRequestsException(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE);
+                }));
+    }
+}
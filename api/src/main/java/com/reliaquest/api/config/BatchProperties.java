@@ -0,0 +1,26 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.api.batch")
+public class BatchProperties {
+
+    /**
+     * Coalesce concurrent employee creates into one upstream batch call each, instead of one call per create.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Longest the first create of a batch waits for others to join. Every batched create may be delayed by this much.
+     */
+    private Duration window = Duration.ofMillis(10);
+
+    /**
+     * Creates per upstream call; a batch that fills up is sent without waiting out the window. Upstream takes at most
+     * 1000 by default.
+     */
+    private int maxSize = 100;
+}
@@ -0,0 +1,124 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.cache")
+public class EmployeeCacheProperties {
+
+    /**
+     * Delay between background rebuilds of the snapshot. Zero disables the background refresher.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(60);
+
+    /**
+     * Oldest snapshot served as-is; older snapshots are refreshed synchronously before being returned.
+     */
+    private Duration maxStaleness = Duration.ofMinutes(5);
+
+    /**
+     * Expiry of the snapshot keys in Redis, so a snapshot nobody refreshes eventually disappears.
+     */
+    private Duration snapshotTtl = Duration.ofHours(1);
+
+    /**
+     * How long a replaced snapshot generation stays readable, for readers that resolved the pointer just before a swap.
+     */
+    private Duration retiredSnapshotTtl = Duration.ofSeconds(30);
+
+    /**
+     * Format written for cached employees. Both formats are always readable, so this can be flipped during a rollout.
+     */
+    private SerializerFormat serializer = SerializerFormat.JSON;
+
+    private Near near = new Near();
+
+    private Stream stream = new Stream();
+
+    private Paging paging = new Paging();
+
+    private Changes changes = new Changes();
+
+    public enum SerializerFormat {
+        JSON,
+        BINARY
+    }
+
+    @Data
+    public static class Near {
+
+        private long maxEmployees = 10000;
+
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Stream {
+
+        /**
+         * Decode the upstream list element by element and write it to Redis in batches while it downloads, instead of
+         * buffering the whole response first.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Employees per Redis write while streaming or paging.
+         */
+        private int batchSize = 500;
+    }
+
+    @Data
+    public static class Paging {
+
+        /**
+         * Read the upstream list page by page, splitting the ID space into {@code parallelism} ranges that are walked
+         * concurrently, instead of in a single call. Pages are written to Redis in batches as they arrive.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Employees per upstream page.
+         */
+        private int pageSize = 1000;
+
+        private int parallelism = 4;
+    }
+
+    @Data
+    public static class Changes {
+
+        /**
+         * Catch up with upstream by applying its change feed to the cached snapshot, and read the full list only when
+         * the feed no longer reaches back to the snapshot.
+         */
+        private boolean enabled = false;
+
+        private Subscription subscription = new Subscription();
+    }
+
+    @Data
+    public static class Subscription {
+
+        /**
+         * Keep upstream's server-sent change stream open and apply each change as it arrives, between background
+         * refreshes. Needs {@code changes.enabled}, which records the feed position a snapshot is synced to.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Longest the stream may stay silent before it is treated as dead and reopened. Upstream sends a heartbeat
+         * every 15s by default, so this has to be longer than that.
+         */
+        private Duration idleTimeout = Duration.ofSeconds(45);
+
+        /**
+         * Wait before reopening a failed stream, doubled per consecutive failure up to {@code maxReconnectDelay}. A
+         * stream that upstream ended normally is reopened after {@code minReconnectDelay}.
+         */
+        private Duration minReconnectDelay = Duration.ofSeconds(1);
+
+        private Duration maxReconnectDelay = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import reactor.netty.http.HttpProtocol;
+
+@Data
+@ConfigurationProperties(prefix = "employee.api.http")
+public class HttpClientProperties {
+
+    /**
+     * Connections kept open to the employee API. Calls beyond this wait for a free connection.
+     */
+    private int maxConnections = 50;
+
+    /**
+     * Calls allowed to wait for a free connection; further calls fail at once.
+     */
+    private int pendingAcquireMaxCount = 500;
+
+    /**
+     * Longest a call waits for a free connection.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Idle connections are closed after this long, before the server or a proxy drops them silently.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Connections are retired after this long, so new upstream instances behind the same address receive traffic.
+     */
+    private Duration maxLifeTime = Duration.ofMinutes(5);
+
+    /**
+     * How often idle and expired connections are evicted in the background. Zero evicts only on acquire.
+     */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Longest wait for the response after the request has been sent.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * TCP keep-alive on pooled connections.
+     */
+    private boolean keepAlive = true;
+
+    /**
+     * Ask for gzip responses and decompress them.
+     */
+    private boolean compression = true;
+
+    /**
+     * Protocols offered to the employee API. {@code H2C} alongside {@code HTTP11} upgrades plain connections to HTTP/2
+     * when the server supports it; {@code H2} needs TLS.
+     */
+    private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11);
+
+    /**
+     * Publish Reactor Netty pool and per-endpoint connection and latency metrics.
+     */
+    private boolean metrics = true;
+}
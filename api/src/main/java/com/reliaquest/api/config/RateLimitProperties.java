@@ -0,0 +1,31 @@
+package com.reliaquest.api.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "employee.api.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether calls to the employee API go through the shared adaptive rate limiter.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Longest a call is held back for the upstream window to reset. Meant for short pacing gaps: a longer wait fails the
+     * call at once without sending it, and the caller gets the reset in a {@code Retry-After} header instead.
+     */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /**
+     * Backoff assumed when the upstream rejects or spends its budget without saying when it resets.
+     */
+    private Duration defaultBackoff = Duration.ofSeconds(1);
+
+    /**
+     * How often a call re-checks the budget while every known permit is in flight and the reset is not yet known.
+     */
+    private Duration paceInterval = Duration.ofMillis(100);
+}
@@ -1,13 +1,21 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.cache.CompactEmployeeRedisSerializer;
 import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.constants.ServiceConstants;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Slf4j
@@ -32,15 +40,54 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
+    public RedisTemplate<String, Object> redisTemplate(EmployeeCacheProperties cacheProperties) {
+
+        RedisSerializer<Object> valueSerializer = valueSerializer(cacheProperties);
 
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        template.setValueSerializer(valueSerializer);
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(valueSerializer);
 
-        log.info("RedisTemplate configured with StringRedisSerializer and GenericJackson2JsonRedisSerializer");
+        log.info(
+                "RedisTemplate configured with StringRedisSerializer and {} employee values",
+                cacheProperties.getSerializer());
 
         return template;
     }
+
+    /**
+     * Reactive template with the same serializers as {@link #redisTemplate}, for {@code employee.api.mode=reactive}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = ServiceConstants.API_MODE_PROPERTY, havingValue = ServiceConstants.API_MODE_REACTIVE)
+    public ReactiveRedisTemplate<String, Object> reactiveRedisTemplate(
+            ReactiveRedisConnectionFactory reactiveConnectionFactory, EmployeeCacheProperties cacheProperties) {
+
+        RedisSerializer<Object> valueSerializer = valueSerializer(cacheProperties);
+        RedisSerializationContext<String, Object> serializationContext =
+                RedisSerializationContext.<String, Object>newSerializationContext(new StringRedisSerializer())
+                        .value(valueSerializer)
+                        .hashKey(new StringRedisSerializer())
+                        .hashValue(valueSerializer)
+                        .build();
+
+        return new ReactiveRedisTemplate<>(reactiveConnectionFactory, serializationContext);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        return container;
+    }
+
+    private static RedisSerializer<Object> valueSerializer(EmployeeCacheProperties cacheProperties) {
+        boolean writeBinary = cacheProperties.getSerializer() == EmployeeCacheProperties.SerializerFormat.BINARY;
+        return new CompactEmployeeRedisSerializer(new GenericJackson2JsonRedisSerializer(), writeBinary);
+    }
 }
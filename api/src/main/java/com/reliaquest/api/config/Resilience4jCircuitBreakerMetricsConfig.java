@@ -0,0 +1,53 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.constants.ClientConstants;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Counts and logs every state transition of the employee API circuit breaker. The current state and call outcomes are
+ * already published by resilience4j as {@code resilience4j.circuitbreaker.*}.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class Resilience4jCircuitBreakerMetricsConfig {
+
+    static final String TRANSITIONS_METRIC = "employee.api.circuitbreaker.transitions";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void setupTransitionMetrics() {
+
+        CircuitBreaker circuitBreaker =
+                circuitBreakerRegistry.circuitBreaker(ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER);
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn(
+                    "Circuit breaker '{}' moved from {} to {}",
+                    event.getCircuitBreakerName(),
+                    transition.getFromState(),
+                    transition.getToState());
+            meterRegistry
+                    .counter(
+                            TRANSITIONS_METRIC,
+                            "name",
+                            event.getCircuitBreakerName(),
+                            "from",
+                            transition.getFromState().name(),
+                            "to",
+                            transition.getToState().name())
+                    .increment();
+        });
+
+        log.info("Transition metrics set up for '{}'", ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER);
+    }
+}
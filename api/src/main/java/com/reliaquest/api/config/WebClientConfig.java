@@ -1,25 +1,84 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.client.AdaptiveRateLimiter;
 import com.reliaquest.api.constants.ExceptionConstants;
+import io.netty.channel.ChannelOption;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    private static final String CONNECTION_POOL_NAME = "employee-api";
+    private static final Pattern UUID_SEGMENT =
+            Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(HttpClientProperties properties) {
+        return ConnectionProvider.builder(CONNECTION_POOL_NAME)
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .maxLifeTime(properties.getMaxLifeTime())
+                .evictInBackground(properties.getEvictionInterval())
+                .metrics(properties.isMetrics())
+                .build();
+    }
+
+    /**
+     * Built from Boot's {@link WebClient.Builder}, so calls are observed as {@code http.client.requests} tagged with
+     * their URI template. The Reactor Netty transport adds pool gauges and connect, TLS and response timings per remote
+     * address and path.
+     */
     @Bean
-    public WebClient employeeWebClient(@Value("${employee.api.base-url}") String baseUrl) {
+    public WebClient employeeWebClient(
+            @Value("${employee.api.base-url}") String baseUrl,
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider employeeConnectionProvider,
+            HttpClientProperties properties,
+            AdaptiveRateLimiter rateLimiter) {
 
         if (baseUrl == null || baseUrl.isBlank()) {
             throw new IllegalStateException(ExceptionConstants.EXC_EMPLOYEE_API_BASE_URL_NULL);
         }
 
-        log.info("Initializing WebClient with base URL: {}", baseUrl);
+        log.info(
+                "Initializing WebClient with base URL: {}, pool of {} connections, protocols {}",
+                baseUrl,
+                properties.getMaxConnections(),
+                properties.getProtocols());
+
+        HttpClient httpClient = HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, properties.isKeepAlive())
+                .keepAlive(properties.isKeepAlive())
+                .responseTimeout(properties.getResponseTimeout())
+                .compress(properties.isCompression())
+                .protocol(properties.getProtocols().toArray(HttpProtocol[]::new))
+                .metrics(properties.isMetrics(), WebClientConfig::uriTag);
+
+        return webClientBuilder
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(rateLimiter)
+                .build();
+    }
 
-        return WebClient.builder().baseUrl(baseUrl).build();
+    /**
+     * Collapses employee IDs in a request path so the Reactor Netty metrics get one {@code uri} tag per endpoint
+     * instead of one per employee.
+     */
+    static String uriTag(String path) {
+        return UUID_SEGMENT.matcher(path).replaceAll("/{id}");
     }
 }
@@ -3,4 +3,14 @@ package com.reliaquest.api.constants;
 public class ClientConstants {
 
     public static final String EMPLOYEE_API_RETRY = "employee-api-retry";
+    public static final String EMPLOYEE_API_CIRCUIT_BREAKER = "employee-api-circuit-breaker";
+    public static final String EMPLOYEE_API_BULKHEAD = "employee-api-bulkhead";
+    public static final String EMPLOYEE_PAGE_URI = "/page";
+    public static final String EMPLOYEE_BATCH_URI = "/batch";
+    public static final String EMPLOYEE_CHANGES_URI = "/changes";
+    public static final String EMPLOYEE_CHANGES_STREAM_URI = "/changes/stream";
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+    public static final String RATE_LIMIT_LIMIT_HEADER = "RateLimit-Limit";
+    public static final String RATE_LIMIT_REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RATE_LIMIT_RESET_HEADER = "RateLimit-Reset";
 }
@@ -3,4 +3,6 @@ package com.reliaquest.api.constants;
 public class ControllerConstants {
 
     public static final String EMPLOYEE_DELETED_SUCCESSFULLY = "Employee deleted successfully";
+    public static final String STALE_RESPONSE_WARNING = "110 - \"Response is Stale\"";
+    public static final String DEFAULT_PAGE_SIZE = "100";
 }
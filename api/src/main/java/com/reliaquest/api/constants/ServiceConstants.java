@@ -2,5 +2,31 @@ package com.reliaquest.api.constants;
 
 public class ServiceConstants {
 
-    public static final String EMPLOYEE_IDS_KEY = "employee_ids";
+    public static final String EMPLOYEE_SNAPSHOT_KEY = "employee_snapshot";
+    // A forced refresh must not join a read-through load in flight, which may settle for the cached snapshot
+    public static final String EMPLOYEE_SNAPSHOT_LOAD_FLIGHT = EMPLOYEE_SNAPSHOT_KEY + ":load";
+    public static final String EMPLOYEE_SNAPSHOT_REFRESH_FLIGHT = EMPLOYEE_SNAPSHOT_KEY + ":refresh";
+    // Every snapshot key shares one hash tag, so the scripts that touch several of them run on Redis Cluster
+    public static final String EMPLOYEE_SNAPSHOT_HASH_TAG = "{employee_snapshot}";
+    public static final String EMPLOYEE_SNAPSHOT_KEY_PREFIX = EMPLOYEE_SNAPSHOT_HASH_TAG + ":gen:";
+    public static final String EMPLOYEE_SALARIES_KEY_PREFIX = EMPLOYEE_SNAPSHOT_HASH_TAG + ":salaries:gen:";
+    public static final String EMPLOYEE_SNAPSHOT_POINTER_KEY = EMPLOYEE_SNAPSHOT_HASH_TAG + ":current";
+    public static final String EMPLOYEE_SNAPSHOT_GENERATION_KEY = EMPLOYEE_SNAPSHOT_HASH_TAG + ":generation";
+    public static final String SNAPSHOT_POINTER_GENERATION_FIELD = "generation";
+    public static final String SNAPSHOT_POINTER_FETCHED_AT_FIELD = "fetched_at";
+    public static final String SNAPSHOT_POINTER_ETAG_FIELD = "etag";
+    public static final String SNAPSHOT_POINTER_CHANGE_EPOCH_FIELD = "change_epoch";
+    public static final String SNAPSHOT_POINTER_CHANGE_VERSION_FIELD = "change_version";
+    public static final String PUBLISH_SNAPSHOT_SCRIPT = "redis/publish-snapshot.lua";
+    public static final String EXTEND_SNAPSHOT_SCRIPT = "redis/extend-snapshot.lua";
+    public static final String ADVANCE_SNAPSHOT_SCRIPT = "redis/advance-snapshot.lua";
+    public static final String WRITE_EMPLOYEES_SCRIPT = "redis/write-employees.lua";
+    public static final int SNAPSHOT_WRITE_ATTEMPTS = 3;
+    public static final int TOP_EARNERS_LIMIT = 10;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final String EMPLOYEE_CACHE_INVALIDATION_CHANNEL = "employee_cache_invalidation";
+    public static final String INVALIDATE_ALL = "*";
+    public static final String API_MODE_PROPERTY = "employee.api.mode";
+    public static final String API_MODE_BLOCKING = "blocking";
+    public static final String API_MODE_REACTIVE = "reactive";
 }
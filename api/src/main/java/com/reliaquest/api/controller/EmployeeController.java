@@ -1,24 +1,76 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.reliaquest.api.constants.ControllerConstants;
+import com.reliaquest.api.constants.ServiceConstants;
 import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeesInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeIdsInput;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSnapshot;
 import com.reliaquest.api.service.EmployeeService;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnProperty(
+        name = ServiceConstants.API_MODE_PROPERTY,
+        havingValue = ServiceConstants.API_MODE_BLOCKING,
+        matchIfMissing = true)
 public class EmployeeController implements IEmployeeController<Employee, CreateEmployeeInput> {
 
+    // Lines written between explicit flushes; the first line is always flushed on its own
+    private static final int NDJSON_FLUSH_INTERVAL = 100;
+
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
 
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+        EmployeeSnapshot snapshot = employeeService.getEmployeeSnapshot();
+        return snapshotResponse(snapshot).body(snapshot.employees());
+    }
+
+    /**
+     * {@link #getAllEmployees()} for clients that accept {@code application/x-ndjson}: one employee per line, written
+     * from the cached snapshot as it is serialized, so the first employees reach the client before the last are
+     * encoded. Clients asking for JSON, or for anything, still get the array.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        EmployeeSnapshot snapshot = employeeService.getEmployeeSnapshot();
+        return snapshotResponse(snapshot)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> writeNdjson(snapshot.employees(), out));
+    }
+
+    /**
+     * The cached list a page at a time, in ID order. Pass the returned {@code nextCursor} to get the next page; the
+     * last page has none.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<EmployeePage> getEmployeePage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = ControllerConstants.DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(employeeService.getEmployeePage(cursor, limit));
     }
 
     @Override
@@ -51,4 +103,45 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         employeeService.deleteEmployeeById(id);
         return ResponseEntity.ok(ControllerConstants.EMPLOYEE_DELETED_SUCCESSFULLY);
     }
+
+    /**
+     * Creates every employee in the body with one upstream call per {@code employee.api.batch.max-size} employees, and
+     * returns them in input order.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Employee>> createEmployees(@Valid @RequestBody CreateEmployeesInput input) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.createEmployees(input.getEmployees()));
+    }
+
+    /**
+     * Deletes the employees with the IDs in the body, with one upstream call per {@code employee.api.batch.max-size}
+     * employees, and returns the IDs that were deleted.
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<String>> deleteEmployeesByIds(@Valid @RequestBody EmployeeIdsInput input) {
+        return ResponseEntity.ok(employeeService.deleteEmployeesByIds(input.getIds()));
+    }
+
+    private static ResponseEntity.BodyBuilder snapshotResponse(EmployeeSnapshot snapshot) {
+        ResponseEntity.BodyBuilder response =
+                ResponseEntity.ok().header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()));
+        if (snapshot.stale()) {
+            response.header(HttpHeaders.WARNING, ControllerConstants.STALE_RESPONSE_WARNING);
+        }
+        return response;
+    }
+
+    private void writeNdjson(List<Employee> employees, OutputStream out) throws IOException {
+
+        ObjectWriter writer = objectMapper.writerFor(Employee.class);
+        int written = 0;
+        for (Employee employee : employees) {
+            out.write(writer.writeValueAsBytes(employee));
+            out.write('\n');
+            if (++written % NDJSON_FLUSH_INTERVAL == 1) {
+                out.flush();
+            }
+        }
+        out.flush();
+    }
 }
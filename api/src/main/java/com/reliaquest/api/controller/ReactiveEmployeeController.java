@@ -0,0 +1,85 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.constants.ControllerConstants;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same contract as {@link IEmployeeController}, returning {@link Mono} so the servlet thread is released while Redis
+ * and upstream calls are in flight. Active with {@code employee.api.mode=reactive}, in place of
+ * {@link EmployeeController}. It cannot implement {@link IEmployeeController}, whose return types are fixed.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ServiceConstants.API_MODE_PROPERTY, havingValue = ServiceConstants.API_MODE_REACTIVE)
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        return employeeService.getEmployeeSnapshot().map(snapshot -> {
+            ResponseEntity.BodyBuilder response =
+                    ResponseEntity.ok().header(HttpHeaders.AGE, String.valueOf(snapshot.age().toSeconds()));
+            if (snapshot.stale()) {
+                response.header(HttpHeaders.WARNING, ControllerConstants.STALE_RESPONSE_WARNING);
+            }
+            return response.body(snapshot.employees());
+        });
+    }
+
+    /**
+     * The cached list a page at a time, in ID order, as {@link EmployeeController#getEmployeePage}.
+     */
+    @GetMapping("/page")
+    public Mono<ResponseEntity<EmployeePage>> getEmployeePage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = ControllerConstants.DEFAULT_PAGE_SIZE) int limit) {
+        return employeeService.getEmployeePage(cursor, limit).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        return employeeService.searchEmployeesByName(searchString).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        return employeeService.getEmployeeById(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalary().map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames().map(ResponseEntity::ok);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody CreateEmployeeInput employeeInput) {
+        return employeeService
+                .createEmployee(employeeInput)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        return employeeService
+                .deleteEmployeeById(id)
+                .thenReturn(ResponseEntity.ok(ControllerConstants.EMPLOYEE_DELETED_SUCCESSFULLY));
+    }
+}
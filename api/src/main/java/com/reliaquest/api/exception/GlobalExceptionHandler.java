@@ -1,9 +1,13 @@
 package com.reliaquest.api.exception;
 
+import com.reliaquest.api.constants.ExceptionConstants;
 import com.reliaquest.api.model.ApiErrorResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -22,12 +26,36 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidPageRequest(
+            InvalidPageRequestException ex, HttpServletRequest request) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+    }
+
     @ExceptionHandler(TooManyRequestsException.class)
     public ResponseEntity<ApiErrorResponse> handleEmployeeTooManyRequest(
             TooManyRequestsException ex, HttpServletRequest request) {
         return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request);
     }
 
+    @ExceptionHandler(UpstreamBackoffException.class)
+    public ResponseEntity<ApiErrorResponse> handleUpstreamBackoff(
+            UpstreamBackoffException ex, HttpServletRequest request) {
+        ResponseEntity<ApiErrorResponse> response =
+                buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), request);
+        long seconds = (ex.getRetryAfter().toMillis() + 999) / 1000;
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, BulkheadFullException.class})
+    public ResponseEntity<ApiErrorResponse> handleEmployeeApiUnavailable(
+            RuntimeException ex, HttpServletRequest request) {
+        return buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, ExceptionConstants.EXC_EMPLOYEE_API_UNAVAILABLE, request);
+    }
+
     @ExceptionHandler(WebClientResponseException.class)
     public ResponseEntity<ApiErrorResponse> handleWebClientError(
             WebClientResponseException ex, HttpServletRequest request) {
@@ -0,0 +1,22 @@
+package com.reliaquest.api.exception;
+
+import java.time.Duration;
+
+/**
+ * The upstream rate limit is known to reject calls for longer than the client is willing to wait, so the call was not
+ * sent. Not retried: retrying within the same window would fail the same way. Carries how long until the window
+ * resets, which callers are told in a {@code Retry-After} header.
+ */
+public class UpstreamBackoffException extends TooManyRequestsException {
+
+    private final Duration retryAfter;
+
+    public UpstreamBackoffException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
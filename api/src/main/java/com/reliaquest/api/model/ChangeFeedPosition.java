@@ -0,0 +1,7 @@
+package com.reliaquest.api.model;
+
+/**
+ * A point in upstream's change feed: the feed's epoch, which changes whenever upstream restarts, and a version within
+ * it. A snapshot at this position holds every change up to and including {@code version}.
+ */
+public record ChangeFeedPosition(String epoch, long version) {}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.model;
+
+/**
+ * Answer to a conditional GET: the body with the ETag upstream sent for it, or, when upstream answered 304 Not
+ * Modified, no body and the ETag that was confirmed.
+ */
+public record ConditionalResponse<T>(T body, String etag, boolean notModified) {
+
+    public static <T> ConditionalResponse<T> modified(T body, String etag) {
+        return new ConditionalResponse<>(body, etag, false);
+    }
+
+    public static <T> ConditionalResponse<T> notModified(String etag) {
+        return new ConditionalResponse<>(null, etag, true);
+    }
+}
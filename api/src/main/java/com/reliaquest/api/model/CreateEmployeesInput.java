@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateEmployeesInput {
+
+    @NotEmpty
+    private List<@Valid @NotNull CreateEmployeeInput> employees;
+}
@@ -0,0 +1,23 @@
+package com.reliaquest.api.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One create or delete from upstream's change feed, with the upstream version that published it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private long version;
+    private Type type;
+    private Employee employee;
+}
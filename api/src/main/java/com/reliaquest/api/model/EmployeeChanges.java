@@ -0,0 +1,24 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Upstream's changes after a requested version, oldest first, and the position they lead up to. {@code truncated}
+ * means upstream no longer holds every change since the requested version.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChanges {
+    private String epoch;
+    private long version;
+    private boolean truncated;
+    private List<EmployeeChange> changes;
+
+    public ChangeFeedPosition position() {
+        return new ChangeFeedPosition(epoch, version);
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A slice of the employee ID space, {@code from} inclusive and {@code to} exclusive; {@code null} leaves that end open.
+ * IDs are ordered as their canonical strings, which for UUIDs is their unsigned numeric order.
+ */
+public record EmployeeIdRange(UUID from, UUID to) {
+
+    public static final EmployeeIdRange ALL = new EmployeeIdRange(null, null);
+
+    /**
+     * {@code parts} adjacent ranges covering every ID. Random IDs are spread evenly, so each range holds about the same
+     * number of employees.
+     */
+    public static List<EmployeeIdRange> split(int parts) {
+
+        if (parts <= 1) {
+            return List.of(ALL);
+        }
+
+        long step = Long.divideUnsigned(-1L, parts);
+        List<EmployeeIdRange> ranges = new ArrayList<>(parts);
+        UUID from = null;
+        for (int i = 1; i < parts; i++) {
+            UUID to = new UUID(step * i, 0);
+            ranges.add(new EmployeeIdRange(from, to));
+            from = to;
+        }
+        ranges.add(new EmployeeIdRange(from, null));
+
+        return ranges;
+    }
+}
@@ -0,0 +1,17 @@
+package com.reliaquest.api.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeIdsInput {
+
+    @NotEmpty
+    private List<@NotBlank String> ids;
+}
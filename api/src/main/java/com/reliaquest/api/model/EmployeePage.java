@@ -0,0 +1,18 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of employees in ID order, both as read from the employee API and as served by the paged listing.
+ * {@code nextCursor} is opaque and {@code null} on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePage {
+    private List<Employee> employees;
+    private String nextCursor;
+}
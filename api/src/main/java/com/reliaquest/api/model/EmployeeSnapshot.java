@@ -0,0 +1,32 @@
+package com.reliaquest.api.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The employee list together with the time it was fetched from upstream. {@code stale} marks a snapshot served past the
+ * staleness ceiling because upstream could not be reached.
+ */
+public record EmployeeSnapshot(List<Employee> employees, Instant fetchedAt, boolean stale) {
+
+    public EmployeeSnapshot(List<Employee> employees, Instant fetchedAt) {
+        this(employees, fetchedAt, false);
+    }
+
+    public Duration age() {
+        return Duration.between(fetchedAt, Instant.now());
+    }
+
+    public boolean isOlderThan(Duration maxAge) {
+        return age().compareTo(maxAge) > 0;
+    }
+
+    public EmployeeSnapshot withEmployees(List<Employee> updatedEmployees) {
+        return new EmployeeSnapshot(updatedEmployees, fetchedAt, stale);
+    }
+
+    public EmployeeSnapshot asStale() {
+        return new EmployeeSnapshot(employees, fetchedAt, true);
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.model.EmployeeChanges;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Keeps upstream's change stream open and hands every pushed version to {@link EmployeeService#applyPushedChanges},
+ * so the cache follows creates and deletes as they happen instead of at the next refresh. The first stream starts from
+ * the cached snapshot's feed position, which catches up with changes made while this instance was down. A dropped
+ * stream is reopened from the last version seen, after a delay that doubles with each consecutive failure; a stream
+ * that upstream ended normally is reopened after the minimum delay.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeChangeSubscriber {
+
+    private final EmployeeApiClient employeeApiClient;
+    private final EmployeeService employeeService;
+    private final EmployeeCache employeeCache;
+    private final EmployeeCacheProperties cacheProperties;
+
+    // The version the next pushed changes continue from; null until one is known
+    private volatile Long lastVersion;
+    private volatile Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        EmployeeCacheProperties.Changes changes = cacheProperties.getChanges();
+        if (!changes.getSubscription().isEnabled()) {
+            log.info("Upstream change subscription disabled");
+            return;
+        }
+        if (!changes.isEnabled()) {
+            log.warn("Upstream change subscription needs employee.cache.changes.enabled; not subscribing");
+            return;
+        }
+
+        subscription = pushedChanges().subscribe();
+        log.info("Subscribed to upstream changes");
+    }
+
+    @PreDestroy
+    public void stop() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Flux<EmployeeChanges> pushedChanges() {
+        EmployeeCacheProperties.Subscription settings = cacheProperties.getChanges().getSubscription();
+        return Flux.defer(() -> employeeApiClient.streamChanges(resumeFrom(), settings.getIdleTimeout()))
+                // Applying writes to Redis and may refresh from upstream; neither belongs on the HTTP event loop
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(this::apply)
+                .repeatWhen(completions -> completions.delayElements(settings.getMinReconnectDelay()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, settings.getMinReconnectDelay())
+                        .maxBackoff(settings.getMaxReconnectDelay())
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.warn(
+                                "Upstream change stream failed ({}); reconnecting from version {}",
+                                signal.failure().toString(),
+                                lastVersion)));
+    }
+
+    private Long resumeFrom() {
+        if (lastVersion == null) {
+            EmployeeCache.SyncPoint syncPoint = employeeCache.getSyncPoint();
+            lastVersion = syncPoint != null ? syncPoint.version() : null;
+        }
+        return lastVersion;
+    }
+
+    void apply(EmployeeChanges changes) {
+        Long since = lastVersion;
+        lastVersion = changes.getVersion();
+        try {
+            employeeService.applyPushedChanges(since, changes);
+        } catch (Exception e) {
+            // A snapshot left behind is noticed at the next push, or caught up by the next refresh
+            log.warn("Could not apply pushed changes up to version {}: {}", changes.getVersion(), e.toString());
+        }
+    }
+}
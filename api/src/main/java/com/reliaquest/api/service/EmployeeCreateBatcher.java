@@ -0,0 +1,160 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.BatchProperties;
+import com.reliaquest.api.constants.ClientConstants;
+import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeesInput;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces concurrent employee creates into upstream batch calls, so a burst of creates spends one request of the
+ * upstream rate limit instead of one each. The first create to arrive opens a batch and waits up to
+ * {@link BatchProperties#getWindow()} for others to join, or until {@link BatchProperties#getMaxSize()} have. It then
+ * sends the batch as one {@code POST /batch} and caches the created employees through
+ * {@link EmployeeCache#putAll(List)}: one {@code write-employees.lua} call, retried if a snapshot is published in
+ * between. Every caller gets its own employee back, or the failure of the batch it was in.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeCreateBatcher {
+
+    private final EmployeeApiClient employeeApiClient;
+    private final EmployeeCache employeeCache;
+    private final BatchProperties batchProperties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // The batch new creates join; null until the next create opens one
+    private Batch open;
+
+    public Employee create(CreateEmployeeInput input) {
+
+        Batch batch;
+        CompletableFuture<Employee> result;
+        boolean leader;
+        lock.lock();
+        try {
+            leader = open == null;
+            if (leader) {
+                open = new Batch();
+            }
+            batch = open;
+            result = batch.add(input);
+            if (batch.inputs.size() >= batchProperties.getMaxSize()) {
+                open = null;
+                batch.full.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            batch.awaitFull(batchProperties.getWindow());
+            close(batch);
+            send(batch);
+        }
+        return await(result);
+    }
+
+    private void close(Batch batch) {
+        lock.lock();
+        try {
+            if (open == batch) {
+                open = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void send(Batch batch) {
+
+        List<CreateEmployeeInput> inputs = batch.inputs;
+        try {
+            List<Employee> created = employeeApiClient.post(
+                    ClientConstants.EMPLOYEE_BATCH_URI,
+                    new CreateEmployeesInput(inputs),
+                    new ParameterizedTypeReference<>() {});
+            if (created.size() != inputs.size()) {
+                log.error("Batch create of {} employees returned {}", inputs.size(), created.size());
+                throw new IllegalStateException(ExceptionConstants.EXC_CREATE_EMPLOYEE_FAILED);
+            }
+
+            employeeCache.putAll(created.stream()
+                    .filter(employee -> employee != null && employee.getId() != null)
+                    .toList());
+
+            for (int i = 0; i < inputs.size(); i++) {
+                Employee employee = created.get(i);
+                CompletableFuture<Employee> result = batch.results.get(i);
+                if (employee == null || employee.getId() == null) {
+                    log.error("Failed to create employee with input: {}", inputs.get(i));
+                    result.completeExceptionally(
+                            new IllegalStateException(ExceptionConstants.EXC_CREATE_EMPLOYEE_FAILED));
+                } else {
+                    result.complete(employee);
+                }
+            }
+            log.info("Created {} employees in one upstream call", inputs.size());
+        } catch (RuntimeException | Error e) {
+            batch.results.forEach(result -> result.completeExceptionally(e));
+        }
+    }
+
+    private static Employee await(CompletableFuture<Employee> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Creates waiting to be sent together. {@code inputs} and {@code results} only change under the batcher's lock, and
+     * only while the batch is open.
+     */
+    private static final class Batch {
+
+        private final List<CreateEmployeeInput> inputs = new ArrayList<>();
+        private final List<CompletableFuture<Employee>> results = new ArrayList<>();
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        CompletableFuture<Employee> add(CreateEmployeeInput input) {
+            CompletableFuture<Employee> result = new CompletableFuture<>();
+            inputs.add(input);
+            results.add(result);
+            return result;
+        }
+
+        void awaitFull(Duration window) {
+            try {
+                full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                // Send what has gathered so far rather than leave the other callers waiting
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -1,79 +1,373 @@
 package com.reliaquest.api.service;
 
+import com.reliaquest.api.cache.EmployeeCache;
 import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.BatchProperties;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.constants.ClientConstants;
 import com.reliaquest.api.constants.ExceptionConstants;
 import com.reliaquest.api.constants.ServiceConstants;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidPageRequestException;
+import com.reliaquest.api.model.ChangeFeedPosition;
+import com.reliaquest.api.model.ConditionalResponse;
 import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeesInput;
 import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeesInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeIdRange;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeService {
 
+    static final String REFRESHES_METRIC = "employee.snapshot.refreshes";
+
+    private static final int STREAM_BATCHES_IN_FLIGHT = 2;
+
     private final EmployeeApiClient employeeApiClient;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final EmployeeCache employeeCache;
+    private final EmployeeCacheProperties cacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final BatchProperties batchProperties;
+    private final EmployeeCreateBatcher employeeCreateBatcher;
+
+    private final SingleFlight<String, EmployeeSnapshot> snapshotLoads = new SingleFlight<>();
+    private final SingleFlight<String, Employee> employeeLoads = new SingleFlight<>();
 
     public List<Employee> getAllEmployees() {
+        return getEmployeeSnapshot().employees();
+    }
 
-        Set<Object> idSet = redisTemplate.opsForSet().members(ServiceConstants.EMPLOYEE_IDS_KEY);
-        List<String> ids = idSet != null ? idSet.stream().map(Object::toString).toList() : Collections.emptyList();
+    /**
+     * The last good snapshot, served from cache while it is younger than the staleness ceiling. A missing or too old
+     * snapshot is fetched synchronously; concurrent callers share that fetch. While the circuit breaker or bulkhead
+     * rejects upstream calls, a too old snapshot is served anyway, marked stale.
+     */
+    public EmployeeSnapshot getEmployeeSnapshot() {
+
+        EmployeeSnapshot cachedSnapshot = employeeCache.getSnapshot();
+
+        if (isFresh(cachedSnapshot)) {
+            log.info(
+                    "Fetched {} employees from cache, {}s old",
+                    cachedSnapshot.employees().size(),
+                    cachedSnapshot.age().toSeconds());
+            return cachedSnapshot;
+        }
 
-        List<Employee> cachedEmployees = ids.stream()
-                .map(id -> (Employee) redisTemplate.opsForValue().get(id))
-                .filter(Objects::nonNull)
-                .toList();
+        if (cachedSnapshot != null) {
+            log.warn(
+                    "Cached snapshot is {}s old, beyond the staleness ceiling. Refreshing synchronously...",
+                    cachedSnapshot.age().toSeconds());
+        }
+
+        try {
+            // Concurrent misses share one upstream fetch and one cache write
+            return snapshotLoads.execute(ServiceConstants.EMPLOYEE_SNAPSHOT_LOAD_FLIGHT, this::loadSnapshot);
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            if (cachedSnapshot == null) {
+                throw e;
+            }
+            log.warn(
+                    "Employee API unavailable ({}). Serving cached snapshot {}s old as stale",
+                    e.getMessage(),
+                    cachedSnapshot.age().toSeconds());
+            return cachedSnapshot.asStale();
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot from upstream regardless of its age. Used by the background refresher.
+     */
+    public EmployeeSnapshot refreshSnapshot() {
+        return snapshotLoads.execute(ServiceConstants.EMPLOYEE_SNAPSHOT_REFRESH_FLIGHT, this::fetchSnapshot);
+    }
+
+    private EmployeeSnapshot loadSnapshot() {
+
+        // Another caller may have refreshed the cache while this one was waiting to lead
+        EmployeeSnapshot cachedSnapshot = employeeCache.getSnapshot();
+        if (isFresh(cachedSnapshot)) {
+            log.info("Fetched {} employees from cache after concurrent refresh", cachedSnapshot.employees().size());
+            return cachedSnapshot;
+        }
+
+        return fetchSnapshot();
+    }
+
+    /**
+     * With the change feed enabled, a snapshot that knows its feed position catches up by applying upstream's changes
+     * since; the full list is only read when there is no position to start from or the feed no longer reaches back to
+     * it. The full list is revalidated against the ETag of the cached snapshot, so an unchanged list costs one 304 and
+     * one pointer update instead of a download and a rewrite. Pages have no ETag of their own and are always fetched.
+     */
+    private EmployeeSnapshot fetchSnapshot() {
+
+        ChangeFeedPosition position = null;
+        if (cacheProperties.getChanges().isEnabled()) {
+            EmployeeSnapshot synced = syncChanges();
+            if (synced != null) {
+                return synced;
+            }
+            // Read before the list, so changes published while it downloads are applied again later rather than lost
+            position = changeFeedHead();
+        }
+
+        if (cacheProperties.getPaging().isEnabled()) {
+            log.info("Fetching employee pages from API...");
+            return writeSnapshot(pagedEmployees(), null, position);
+        }
+
+        String etag = employeeCache.getSnapshotEtag();
+        EmployeeSnapshot snapshot = fetchSnapshotIfNoneMatch(etag, position);
+        if (snapshot == null) {
+            // The cached snapshot was replaced or expired between reading its ETag and extending it
+            snapshot = fetchSnapshotIfNoneMatch(null, position);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Applies upstream's creates and deletes since the cached snapshot's change feed position. When another refresh
+     * published first, its snapshot is returned as it stands. {@code null} when the snapshot has no position, or the
+     * feed no longer holds every change since it.
+     */
+    private EmployeeSnapshot syncChanges() {
+
+        EmployeeCache.SyncPoint from = employeeCache.getSyncPoint();
+        if (from == null) {
+            return null;
+        }
 
-        if (!cachedEmployees.isEmpty() && cachedEmployees.size() == ids.size()) {
-            log.info("Fetched {} employees from cache", cachedEmployees.size());
-            return cachedEmployees;
+        EmployeeChanges changes = employeeApiClient.get(
+                ClientConstants.EMPLOYEE_CHANGES_URI + "?since={since}",
+                new ParameterizedTypeReference<>() {},
+                from.version());
+        if (changes.isTruncated() || !Objects.equals(changes.getEpoch(), from.epoch())) {
+            log.info("Upstream change feed no longer reaches version {}; reading the full list", from.version());
+            return null;
         }
 
-        // Fetch from API and refresh cache
-        log.info("Cache miss or incomplete. Fetching employees from API...");
-        List<Employee> employees = employeeApiClient.get("", new ParameterizedTypeReference<>() {});
+        List<EmployeeChange> applied = changes.getChanges() != null ? changes.getChanges() : List.of();
+        EmployeeSnapshot snapshot = employeeCache.applyChanges(from, applied, changes.position(), Instant.now());
+        if (snapshot == null) {
+            // Another refresh published while these were fetched; its snapshot is as recent as this one would be
+            return employeeCache.getSnapshot();
+        }
+
+        meterRegistry.counter(REFRESHES_METRIC, "result", "incremental").increment();
+        log.info("Applied {} upstream changes, up to version {}", applied.size(), changes.getVersion());
+
+        return snapshot;
+    }
+
+    /**
+     * Applies changes pushed over upstream's change stream, which continue from version {@code since}, or from an
+     * unknown version when {@code since} is {@code null}. Changes the cached snapshot already holds are skipped; a push
+     * it holds in full, typically because another replica wrote it, is applied to this replica's near cache only. When
+     * the snapshot is behind {@code since} or from another epoch, or the push is truncated, some changes never reached
+     * it and the snapshot is refreshed instead. A snapshot without a feed position is left to the next refresh.
+     */
+    public void applyPushedChanges(Long since, EmployeeChanges changes) {
+
+        EmployeeCache.SyncPoint from = employeeCache.getSyncPoint();
+        if (from == null) {
+            log.debug("No snapshot synced to the change feed; ignoring pushed version {}", changes.getVersion());
+            return;
+        }
+
+        List<EmployeeChange> pushed = changes.getChanges() != null ? changes.getChanges() : List.of();
+        boolean sameEpoch = Objects.equals(from.epoch(), changes.getEpoch());
+        if (sameEpoch && from.version() >= changes.getVersion()) {
+            // Another replica, or an earlier refresh, has written these already; only the near cache lags behind
+            employeeCache.applyToNearCache(pushed);
+            return;
+        }
+        if (!sameEpoch || changes.isTruncated() || since == null || from.version() < since) {
+            log.info(
+                    "Snapshot at version {} missed pushed changes up to version {}; refreshing",
+                    from.version(),
+                    changes.getVersion());
+            refreshSnapshot();
+            return;
+        }
+
+        List<EmployeeChange> applied = pushed.stream().filter(change -> change.getVersion() > from.version()).toList();
+        if (employeeCache.applyChanges(from, applied, changes.position(), Instant.now()) == null) {
+            // The next push finds the new snapshot and, if it is behind, refreshes it
+            log.info(
+                    "Snapshot moved on from version {}; not applying pushed version {}",
+                    from.version(),
+                    changes.getVersion());
+            return;
+        }
+
+        meterRegistry.counter(REFRESHES_METRIC, "result", "pushed").increment();
+        log.info("Applied {} pushed upstream changes, up to version {}", applied.size(), changes.getVersion());
+    }
+
+    private ChangeFeedPosition changeFeedHead() {
+        EmployeeChanges head =
+                employeeApiClient.get(ClientConstants.EMPLOYEE_CHANGES_URI, new ParameterizedTypeReference<>() {});
+        return head.position();
+    }
+
+    /**
+     * Fetches and caches the list unless upstream confirms {@code etag} is still current, in which case the cached
+     * snapshot is only extended. Either way the snapshot is recorded as synced to {@code position}, when given.
+     * {@code null} when the cached snapshot could not be extended.
+     */
+    private EmployeeSnapshot fetchSnapshotIfNoneMatch(String etag, ChangeFeedPosition position) {
+
+        if (cacheProperties.getStream().isEnabled()) {
+            log.info("Streaming employees from API...");
+            ConditionalResponse<Flux<Employee>> response = employeeApiClient.streamIfNoneMatch("", etag).block();
+            return response.notModified()
+                    ? extendSnapshot(etag, position)
+                    : writeSnapshot(response.body(), response.etag(), position);
+        }
+
+        log.info("Fetching employees from API...");
+        ConditionalResponse<List<Employee>> response =
+                employeeApiClient.getIfNoneMatch("", etag, new ParameterizedTypeReference<>() {});
+        if (response.notModified()) {
+            return extendSnapshot(etag, position);
+        }
+
+        List<Employee> employees = response.body();
+        Instant fetchedAt = Instant.now();
 
         if (employees == null) {
             log.warn("Received null employee list from API");
-            return Collections.emptyList();
+            return new EmployeeSnapshot(Collections.emptyList(), fetchedAt);
         }
 
-        redisTemplate.delete(ServiceConstants.EMPLOYEE_IDS_KEY);
-        for (String id : ids) {
-            redisTemplate.delete(id);
+        employeeCache.replaceAll(employees, fetchedAt, response.etag(), position);
+        meterRegistry.counter(REFRESHES_METRIC, "result", "modified").increment();
+
+        log.info("Cached {} employees from API", employees.size());
+
+        return new EmployeeSnapshot(employees, fetchedAt);
+    }
+
+    private EmployeeSnapshot extendSnapshot(String etag, ChangeFeedPosition position) {
+
+        EmployeeSnapshot snapshot = employeeCache.extendSnapshot(etag, Instant.now(), position);
+        if (snapshot == null) {
+            return null;
         }
-        for (Employee employee : employees) {
-            if (employee != null && employee.getId() != null) {
-                redisTemplate.opsForValue().set(employee.getId(), employee);
-                redisTemplate.opsForSet().add(ServiceConstants.EMPLOYEE_IDS_KEY, employee.getId());
-                log.debug("Cached employee ID {}", employee.getId());
-            } else {
-                log.warn("Skipping employee with null or missing ID: {}", employee);
-            }
+
+        meterRegistry.counter(REFRESHES_METRIC, "result", "not_modified").increment();
+        log.info("Employee list unchanged upstream; kept {} cached employees", snapshot.employees().size());
+
+        return snapshot;
+    }
+
+    /**
+     * Writes employees to a new cache generation in batches as they arrive, so the upstream list is never held whole
+     * before caching starts. The generation is only published once every employee has been written, and the snapshot
+     * returned is then read back from Redis, so the near cache and indexes are built once rather than alongside the
+     * stream.
+     */
+    private EmployeeSnapshot writeSnapshot(Flux<Employee> employees, String etag, ChangeFeedPosition position) {
+
+        EmployeeCache.SnapshotWriter writer = employeeCache.openSnapshot();
+
+        // Batches are written on this thread, not the HTTP event loop; demand is bounded so decoding waits for Redis
+        Iterable<List<Employee>> batches = employees
+                .buffer(cacheProperties.getStream().getBatchSize())
+                .toIterable(STREAM_BATCHES_IN_FLIGHT);
+        for (List<Employee> batch : batches) {
+            writer.write(batch);
         }
 
-        log.info("Cached {} employees from API", employees.size());
+        writer.publish(Instant.now(), etag, position);
+        meterRegistry.counter(REFRESHES_METRIC, "result", "modified").increment();
+
+        // This generation, or the newer one that superseded it
+        EmployeeSnapshot snapshot = employeeCache.getSnapshot();
+        log.info("Cached {} employees from API", snapshot != null ? snapshot.employees().size() : 0);
 
-        return employees;
+        return snapshot;
     }
 
-    public List<Employee> searchEmployeesByName(String searchString) {
+    /**
+     * Every upstream employee, read a page at a time from ID ranges that are walked concurrently. Within a range each
+     * page continues from the cursor of the one before.
+     */
+    private Flux<Employee> pagedEmployees() {
+        EmployeeCacheProperties.Paging paging = cacheProperties.getPaging();
+        return Flux.fromIterable(EmployeeIdRange.split(paging.getParallelism()))
+                .flatMap(range -> pagesIn(range, paging.getPageSize()), paging.getParallelism())
+                .concatMapIterable(EmployeePage::getEmployees);
+    }
 
-        List<Employee> employeeList = getAllEmployees();
+    private Flux<EmployeePage> pagesIn(EmployeeIdRange range, int pageSize) {
+        return employeeApiClient
+                .getPage(null, range, pageSize)
+                .expand(page -> page.getNextCursor() == null
+                        ? Mono.empty()
+                        : employeeApiClient.getPage(page.getNextCursor(), range, pageSize));
+    }
+
+    private boolean isFresh(EmployeeSnapshot snapshot) {
+        return snapshot != null && !snapshot.isOlderThan(cacheProperties.getMaxStaleness());
+    }
+
+    /**
+     * Answers from the indexes and the salary set are held to the same staleness ceiling as
+     * {@link #getEmployeeSnapshot()}: a cached snapshot beyond it is refreshed first, which rebuilds the indexes, or
+     * kept when upstream is unavailable. Costs one pointer read when this replica has not loaded the snapshot.
+     */
+    private void refreshIfStale() {
+        Instant fetchedAt = employeeCache.getSnapshotFetchedAt();
+        if (fetchedAt == null) {
+            return;
+        }
+        Duration age = Duration.between(fetchedAt, Instant.now());
+        if (age.compareTo(cacheProperties.getMaxStaleness()) > 0) {
+            getEmployeeSnapshot();
+        }
+    }
+
+    public List<Employee> searchEmployeesByName(String searchString) {
 
         if (searchString == null || searchString.isEmpty()) {
-            return employeeList;
+            return getAllEmployees();
+        }
+
+        refreshIfStale();
+        Optional<List<Employee>> indexedResult = employeeCache.searchByName(searchString);
+        if (indexedResult.isPresent()) {
+            log.info("Found {} employees matching name '{}'", indexedResult.get().size(), searchString);
+            return indexedResult.get();
         }
 
+        // Nothing indexed yet; loading the snapshot builds the index for the next call
+        List<Employee> employeeList = getAllEmployees();
+
         List<Employee> result = employeeList.stream()
                 .filter(Objects::nonNull)
                 .filter(e -> {
@@ -87,15 +381,66 @@ public class EmployeeService {
         return result;
     }
 
+    /**
+     * Up to {@code limit} cached employees in ID order, continuing after the page that returned {@code cursor}. Pages
+     * continue from an ID rather than an offset, so employees added or removed between calls do not shift them.
+     */
+    public EmployeePage getEmployeePage(String cursor, int limit) {
+
+        if (limit < 1 || limit > ServiceConstants.MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException(
+                    String.format(ExceptionConstants.EXC_INVALID_PAGE_LIMIT, ServiceConstants.MAX_PAGE_SIZE));
+        }
+        String afterId = cursor != null ? decodeCursor(cursor) : null;
+
+        refreshIfStale();
+        // One employee past the page tells whether there is a next one
+        List<Employee> employees = employeeCache
+                .getPage(afterId, limit + 1)
+                .orElseGet(() -> {
+                    // Nothing indexed yet; loading the snapshot builds the index for the next call
+                    return getAllEmployees().stream()
+                            .filter(e -> e != null && e.getId() != null)
+                            .filter(e -> afterId == null || e.getId().compareTo(afterId) > 0)
+                            .sorted(Comparator.comparing(Employee::getId))
+                            .limit(limit + 1L)
+                            .toList();
+                });
+
+        if (employees.size() <= limit) {
+            return new EmployeePage(employees, null);
+        }
+
+        List<Employee> page = employees.subList(0, limit);
+        return new EmployeePage(page, encodeCursor(page.get(limit - 1).getId()));
+    }
+
+    private static String encodeCursor(String lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException(String.format(ExceptionConstants.EXC_INVALID_PAGE_CURSOR, cursor));
+        }
+    }
+
     public Employee getEmployeeById(String id) {
 
-        Employee cachedEmployee = (Employee) redisTemplate.opsForValue().get(id);
+        Employee cachedEmployee = employeeCache.get(id);
 
         if (cachedEmployee != null) {
             log.info("Fetched employee with ID {} from cache", id);
             return cachedEmployee;
         }
 
+        return employeeLoads.execute(id, () -> loadEmployee(id));
+    }
+
+    private Employee loadEmployee(String id) {
+
         try {
 
             log.info("Cache miss. Fetching employee with ID {} from API...", id);
@@ -105,8 +450,7 @@ public class EmployeeService {
                 throw new EmployeeNotFoundException(String.format(ExceptionConstants.EXC_EMPLOYEE_NOT_FOUND, id));
             }
 
-            redisTemplate.opsForValue().set(emp.getId(), emp);
-            redisTemplate.opsForSet().add(ServiceConstants.EMPLOYEE_IDS_KEY, emp.getId());
+            employeeCache.put(emp);
             log.info("Employee with ID {} fetched and cached", emp.getId());
 
             return emp;
@@ -119,6 +463,14 @@ public class EmployeeService {
 
     public Integer getHighestSalary() {
 
+        refreshIfStale();
+        OptionalInt indexedMaxSalary = employeeCache.getHighestSalary();
+        if (indexedMaxSalary.isPresent()) {
+            log.info("Highest salary among employees: {}", indexedMaxSalary.getAsInt());
+            return indexedMaxSalary.getAsInt();
+        }
+
+        // Nothing indexed yet; loading the snapshot builds the index for the next call
         List<Employee> employees = getAllEmployees();
         if (employees == null || employees.isEmpty()) {
             log.warn("No employees available for salary computation");
@@ -137,34 +489,57 @@ public class EmployeeService {
     }
 
     public List<String> getTopTenHighestEarningEmployeeNames() {
+        return getTopHighestEarningEmployeeNames(ServiceConstants.TOP_EARNERS_LIMIT);
+    }
+
+    public List<String> getTopHighestEarningEmployeeNames(int limit) {
+
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
 
+        refreshIfStale();
+        Optional<List<String>> indexedTopEarners = employeeCache.getTopEarnerNames(limit);
+        if (indexedTopEarners.isPresent()) {
+            log.info("Top {} highest earning employees: {}", limit, indexedTopEarners.get());
+            return indexedTopEarners.get();
+        }
+
+        // Nothing indexed yet; loading the snapshot builds the index for the next call
         List<Employee> employees = getAllEmployees();
         if (employees == null || employees.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<String> topTenEarners = employees.stream()
+        List<String> topEarners = employees.stream()
                 .filter(e -> e != null && e.getEmployee_salary() != null && e.getEmployee_name() != null)
                 .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
-                .limit(10)
+                .limit(limit)
                 .map(Employee::getEmployee_name)
                 .toList();
 
-        log.info("Top 10 highest earning employees: {}", topTenEarners);
+        log.info("Top {} highest earning employees: {}", limit, topEarners);
 
-        return topTenEarners;
+        return topEarners;
     }
 
+    /**
+     * Creates the employee upstream and adds it to the cache. With batching enabled, concurrent creates share one
+     * upstream call; see {@link EmployeeCreateBatcher}.
+     */
     public Employee createEmployee(CreateEmployeeInput input) {
 
+        if (batchProperties.isEnabled()) {
+            return employeeCreateBatcher.create(input);
+        }
+
         Employee created = employeeApiClient.post("", input, new ParameterizedTypeReference<>() {});
         if (created == null || created.getId() == null) {
             log.error("Failed to create employee with input: {}", input);
             throw new IllegalStateException(ExceptionConstants.EXC_CREATE_EMPLOYEE_FAILED);
         }
 
-        redisTemplate.opsForValue().set(created.getId(), created);
-        redisTemplate.opsForSet().add(ServiceConstants.EMPLOYEE_IDS_KEY, created.getId());
+        employeeCache.put(created);
 
         log.info("Employee created with ID: {}", created.getId());
 
@@ -183,9 +558,88 @@ public class EmployeeService {
         input.setName(employee.getEmployee_name());
 
         employeeApiClient.delete("", input, new ParameterizedTypeReference<>() {});
-        redisTemplate.delete(id);
-        redisTemplate.opsForSet().remove(ServiceConstants.EMPLOYEE_IDS_KEY, id);
+        employeeCache.evict(id);
 
         log.info("Employee with ID {} deleted and removed from cache", id);
     }
+
+    /**
+     * Creates every employee upstream with one {@code POST /batch} per {@code employee.api.batch.max-size} inputs, and
+     * caches each call's employees in one script. Returns the created employees in input order.
+     */
+    public List<Employee> createEmployees(List<CreateEmployeeInput> inputs) {
+
+        List<List<CreateEmployeeInput>> chunks = chunks(inputs);
+        List<Employee> created = new ArrayList<>(inputs.size());
+        for (List<CreateEmployeeInput> chunk : chunks) {
+            List<Employee> employees = employeeApiClient.post(
+                    ClientConstants.EMPLOYEE_BATCH_URI,
+                    new CreateEmployeesInput(chunk),
+                    new ParameterizedTypeReference<>() {});
+            if (employees == null
+                    || employees.size() != chunk.size()
+                    || employees.stream().anyMatch(employee -> employee == null || employee.getId() == null)) {
+                log.error("Batch create of {} employees returned {}", chunk.size(), employees);
+                throw new IllegalStateException(ExceptionConstants.EXC_CREATE_EMPLOYEE_FAILED);
+            }
+
+            employeeCache.putAll(employees);
+            created.addAll(employees);
+        }
+
+        log.info("Created {} employees in {} upstream calls", created.size(), chunks.size());
+        return created;
+    }
+
+    /**
+     * Deletes the employees with these IDs, each as {@link #deleteEmployeeById} would, with one {@code DELETE /batch}
+     * per {@code employee.api.batch.max-size} employees and one cache script per call. Every ID is resolved before
+     * anything is deleted, so an unknown ID fails the request as a whole. Returns the IDs upstream deleted.
+     */
+    public List<String> deleteEmployeesByIds(List<String> ids) {
+
+        List<Employee> employees = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            Employee employee = getEmployeeById(id);
+            if (employee == null || employee.getEmployee_name() == null) {
+                log.error("Cannot delete employee: ID {} is invalid", id);
+                throw new IllegalStateException(ExceptionConstants.EXC_CANNOT_DELETE_NULL_EMPLOYEE);
+            }
+            employees.add(employee);
+        }
+
+        List<String> deleted = new ArrayList<>(employees.size());
+        for (List<Employee> chunk : chunks(employees)) {
+            List<String> chunkIds = chunk.stream().map(Employee::getId).toList();
+            List<String> names = chunk.stream().map(Employee::getEmployee_name).toList();
+            List<Boolean> results = employeeApiClient.delete(
+                    ClientConstants.EMPLOYEE_BATCH_URI,
+                    new DeleteEmployeesInput(names),
+                    new ParameterizedTypeReference<>() {});
+            // Evicted either way: a name upstream no longer holds was stale in the cache too
+            employeeCache.evictAll(chunkIds);
+            if (results == null || results.size() != chunk.size()) {
+                log.error("Batch delete of {} employees returned {}", chunk.size(), results);
+                throw new IllegalStateException(ExceptionConstants.EXC_DELETE_EMPLOYEES_FAILED);
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                if (Boolean.TRUE.equals(results.get(i))) {
+                    deleted.add(chunkIds.get(i));
+                }
+            }
+        }
+
+        log.info("Deleted {} of {} employees and removed them from cache", deleted.size(), employees.size());
+        return deleted;
+    }
+
+    private <T> List<List<T>> chunks(List<T> items) {
+        int size = Math.max(1, batchProperties.getMaxSize());
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += size) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + size)));
+        }
+        return chunks;
+    }
 }
@@ -0,0 +1,274 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.ReactiveEmployeeCache;
+import com.reliaquest.api.client.ReactiveEmployeeApiClient;
+import com.reliaquest.api.config.BatchProperties;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeService} for {@code employee.api.mode=reactive}. Same caching and
+ * staleness rules; nothing on the request path parks a thread while waiting for Redis or upstream. Work that is the
+ * same in both modes and blocks anyway, refreshing the snapshot, paging and batched creates, is delegated to the
+ * blocking path on a bounded elastic thread rather than kept here twice.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = ServiceConstants.API_MODE_PROPERTY, havingValue = ServiceConstants.API_MODE_REACTIVE)
+public class ReactiveEmployeeService {
+
+    private final ReactiveEmployeeApiClient employeeApiClient;
+    private final ReactiveEmployeeCache employeeCache;
+    private final EmployeeService employeeService;
+    private final EmployeeCacheProperties cacheProperties;
+    private final BatchProperties batchProperties;
+    private final EmployeeCreateBatcher employeeCreateBatcher;
+
+    private final ReactiveSingleFlight<String, EmployeeSnapshot> snapshotLoads = new ReactiveSingleFlight<>();
+    private final ReactiveSingleFlight<String, Employee> employeeLoads = new ReactiveSingleFlight<>();
+
+    public Mono<List<Employee>> getAllEmployees() {
+        return getEmployeeSnapshot().map(EmployeeSnapshot::employees);
+    }
+
+    /**
+     * The last good snapshot, served from cache while it is younger than the staleness ceiling. A missing or too old
+     * snapshot is fetched; concurrent subscribers share that fetch. While the circuit breaker or bulkhead rejects
+     * upstream calls, a too old snapshot is served anyway, marked stale.
+     */
+    public Mono<EmployeeSnapshot> getEmployeeSnapshot() {
+        return employeeCache
+                .getSnapshot()
+                .flatMap(cachedSnapshot -> {
+                    if (isFresh(cachedSnapshot)) {
+                        log.info(
+                                "Fetched {} employees from cache, {}s old",
+                                cachedSnapshot.employees().size(),
+                                cachedSnapshot.age().toSeconds());
+                        return Mono.just(cachedSnapshot);
+                    }
+
+                    log.warn(
+                            "Cached snapshot is {}s old, beyond the staleness ceiling. Refreshing...",
+                            cachedSnapshot.age().toSeconds());
+                    return Mono.empty();
+                })
+                .switchIfEmpty(
+                        snapshotLoads.execute(ServiceConstants.EMPLOYEE_SNAPSHOT_LOAD_FLIGHT, this::loadSnapshot))
+                .onErrorResume(ReactiveEmployeeService::isUpstreamUnavailable, e -> employeeCache
+                        .getSnapshot()
+                        .doOnNext(cachedSnapshot -> log.warn(
+                                "Employee API unavailable ({}). Serving cached snapshot {}s old as stale",
+                                e.getMessage(),
+                                cachedSnapshot.age().toSeconds()))
+                        .map(EmployeeSnapshot::asStale)
+                        .switchIfEmpty(Mono.error(e)));
+    }
+
+    private static boolean isUpstreamUnavailable(Throwable e) {
+        return e instanceof CallNotPermittedException || e instanceof BulkheadFullException;
+    }
+
+    private Mono<EmployeeSnapshot> loadSnapshot() {
+        // Another subscriber may have refreshed the cache while this one was waiting to lead
+        return employeeCache.getSnapshot().filter(this::isFresh).switchIfEmpty(Mono.defer(this::fetchSnapshot));
+    }
+
+    /**
+     * Refreshes through {@link EmployeeService#refreshSnapshot()}, so both modes revalidate the ETag, follow the change
+     * feed and stream or page the list alike, and record the same ETag and feed position with the snapshot. That
+     * refresh blocks, so it runs on a bounded elastic thread; the single flight in front keeps it to one per refresh.
+     */
+    private Mono<EmployeeSnapshot> fetchSnapshot() {
+        return Mono.fromCallable(employeeService::refreshSnapshot).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private boolean isFresh(EmployeeSnapshot snapshot) {
+        return !snapshot.isOlderThan(cacheProperties.getMaxStaleness());
+    }
+
+    /**
+     * Holds answers from the indexes and the salary set to the staleness ceiling, as the blocking service does: a
+     * cached snapshot beyond it is refreshed first, or kept when upstream is unavailable.
+     */
+    private Mono<Void> refreshIfStale() {
+        return employeeCache
+                .getSnapshotFetchedAt()
+                .filter(fetchedAt ->
+                        Duration.between(fetchedAt, Instant.now()).compareTo(cacheProperties.getMaxStaleness()) > 0)
+                .flatMap(fetchedAt -> getEmployeeSnapshot())
+                .then();
+    }
+
+    public Mono<List<Employee>> searchEmployeesByName(String searchString) {
+
+        if (searchString == null || searchString.isEmpty()) {
+            return getAllEmployees();
+        }
+
+        return refreshIfStale().then(Mono.defer(() -> {
+            Optional<List<Employee>> indexedResult = employeeCache.searchByName(searchString);
+            if (indexedResult.isPresent()) {
+                log.info("Found {} employees matching name '{}'", indexedResult.get().size(), searchString);
+                return Mono.just(indexedResult.get());
+            }
+
+            // Nothing indexed yet; loading the snapshot builds the index for the next call
+            return scanByName(searchString);
+        }));
+    }
+
+    private Mono<List<Employee>> scanByName(String searchString) {
+        return getAllEmployees()
+                .map(employeeList -> employeeList.stream()
+                        .filter(Objects::nonNull)
+                        .filter(e -> {
+                            String name = e.getEmployee_name();
+                            return name != null && name.contains(searchString);
+                        })
+                        .toList())
+                .doOnNext(result -> log.info("Found {} employees matching name '{}'", result.size(), searchString));
+    }
+
+    public Mono<Employee> getEmployeeById(String id) {
+        return employeeCache
+                .get(id)
+                .doOnNext(cachedEmployee -> log.info("Fetched employee with ID {} from cache", id))
+                .switchIfEmpty(employeeLoads.execute(id, () -> loadEmployee(id)));
+    }
+
+    private Mono<Employee> loadEmployee(String id) {
+
+        log.info("Cache miss. Fetching employee with ID {} from API...", id);
+        Mono<Employee> employee = employeeApiClient.get("/{id}", new ParameterizedTypeReference<>() {}, id);
+
+        return employee.filter(emp -> emp.getId() != null)
+                .switchIfEmpty(Mono.error(() ->
+                        new EmployeeNotFoundException(String.format(ExceptionConstants.EXC_EMPLOYEE_NOT_FOUND, id))))
+                .onErrorMap(WebClientResponseException.NotFound.class, ex -> {
+                    log.warn("Employee with ID {} not found in API", id);
+                    return new EmployeeNotFoundException(String.format(ExceptionConstants.EXC_EMPLOYEE_NOT_FOUND, id));
+                })
+                .flatMap(emp -> employeeCache.put(emp).thenReturn(emp))
+                .doOnNext(emp -> log.info("Employee with ID {} fetched and cached", emp.getId()));
+    }
+
+    /**
+     * The cached list a page at a time, in ID order, as {@link EmployeeService#getEmployeePage}. Pages come from the
+     * in-memory ID index, so the blocking call only waits when the snapshot has to be loaded or refreshed first.
+     */
+    public Mono<EmployeePage> getEmployeePage(String cursor, int limit) {
+        return Mono.fromCallable(() -> employeeService.getEmployeePage(cursor, limit))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<Integer> getHighestSalary() {
+        return refreshIfStale()
+                .then(employeeCache.getHighestSalary())
+                // Nothing indexed yet; loading the snapshot builds the index for the next call
+                .switchIfEmpty(Mono.defer(() -> getAllEmployees().map(this::highestSalary)))
+                .doOnNext(maxSalary -> log.info("Highest salary among employees: {}", maxSalary));
+    }
+
+    private Integer highestSalary(List<Employee> employees) {
+
+        if (employees.isEmpty()) {
+            log.warn("No employees available for salary computation");
+            throw new IllegalStateException(ExceptionConstants.EXC_NO_EMPLOYEES_AVAILABLE);
+        }
+
+        return employees.stream()
+                .filter(e -> e != null && e.getEmployee_salary() != null)
+                .map(Employee::getEmployee_salary)
+                .max(Integer::compareTo)
+                .orElseThrow(() -> new IllegalStateException(ExceptionConstants.EXC_NO_VALID_SALARIES_FOUND));
+    }
+
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNames() {
+        return getTopHighestEarningEmployeeNames(ServiceConstants.TOP_EARNERS_LIMIT);
+    }
+
+    public Mono<List<String>> getTopHighestEarningEmployeeNames(int limit) {
+
+        if (limit <= 0) {
+            return Mono.just(Collections.emptyList());
+        }
+
+        return refreshIfStale()
+                .then(employeeCache.getTopEarnerNames(limit))
+                // Nothing indexed yet; loading the snapshot builds the index for the next call
+                .switchIfEmpty(Mono.defer(() -> getAllEmployees().map(employees -> topEarners(employees, limit))))
+                .doOnNext(topEarners -> log.info("Top {} highest earning employees: {}", limit, topEarners));
+    }
+
+    private List<String> topEarners(List<Employee> employees, int limit) {
+        return employees.stream()
+                .filter(e -> e != null && e.getEmployee_salary() != null && e.getEmployee_name() != null)
+                .sorted(Comparator.comparingInt(Employee::getEmployee_salary).reversed())
+                .limit(limit)
+                .map(Employee::getEmployee_name)
+                .toList();
+    }
+
+    /**
+     * Creates the employee upstream and adds it to the cache. With batching enabled, the create joins a batch of
+     * {@link EmployeeCreateBatcher}, shared with the blocking path; waiting for the batch blocks, so it waits on a
+     * bounded elastic thread.
+     */
+    public Mono<Employee> createEmployee(CreateEmployeeInput input) {
+
+        if (batchProperties.isEnabled()) {
+            return Mono.fromCallable(() -> employeeCreateBatcher.create(input))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }
+
+        Mono<Employee> created = employeeApiClient.post("", input, new ParameterizedTypeReference<>() {});
+
+        return created.filter(employee -> employee.getId() != null)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.error("Failed to create employee with input: {}", input);
+                    return new IllegalStateException(ExceptionConstants.EXC_CREATE_EMPLOYEE_FAILED);
+                }))
+                .flatMap(employee -> employeeCache.put(employee).thenReturn(employee))
+                .doOnNext(employee -> log.info("Employee created with ID: {}", employee.getId()));
+    }
+
+    public Mono<Void> deleteEmployeeById(String id) {
+        return getEmployeeById(id)
+                .flatMap(employee -> {
+                    if (employee.getEmployee_name() == null) {
+                        log.error("Cannot delete employee: ID {} is invalid", id);
+                        return Mono.error(
+                                new IllegalStateException(ExceptionConstants.EXC_CANNOT_DELETE_NULL_EMPLOYEE));
+                    }
+
+                    DeleteEmployeeInput input = new DeleteEmployeeInput();
+                    input.setName(employee.getEmployee_name());
+
+                    return employeeApiClient.<Object>delete("", input, new ParameterizedTypeReference<>() {});
+                })
+                .then(Mono.defer(() -> employeeCache.evict(id)))
+                .doOnSuccess(ignored -> log.info("Employee with ID {} deleted and removed from cache", id));
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link SingleFlight}. The first subscriber for a key subscribes to the loader; subscribers
+ * arriving while it is in flight share its value, emptiness or error. The load runs to completion even if every
+ * subscriber cancels, so an abandoned request still fills the cache for the next one.
+ */
+public class ReactiveSingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+            if (existing != null) {
+                return Mono.fromFuture(existing, true);
+            }
+
+            call.whenComplete((value, error) -> inFlight.remove(key, call));
+            Mono.defer(loader).subscribe(call::complete, call::completeExceptionally, () -> call.complete(null));
+
+            return Mono.fromFuture(call, true);
+        });
+    }
+}
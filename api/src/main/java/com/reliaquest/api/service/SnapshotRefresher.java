@@ -0,0 +1,49 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the employee snapshot in the background so readers keep getting the last good snapshot immediately instead
+ * of waiting for upstream.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnapshotRefresher {
+
+    private final EmployeeService employeeService;
+    private final TaskScheduler taskScheduler;
+    private final EmployeeCacheProperties cacheProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        Duration interval = cacheProperties.getRefreshInterval();
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            log.info("Background snapshot refresh disabled");
+            return;
+        }
+
+        taskScheduler.scheduleWithFixedDelay(this::refresh, Instant.now().plus(interval), interval);
+        log.info("Background snapshot refresh scheduled every {}", interval);
+    }
+
+    void refresh() {
+        try {
+            EmployeeSnapshot snapshot = employeeService.refreshSnapshot();
+            log.info("Background refresh cached {} employees", snapshot.employees().size());
+        } catch (Exception e) {
+            // Readers keep the last good snapshot until the staleness ceiling forces a synchronous fetch
+            log.warn("Background snapshot refresh failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+-- Writes the changes upstream published since the snapshot's change feed position into its generation and moves the
+-- pointer forward to the version they lead up to. Nothing is written and nothing moves unless the pointer still names
+-- the generation and feed position the changes were read from, so two writers applying the same changes apply them
+-- once, and a writer holding an old position never writes into a generation that has moved past it. The pointer and
+-- both keys of the generation get a full snapshot TTL again.
+--
+-- KEYS[1]  snapshot pointer hash
+-- KEYS[2]  hash of the generation the changes belong to
+-- KEYS[3]  salary sorted set of the generation the changes belong to
+-- ARGV[1]  generation the changes belong to
+-- ARGV[2]  change feed epoch
+-- ARGV[3]  change feed version the changes were read from
+-- ARGV[4]  change feed version the changes lead up to
+-- ARGV[5]  new fetch time, epoch millis
+-- ARGV[6]  snapshot TTL, millis
+-- ARGV[7]  number of employees to write, n
+-- ARGV[8]  n groups of hash field, hash value, salary member and salary (empty when the employee has none), then one
+--          pair of hash field and salary member for every employee to delete
+--
+-- Returns 1 when the changes were written and the pointer moved, 0 when it no longer names that generation and
+-- position.
+
+local pointer = redis.call('HMGET', KEYS[1], 'generation', 'change_epoch', 'change_version')
+
+if pointer[1] ~= ARGV[1] or pointer[2] ~= ARGV[2] or pointer[3] ~= ARGV[3] then
+    return 0
+end
+
+local i = 8
+for _ = 1, tonumber(ARGV[7]) do
+    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+    if ARGV[i + 3] ~= '' then
+        redis.call('ZADD', KEYS[3], ARGV[i + 3], ARGV[i + 2])
+    else
+        redis.call('ZREM', KEYS[3], ARGV[i + 2])
+    end
+    i = i + 4
+end
+
+while i <= #ARGV do
+    redis.call('HDEL', KEYS[2], ARGV[i])
+    redis.call('ZREM', KEYS[3], ARGV[i + 1])
+    i = i + 2
+end
+
+redis.call('HSET', KEYS[1], 'change_version', ARGV[4], 'fetched_at', ARGV[5])
+if #ARGV > 7 then
+    -- The list changed, so the stored upstream ETag no longer describes it
+    redis.call('HDEL', KEYS[1], 'etag')
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+redis.call('PEXPIRE', KEYS[2], ARGV[6])
+redis.call('PEXPIRE', KEYS[3], ARGV[6])
+
+return 1
@@ -0,0 +1,31 @@
+-- Marks the published snapshot as fetched again after upstream confirmed its ETag, without rewriting it. The pointer
+-- and both keys of the generation get a full snapshot TTL again.
+--
+-- KEYS[1]  snapshot pointer hash
+-- KEYS[2]  hash of the published generation
+-- KEYS[3]  salary sorted set of the published generation
+-- ARGV[1]  published generation, as the caller read it from the pointer
+-- ARGV[2]  ETag upstream confirmed
+-- ARGV[3]  new fetch time, epoch millis
+-- ARGV[4]  snapshot TTL, millis
+-- ARGV[5]  change feed epoch the snapshot is now synced to, empty to leave the stored position alone
+-- ARGV[6]  change feed version the snapshot is now synced to
+--
+-- Returns the extended generation, or 0 when the pointer no longer names that generation or it no longer carries
+-- that ETag.
+
+local pointer = redis.call('HMGET', KEYS[1], 'generation', 'etag')
+
+if pointer[1] ~= ARGV[1] or pointer[2] ~= ARGV[2] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'fetched_at', ARGV[3])
+if ARGV[5] and ARGV[5] ~= '' then
+    redis.call('HSET', KEYS[1], 'change_epoch', ARGV[5], 'change_version', ARGV[6])
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+redis.call('PEXPIRE', KEYS[3], ARGV[4])
+
+return tonumber(ARGV[1])
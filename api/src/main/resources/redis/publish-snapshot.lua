@@ -0,0 +1,51 @@
+-- Points readers at a fully written snapshot generation and retires the one it replaces.
+--
+-- KEYS[1]  snapshot pointer hash
+-- KEYS[2]  hash of the new generation
+-- KEYS[3]  salary sorted set of the new generation
+-- KEYS[4]  hash of the generation being replaced, absent when none is published
+-- KEYS[5]  salary sorted set of the generation being replaced, absent when none is published
+-- ARGV[1]  new generation
+-- ARGV[2]  fetch time of the new generation, epoch millis
+-- ARGV[3]  snapshot TTL, millis
+-- ARGV[4]  how long the retired generation stays readable, millis
+-- ARGV[5]  generation being replaced, as the caller read it from the pointer; empty when none is published
+-- ARGV[6]  upstream ETag of the new generation, empty when upstream sent none
+-- ARGV[7]  change feed epoch the new generation is synced to, empty when unknown
+-- ARGV[8]  change feed version the new generation is synced to
+--
+-- Returns 1 when the pointer moved, 0 when a newer generation was already published, and -1 when the pointer no
+-- longer names the generation in ARGV[5]; nothing is written then, and the caller reads the pointer again and retries.
+
+local generation = tonumber(ARGV[1])
+local pointer = redis.call('HGET', KEYS[1], 'generation')
+local current = tonumber(pointer)
+
+if current and current >= generation then
+    redis.call('UNLINK', KEYS[2], KEYS[3])
+    return 0
+end
+
+if (pointer or '') ~= ARGV[5] then
+    return -1
+end
+
+redis.call('HSET', KEYS[1], 'generation', ARGV[1], 'fetched_at', ARGV[2])
+if ARGV[6] and ARGV[6] ~= '' then
+    redis.call('HSET', KEYS[1], 'etag', ARGV[6])
+else
+    redis.call('HDEL', KEYS[1], 'etag')
+end
+if ARGV[7] and ARGV[7] ~= '' then
+    redis.call('HSET', KEYS[1], 'change_epoch', ARGV[7], 'change_version', ARGV[8])
+else
+    redis.call('HDEL', KEYS[1], 'change_epoch', 'change_version')
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+
+if current then
+    redis.call('PEXPIRE', KEYS[4], ARGV[4])
+    redis.call('PEXPIRE', KEYS[5], ARGV[4])
+end
+
+return 1
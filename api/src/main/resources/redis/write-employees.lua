@@ -0,0 +1,36 @@
+-- Writes and deletes single employees in the published snapshot generation. The pointer is checked in the same
+-- script, so a write racing a publish never lands in a generation that was just retired.
+--
+-- KEYS[1]  snapshot pointer hash
+-- KEYS[2]  hash of the published generation
+-- KEYS[3]  salary sorted set of the published generation
+-- ARGV[1]  published generation, as the caller read it from the pointer
+-- ARGV[2]  number of employees to write, n
+-- ARGV[3]  n groups of hash field, hash value, salary member and salary (empty when the employee has none), then one
+--          pair of hash field and salary member for every employee to delete
+--
+-- Returns 1 when written, 0 when the pointer no longer names that generation; nothing is written then, and the
+-- caller reads the pointer again and retries.
+
+if redis.call('HGET', KEYS[1], 'generation') ~= ARGV[1] then
+    return 0
+end
+
+local i = 3
+for _ = 1, tonumber(ARGV[2]) do
+    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+    if ARGV[i + 3] ~= '' then
+        redis.call('ZADD', KEYS[3], ARGV[i + 3], ARGV[i + 2])
+    else
+        redis.call('ZREM', KEYS[3], ARGV[i + 2])
+    end
+    i = i + 4
+end
+
+while i <= #ARGV do
+    redis.call('HDEL', KEYS[2], ARGV[i])
+    redis.call('ZREM', KEYS[3], ARGV[i + 1])
+    i = i + 2
+end
+
+return 1
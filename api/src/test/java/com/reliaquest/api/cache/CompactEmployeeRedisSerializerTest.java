@@ -0,0 +1,102 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class CompactEmployeeRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer();
+    private final CompactEmployeeRedisSerializer binarySerializer =
+            new CompactEmployeeRedisSerializer(jsonSerializer, true);
+    private final CompactEmployeeRedisSerializer jsonWritingSerializer =
+            new CompactEmployeeRedisSerializer(jsonSerializer, false);
+
+    @Test
+    void testRoundTrip_isSmallerThanJson() {
+        Employee employee = employee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507");
+
+        byte[] binary = binarySerializer.serialize(employee);
+
+        assertEquals(CompactEmployeeRedisSerializer.MAGIC, binary[0]);
+        assertEquals(employee, binarySerializer.deserialize(binary));
+        assertTrue(binary.length < jsonSerializer.serialize(employee).length / 2);
+    }
+
+    @Test
+    void testRoundTrip_nullFieldsAndNonUuidId() {
+        Employee employee = new Employee();
+        employee.setId("legacy-42");
+        employee.setEmployee_name("Zoë Ümlaut");
+        employee.setEmployee_salary(-1);
+
+        assertEquals(employee, binarySerializer.deserialize(binarySerializer.serialize(employee)));
+    }
+
+    @Test
+    void testReadsExistingJsonEntries() {
+        Employee employee = employee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507");
+
+        byte[] json = jsonSerializer.serialize(employee);
+
+        assertEquals(employee, binarySerializer.deserialize(json));
+    }
+
+    @Test
+    void testJsonWriteMode_stillReadsBinaryEntries() {
+        Employee employee = employee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507");
+
+        byte[] written = jsonWritingSerializer.serialize(employee);
+
+        assertEquals('{', written[0]);
+        assertEquals(employee, jsonWritingSerializer.deserialize(binarySerializer.serialize(employee)));
+    }
+
+    @Test
+    void testNonEmployeeValues_useJson() {
+        byte[] serialized = binarySerializer.serialize(1_700_000_000_000L);
+
+        assertEquals(1_700_000_000_000L, binarySerializer.deserialize(serialized));
+    }
+
+    @Test
+    void testEmptyInput() {
+        assertNull(binarySerializer.deserialize(new byte[0]));
+        assertNull(binarySerializer.deserialize(null));
+    }
+
+    @Test
+    void testNewerSchemaVersion_isRejected() {
+        byte[] binary = binarySerializer.serialize(employee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"));
+        binary[1] = (byte) (CompactEmployeeRedisSerializer.SCHEMA_VERSION + 1);
+
+        assertThrows(SerializationException.class, () -> binarySerializer.deserialize(binary));
+    }
+
+    @Test
+    void testTruncatedEntry_isRejected() {
+        byte[] binary = binarySerializer.serialize(employee("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"));
+
+        assertThrows(
+                SerializationException.class,
+                () -> binarySerializer.deserialize(Arrays.copyOf(binary, binary.length - 3)));
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name("Tiger Nixon");
+        employee.setEmployee_salary(320800);
+        employee.setEmployee_age(61);
+        employee.setEmployee_title("Vice Chair Executive Principal of Chief Operations Implementation Specialist");
+        employee.setEmployee_email("tnixon@company.com");
+        return employee;
+    }
+}
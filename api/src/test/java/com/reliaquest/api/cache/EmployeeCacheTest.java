@@ -0,0 +1,736 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.ChangeFeedPosition;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+class EmployeeCacheTest {
+
+    private static final long GENERATION = 7;
+    private static final String SNAPSHOT_KEY = ServiceConstants.EMPLOYEE_SNAPSHOT_KEY_PREFIX + GENERATION;
+    private static final String SALARIES_KEY = ServiceConstants.EMPLOYEE_SALARIES_KEY_PREFIX + GENERATION;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, String, String> pointerOps;
+
+    @Mock
+    private ValueOperations<String, String> stringValueOps;
+
+    @Mock
+    private HashOperations<String, String, Object> hashOps;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOps;
+
+    @Spy
+    private EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+
+    @Mock
+    private EmployeeNearCache nearCache;
+
+    @Mock
+    private SalaryIndex salaryIndex;
+
+    @Mock
+    private NameTrigramIndex nameIndex;
+
+    @Mock
+    private IdIndex idIndex;
+
+    private EmployeeCache employeeCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // StringRedisTemplate is itself a RedisTemplate, so the constructor is called explicitly
+        employeeCache = new EmployeeCache(
+                redisTemplate, stringRedisTemplate, cacheProperties, nearCache, salaryIndex, nameIndex, idIndex);
+        when(redisTemplate.<String, Object>opsForHash()).thenReturn(hashOps);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(stringRedisTemplate.<String, String>opsForHash()).thenReturn(pointerOps);
+        when(stringRedisTemplate.opsForValue()).thenReturn(stringValueOps);
+        doReturn(new GenericJackson2JsonRedisSerializer()).when(redisTemplate).getValueSerializer();
+    }
+
+    @Test
+    void testGetSnapshot_readsCurrentGenerationInOneCall() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("1", employee("1"));
+        entries.put("2", employee("2"));
+        givenPointer(fetchedAt);
+        givenGeneration();
+        when(hashOps.entries(SNAPSHOT_KEY)).thenReturn(entries);
+
+        EmployeeSnapshot result = employeeCache.getSnapshot();
+
+        assertEquals(2, result.employees().size());
+        assertEquals(fetchedAt, result.fetchedAt());
+        verify(hashOps, times(1)).entries(SNAPSHOT_KEY);
+        verifyNoMoreInteractions(hashOps);
+        verify(nearCache).cacheSnapshot(result);
+    }
+
+    @Test
+    void testGetSnapshot_publishedWhileReading_isNotNearCached() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        givenPointer(fetchedAt);
+        when(hashOps.entries(SNAPSHOT_KEY)).thenReturn(Map.of("1", employee("1")));
+        // The pointer moved on between reading it and reading the generation it named
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD))
+                .thenReturn(String.valueOf(GENERATION + 1));
+
+        EmployeeSnapshot result = employeeCache.getSnapshot();
+
+        assertEquals(new EmployeeSnapshot(List.of(employee("1")), fetchedAt), result);
+        verify(nearCache, never()).cacheSnapshot(any());
+    }
+
+    @Test
+    void testGetSnapshot_nearCacheHit_skipsRedis() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(employee("1")), Instant.now());
+        when(nearCache.getSnapshot()).thenReturn(snapshot);
+
+        assertEquals(snapshot, employeeCache.getSnapshot());
+        verifyNoInteractions(hashOps, pointerOps);
+    }
+
+    @Test
+    void testGetSnapshot_noPointer_isMiss() {
+        assertNull(employeeCache.getSnapshot());
+        verifyNoInteractions(hashOps);
+    }
+
+    @Test
+    void testGet_nearCacheMiss_readsThroughRedis() {
+        Employee e1 = employee("1");
+        givenGeneration();
+        when(hashOps.get(SNAPSHOT_KEY, "1")).thenReturn(e1);
+
+        assertEquals(e1, employeeCache.get("1"));
+        verify(nearCache).cache(e1);
+    }
+
+    @Test
+    void testGetSnapshot_emptySnapshot() {
+        givenPointer(Instant.ofEpochMilli(1_700_000_000_000L));
+        when(hashOps.entries(SNAPSHOT_KEY)).thenReturn(Map.of());
+
+        assertTrue(employeeCache.getSnapshot().employees().isEmpty());
+    }
+
+    @Test
+    void testGetHighestSalary_indexLoaded_skipsRedis() {
+        when(salaryIndex.isLoaded()).thenReturn(true);
+        when(salaryIndex.highest()).thenReturn(OptionalInt.of(5000));
+
+        assertEquals(OptionalInt.of(5000), employeeCache.getHighestSalary());
+        verifyNoInteractions(zSetOps);
+    }
+
+    @Test
+    void testGetHighestSalary_indexNotLoaded_readsSortedSetHead() {
+        givenGeneration();
+        when(zSetOps.reverseRangeWithScores(SALARIES_KEY, 0, 0))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("1", 7000.0)));
+
+        assertEquals(OptionalInt.of(7000), employeeCache.getHighestSalary());
+    }
+
+    @Test
+    void testGetTopEarnerNames_indexNotLoaded_readsSortedSetAndNames() {
+        Employee alice = employee("1");
+        alice.setEmployee_name("Alice");
+        Employee bob = employee("2");
+        bob.setEmployee_name("Bob");
+        givenGeneration();
+        when(zSetOps.reverseRange(SALARIES_KEY, 0, 1)).thenReturn(new LinkedHashSet<>(List.of("2", "1")));
+        when(hashOps.multiGet(SNAPSHOT_KEY, List.of("2", "1"))).thenReturn(List.of(bob, alice));
+
+        assertEquals(Optional.of(List.of("Bob", "Alice")), employeeCache.getTopEarnerNames(2));
+    }
+
+    @Test
+    void testGetTopEarnerNames_nothingIndexed() {
+        assertTrue(employeeCache.getTopEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    void testReplaceAll_writesNewGenerationThenPublishes() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        Employee noId = new Employee();
+        Instant fetchedAt = Instant.now();
+        givenPublishResult(fetchedAt, null, 1L);
+
+        employeeCache.replaceAll(List.of(e1, noId), fetchedAt, null, null);
+
+        verify(hashOps).putAll(SNAPSHOT_KEY, Map.of("1", e1));
+        verify(zSetOps).add(SALARIES_KEY, Set.of(new DefaultTypedTuple<>("1", 5000.0)));
+        verify(redisTemplate).expire(SNAPSHOT_KEY, cacheProperties.getSnapshotTtl());
+        verify(redisTemplate).expire(SALARIES_KEY, cacheProperties.getSnapshotTtl());
+        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate, never()).delete(anyCollection());
+        verify(nearCache).cacheSnapshot(new EmployeeSnapshot(List.of(e1), fetchedAt));
+        verify(nearCache).publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+    }
+
+    @Test
+    void testReplaceAll_supersededGeneration_isNotCached() {
+        Instant fetchedAt = Instant.now();
+        givenPublishResult(fetchedAt, null, 0L);
+
+        employeeCache.replaceAll(List.of(employee("1")), fetchedAt, null, null);
+
+        verify(nearCache).invalidateAll();
+        verify(nearCache, never()).cacheSnapshot(any());
+        verify(nearCache, never()).publishInvalidation(any());
+    }
+
+    @Test
+    void testOpenSnapshot_writesBatchesThenPublishesOnce() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        Employee e2 = employee("2");
+        e2.setEmployee_salary(6000);
+        Instant fetchedAt = Instant.now();
+        givenPublishResult(fetchedAt, null, 1L);
+
+        EmployeeCache.SnapshotWriter writer = employeeCache.openSnapshot();
+        writer.write(List.of(e1));
+        writer.write(List.of(e2));
+
+        assertTrue(writer.publish(fetchedAt, null, null));
+        verify(hashOps).putAll(SNAPSHOT_KEY, Map.of("1", e1));
+        verify(hashOps).putAll(SNAPSHOT_KEY, Map.of("2", e2));
+        verify(zSetOps).add(SALARIES_KEY, Set.of(new DefaultTypedTuple<>("2", 6000.0)));
+        verify(redisTemplate, times(1)).expire(SNAPSHOT_KEY, cacheProperties.getSnapshotTtl());
+        verify(redisTemplate, times(1)).expire(SALARIES_KEY, cacheProperties.getSnapshotTtl());
+        verify(stringValueOps, times(1)).increment(ServiceConstants.EMPLOYEE_SNAPSHOT_GENERATION_KEY);
+        // Nothing streamed is kept; the near cache reloads the published generation on its next read
+        verify(nearCache).invalidateAll();
+        verify(nearCache, never()).cacheSnapshot(any());
+        verify(nearCache).publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+    }
+
+    @Test
+    void testReplaceAll_pointerMovedWhilePublishing_retriesWithRetiredKeys() {
+        Instant fetchedAt = Instant.now();
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD))
+                .thenReturn(null, "5");
+        givenPublishResult(fetchedAt, null, null, -1L);
+        givenPublishResult(fetchedAt, null, 5L, 1L);
+
+        employeeCache.replaceAll(List.of(employee("1")), fetchedAt, null, null);
+
+        verify(nearCache).cacheSnapshot(new EmployeeSnapshot(List.of(employee("1")), fetchedAt));
+        verify(nearCache).publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+    }
+
+    @Test
+    void testReplaceAll_publishesUpstreamEtag() {
+        Instant fetchedAt = Instant.now();
+        givenPublishResult(fetchedAt, "\"v1\"", 1L);
+
+        employeeCache.replaceAll(List.of(employee("1")), fetchedAt, "\"v1\"", null);
+
+        verify(nearCache).cacheSnapshot(new EmployeeSnapshot(List.of(employee("1")), fetchedAt));
+    }
+
+    @Test
+    void testGetSnapshotEtag_readsPointer() {
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, ServiceConstants.SNAPSHOT_POINTER_ETAG_FIELD))
+                .thenReturn("\"v1\"");
+
+        assertEquals("\"v1\"", employeeCache.getSnapshotEtag());
+    }
+
+    @Test
+    void testExtendSnapshot_sameEtag_movesFetchTimeWithoutWriting() {
+        Instant fetchedAt = Instant.now();
+        EmployeeSnapshot extended = new EmployeeSnapshot(List.of(employee("1")), fetchedAt);
+        givenExtendResult("\"v1\"", fetchedAt, GENERATION);
+        when(nearCache.extendSnapshot(fetchedAt)).thenReturn(extended);
+
+        assertEquals(extended, employeeCache.extendSnapshot("\"v1\"", fetchedAt, null));
+        verify(hashOps, never()).putAll(any(), any());
+        verify(zSetOps, never()).add(any(), anySet());
+        verify(stringValueOps, never()).increment(any());
+        verify(nearCache, never()).publishInvalidation(any());
+    }
+
+    @Test
+    void testExtendSnapshot_notInNearCache_readsExtendedPointer() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        Employee e1 = employee("1");
+        givenExtendResult("\"v1\"", fetchedAt, GENERATION);
+        givenPointer(fetchedAt);
+        when(hashOps.entries(SNAPSHOT_KEY)).thenReturn(Map.of("1", e1));
+
+        assertEquals(
+                new EmployeeSnapshot(List.of(e1), fetchedAt), employeeCache.extendSnapshot("\"v1\"", fetchedAt, null));
+    }
+
+    @Test
+    void testExtendSnapshot_noSnapshot_returnsNullWithoutScript() {
+        assertNull(employeeCache.extendSnapshot("\"v1\"", Instant.now(), null));
+        verifyNoInteractions(nearCache);
+    }
+
+    @Test
+    void testExtendSnapshot_etagMoved_returnsNull() {
+        Instant fetchedAt = Instant.now();
+        givenExtendResult("\"v1\"", fetchedAt, 0L);
+
+        assertNull(employeeCache.extendSnapshot("\"v1\"", fetchedAt, null));
+        verify(nearCache, never()).extendSnapshot(any());
+    }
+
+    @Test
+    void testGetSyncPoint_readsPointer() {
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SyncPoint.FIELDS))
+                .thenReturn(List.of(String.valueOf(GENERATION), "epoch", "10"));
+
+        assertEquals(new EmployeeCache.SyncPoint(GENERATION, "epoch", 10), employeeCache.getSyncPoint());
+    }
+
+    @Test
+    void testGetSyncPoint_noPosition_isNull() {
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SyncPoint.FIELDS))
+                .thenReturn(Arrays.asList(String.valueOf(GENERATION), null, null));
+
+        assertNull(employeeCache.getSyncPoint());
+    }
+
+    @Test
+    void testApplyChanges_writesOnlyChangedEmployeesThenAdvances() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        Employee e2 = employee("2");
+        Employee e3 = employee("3");
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(GENERATION, "epoch", 10);
+        Instant fetchedAt = Instant.now();
+        EmployeeSnapshot synced = new EmployeeSnapshot(List.of(e1), fetchedAt);
+        givenAdvanceResult(1L);
+        when(nearCache.extendSnapshot(fetchedAt)).thenReturn(synced);
+
+        EmployeeSnapshot result = employeeCache.applyChanges(
+                from,
+                List.of(
+                        new EmployeeChange(11, EmployeeChange.Type.CREATED, e1),
+                        new EmployeeChange(12, EmployeeChange.Type.DELETED, e2),
+                        new EmployeeChange(12, EmployeeChange.Type.CREATED, e3),
+                        new EmployeeChange(13, EmployeeChange.Type.DELETED, e3)),
+                new ChangeFeedPosition("epoch", 13),
+                fetchedAt);
+
+        assertEquals(synced, result);
+        verifyAdvance(from, 13, fetchedAt, List.of(e1), List.of("2", "3"));
+        verifyNoInteractions(hashOps, zSetOps);
+        verify(stringValueOps, never()).increment(any());
+        verify(nearCache).apply(argThat(upserts -> List.copyOf(upserts).equals(List.of(e1))), eq(Set.of("2", "3")));
+        verify(nearCache, never()).update(any());
+        verify(nearCache, never()).remove(any());
+        verify(nearCache).publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+    }
+
+    @Test
+    void testApplyChanges_subscribedReplicas_areNotInvalidated() {
+        cacheProperties.getChanges().getSubscription().setEnabled(true);
+        Employee e1 = employee("1");
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(GENERATION, "epoch", 10);
+        Instant fetchedAt = Instant.now();
+        givenAdvanceResult(1L);
+
+        employeeCache.applyChanges(
+                from,
+                List.of(new EmployeeChange(11, EmployeeChange.Type.CREATED, e1)),
+                new ChangeFeedPosition("epoch", 11),
+                fetchedAt);
+
+        verify(nearCache).apply(argThat(upserts -> List.copyOf(upserts).equals(List.of(e1))), eq(Set.of()));
+        verify(nearCache, never()).publishInvalidation(any());
+    }
+
+    @Test
+    void testApplyToNearCache_foldsChangesWithoutTouchingRedis() {
+        Employee e1 = employee("1");
+        Employee e2 = employee("2");
+
+        employeeCache.applyToNearCache(List.of(
+                new EmployeeChange(11, EmployeeChange.Type.CREATED, e1),
+                new EmployeeChange(12, EmployeeChange.Type.CREATED, e2),
+                new EmployeeChange(13, EmployeeChange.Type.DELETED, e2)));
+
+        verify(nearCache).apply(argThat(upserts -> List.copyOf(upserts).equals(List.of(e1))), eq(Set.of("2")));
+        verify(nearCache, never()).publishInvalidation(any());
+        verifyNoInteractions(hashOps, zSetOps);
+    }
+
+    @Test
+    void testApplyChanges_noChanges_onlyAdvancesPointer() {
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(GENERATION, "epoch", 10);
+        Instant fetchedAt = Instant.now();
+        givenAdvanceResult(1L);
+        when(nearCache.extendSnapshot(fetchedAt)).thenReturn(new EmployeeSnapshot(List.of(), fetchedAt));
+
+        employeeCache.applyChanges(from, List.of(), new ChangeFeedPosition("epoch", 11), fetchedAt);
+
+        verifyAdvance(from, 11, fetchedAt, List.of(), List.of());
+        verifyNoInteractions(hashOps, zSetOps);
+        verify(nearCache, never()).publishInvalidation(any());
+    }
+
+    @Test
+    void testApplyChanges_staleSyncPoint_leavesGenerationUntouched() {
+        Employee e1 = employee("1");
+        // Another replica has already taken this generation from version 5 to 10
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(GENERATION, "epoch", 5);
+        Instant fetchedAt = Instant.now();
+        givenAdvanceResult(0L);
+
+        EmployeeSnapshot result = employeeCache.applyChanges(
+                from,
+                List.of(
+                        new EmployeeChange(6, EmployeeChange.Type.CREATED, e1),
+                        new EmployeeChange(7, EmployeeChange.Type.DELETED, employee("2"))),
+                new ChangeFeedPosition("epoch", 8),
+                fetchedAt);
+
+        assertNull(result);
+        // The changes only ever reach the script, which checks the position before writing any of them
+        verifyAdvance(from, 8, fetchedAt, List.of(e1), List.of("2"));
+        verifyNoInteractions(hashOps, zSetOps);
+        verify(nearCache).invalidateAll();
+        verify(nearCache, never()).apply(any(), any());
+        verify(nearCache, never()).publishInvalidation(any());
+    }
+
+    @Test
+    void testPut_withoutSnapshot_doesNotWrite() {
+        employeeCache.put(employee("1"));
+
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(), any(), anyList(), any(Object[].class));
+        verify(nearCache).invalidateAll();
+    }
+
+    @Test
+    void testPut_withSnapshot_writesCurrentGenerationInOneScript() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        givenGeneration();
+        givenWriteResult(1L);
+
+        employeeCache.put(e1);
+
+        verifyWrite(GENERATION);
+        verify(hashOps, never()).put(any(), any(), any());
+        verify(nearCache).update(e1);
+        verify(nearCache).publishInvalidation("1");
+    }
+
+    @Test
+    void testPut_generationReplacedMidWrite_retriesAgainstNewOne() {
+        Employee e1 = employee("1");
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD))
+                .thenReturn(String.valueOf(GENERATION), String.valueOf(GENERATION + 1));
+        givenWriteResult(0L, 1L);
+
+        employeeCache.put(e1);
+
+        verifyWrite(GENERATION);
+        verifyWrite(GENERATION + 1);
+        verify(nearCache).update(e1);
+    }
+
+    @Test
+    void testPut_generationKeepsBeingReplaced_dropsNearCache() {
+        givenGeneration();
+        givenWriteResult(0L);
+
+        employeeCache.put(employee("1"));
+
+        verify(redisTemplate, times(ServiceConstants.SNAPSHOT_WRITE_ATTEMPTS))
+                .execute(any(RedisScript.class), any(), any(), anyList(), any(Object[].class));
+        verify(nearCache, never()).update(any());
+        verify(nearCache).invalidateAll();
+    }
+
+    @Test
+    void testPutAll_writesEveryEmployeeInOneScript() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        Employee e2 = employee("2");
+        givenGeneration();
+        givenWriteResult(1L);
+
+        employeeCache.putAll(List.of(e1, e2, new Employee()));
+
+        verifyWrite(GENERATION);
+        verify(nearCache).apply(List.of(e1, e2), List.of());
+        verify(nearCache, never()).update(any());
+        verify(nearCache).publishInvalidation("1");
+        verify(nearCache).publishInvalidation("2");
+        verify(nearCache, never()).publishInvalidation(ServiceConstants.INVALIDATE_ALL);
+    }
+
+    @Test
+    void testEvictAll_deletesEveryIdInOneScript() {
+        givenGeneration();
+        givenWriteResult(1L);
+
+        employeeCache.evictAll(List.of("1", "2"));
+
+        verifyWrite(GENERATION);
+        verify(nearCache).apply(List.of(), List.of("1", "2"));
+        verify(nearCache, never()).remove(any());
+        verify(nearCache).publishInvalidation("1");
+        verify(nearCache).publishInvalidation("2");
+    }
+
+    @Test
+    void testEvictAll_empty_doesNothing() {
+        employeeCache.evictAll(List.of());
+
+        verifyNoInteractions(redisTemplate, nearCache);
+    }
+
+    @Test
+    void testEvict() {
+        givenGeneration();
+        givenWriteResult(1L);
+
+        employeeCache.evict("1");
+
+        verifyWrite(GENERATION);
+        verify(nearCache).remove("1");
+        verify(nearCache).publishInvalidation("1");
+    }
+
+    @Test
+    void testWriteArgs_upsertsThenDeletes() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        Employee e2 = employee("2");
+
+        Function<Object, byte[]> values =
+                value -> utf8(value instanceof Employee employee ? "employee:" + employee.getId() : "member:" + value);
+
+        List<String> args = EmployeeCache.writeArgs(GENERATION, List.of(e1, e2), List.of("3"), values).stream()
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .toList();
+
+        assertEquals(
+                List.of(
+                        "7", "2", "1", "employee:1", "member:1", "5000", "2", "employee:2", "member:2", "", "3",
+                        "member:3"),
+                args);
+    }
+
+    @Test
+    void testAdvanceArgs_positionThenUpsertsThenDeletes() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(GENERATION, "epoch", 10);
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+
+        Function<Object, byte[]> values =
+                value -> utf8(value instanceof Employee employee ? "employee:" + employee.getId() : "member:" + value);
+
+        ChangeFeedPosition to = new ChangeFeedPosition("epoch", 12);
+        List<String> args = strings(
+                EmployeeCache.advanceArgs(from, to, fetchedAt, cacheProperties, List.of(e1), List.of("2"), values));
+
+        assertEquals(
+                List.of(
+                        "7",
+                        "epoch",
+                        "10",
+                        "12",
+                        "1700000000000",
+                        String.valueOf(cacheProperties.getSnapshotTtl().toMillis()),
+                        "1",
+                        "1",
+                        "employee:1",
+                        "member:1",
+                        "5000",
+                        "2",
+                        "member:2"),
+                args);
+    }
+
+    private void givenGeneration() {
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD))
+                .thenReturn(String.valueOf(GENERATION));
+    }
+
+    private void givenPointer(Instant fetchedAt) {
+        when(pointerOps.multiGet(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        List.of(
+                                ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD,
+                                ServiceConstants.SNAPSHOT_POINTER_FETCHED_AT_FIELD)))
+                .thenReturn(List.of(String.valueOf(GENERATION), String.valueOf(fetchedAt.toEpochMilli())));
+    }
+
+    private void givenPublishResult(Instant fetchedAt, String etag, long result) {
+        givenPublishResult(fetchedAt, etag, null, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPublishResult(Instant fetchedAt, String etag, Long retired, long result) {
+        when(stringValueOps.increment(ServiceConstants.EMPLOYEE_SNAPSHOT_GENERATION_KEY)).thenReturn(GENERATION);
+        when(stringRedisTemplate.execute(
+                        any(RedisScript.class),
+                        eq(EmployeeCache.publishKeys(GENERATION, retired)),
+                        eq(String.valueOf(GENERATION)),
+                        eq(String.valueOf(fetchedAt.toEpochMilli())),
+                        eq(String.valueOf(cacheProperties.getSnapshotTtl().toMillis())),
+                        eq(String.valueOf(cacheProperties.getRetiredSnapshotTtl().toMillis())),
+                        eq(retired != null ? String.valueOf(retired) : ""),
+                        eq(etag != null ? etag : ""),
+                        eq(""),
+                        eq("")))
+                .thenReturn(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenExtendResult(String etag, Instant fetchedAt, long result) {
+        givenGeneration();
+        when(stringRedisTemplate.execute(
+                        any(RedisScript.class),
+                        eq(List.of(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, SNAPSHOT_KEY, SALARIES_KEY)),
+                        eq(String.valueOf(GENERATION)),
+                        eq(etag),
+                        eq(String.valueOf(fetchedAt.toEpochMilli())),
+                        eq(String.valueOf(cacheProperties.getSnapshotTtl().toMillis())),
+                        eq(""),
+                        eq("")))
+                .thenReturn(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenWriteResult(Long result, Long... more) {
+        when(redisTemplate.execute(
+                        eq(EmployeeCache.WRITE_EMPLOYEES),
+                        any(RedisSerializer.class),
+                        any(RedisSerializer.class),
+                        anyList(),
+                        any(Object[].class)))
+                .thenReturn(result, more);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyWrite(long generation) {
+        verify(redisTemplate)
+                .execute(
+                        eq(EmployeeCache.WRITE_EMPLOYEES),
+                        any(RedisSerializer.class),
+                        any(RedisSerializer.class),
+                        eq(EmployeeCache.generationKeys(generation)),
+                        any(Object[].class));
+    }
+
+    private void givenAdvanceResult(long result) {
+        when(redisTemplate.execute(
+                        eq(EmployeeCache.ADVANCE_SNAPSHOT),
+                        any(RedisSerializer.class),
+                        any(RedisSerializer.class),
+                        anyList(),
+                        any(Object[].class)))
+                .thenReturn(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyAdvance(
+            EmployeeCache.SyncPoint from,
+            long toVersion,
+            Instant fetchedAt,
+            List<Employee> upserts,
+            List<String> deletes) {
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate)
+                .execute(
+                        eq(EmployeeCache.ADVANCE_SNAPSHOT),
+                        any(RedisSerializer.class),
+                        any(RedisSerializer.class),
+                        eq(EmployeeCache.generationKeys(from.generation())),
+                        args.capture());
+
+        RedisSerializer<Object> values = new GenericJackson2JsonRedisSerializer();
+        List<byte[]> expected = EmployeeCache.advanceArgs(
+                from,
+                new ChangeFeedPosition(from.epoch(), toVersion),
+                fetchedAt,
+                cacheProperties,
+                upserts,
+                deletes,
+                values::serialize);
+        assertEquals(strings(expected), strings(Arrays.asList(args.getValue())));
+    }
+
+    private static List<String> strings(List<?> args) {
+        return args.stream()
+                .map(bytes -> new String((byte[]) bytes, StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,183 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class EmployeeNearCacheTest {
+
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private SalaryIndex salaryIndex;
+    private EmployeeNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        salaryIndex = new SalaryIndex();
+        nearCache = new EmployeeNearCache(
+                stringRedisTemplate,
+                mock(RedisMessageListenerContainer.class),
+                List.of(salaryIndex),
+                meterRegistry,
+                new EmployeeCacheProperties());
+    }
+
+    @Test
+    void testUpdateAndRemove_keepSnapshotInSync() {
+        nearCache.cacheSnapshot(new EmployeeSnapshot(List.of(employee("1"), employee("2")), Instant.now()));
+
+        nearCache.update(employee("3"));
+        nearCache.remove("1");
+
+        List<Employee> snapshot = nearCache.getSnapshot().employees();
+        assertEquals(List.of("2", "3"), snapshot.stream().map(Employee::getId).toList());
+        assertNull(nearCache.get("1"));
+        assertNotNull(nearCache.get("3"));
+        assertEquals(Optional.of(List.of("Employee 3", "Employee 2")), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testApply_updatesSnapshotAndIndexesInOnePass() {
+        nearCache.cacheSnapshot(new EmployeeSnapshot(List.of(employee("1"), employee("2")), Instant.now()));
+        Employee replaced = employee("2");
+        replaced.setEmployee_name("Renamed");
+
+        nearCache.apply(List.of(replaced, employee("4")), List.of("1"));
+
+        List<Employee> snapshot = nearCache.getSnapshot().employees();
+        assertEquals(List.of("2", "4"), snapshot.stream().map(Employee::getId).toList());
+        assertEquals("Renamed", nearCache.get("2").getEmployee_name());
+        assertNull(nearCache.get("1"));
+        assertEquals(Optional.of(List.of("Employee 4", "Renamed")), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testRemoteInvalidation_dropsSnapshotAndEmployee() {
+        nearCache.cacheSnapshot(new EmployeeSnapshot(List.of(employee("1"), employee("2")), Instant.now()));
+
+        nearCache.onMessage(message("other-replica|1"), null);
+
+        assertNull(nearCache.getSnapshot());
+        assertNull(nearCache.get("1"));
+        assertNotNull(nearCache.get("2"));
+        assertFalse(salaryIndex.isLoaded());
+    }
+
+    @Test
+    void testRemoteInvalidateAll_dropsEverything() {
+        nearCache.cacheSnapshot(new EmployeeSnapshot(List.of(employee("1")), Instant.now()));
+
+        nearCache.onMessage(message("other-replica|" + ServiceConstants.INVALIDATE_ALL), null);
+
+        assertNull(nearCache.getSnapshot());
+        assertNull(nearCache.get("1"));
+        assertFalse(salaryIndex.isLoaded());
+    }
+
+    @Test
+    void testConcurrentCacheAndInvalidate_indexesFollowSnapshot() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 500; i++) {
+                CountDownLatch start = new CountDownLatch(1);
+                EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(employee("1"), employee("2")), Instant.now());
+                Future<?> cached = executor.submit(() -> {
+                    start.await();
+                    nearCache.cacheSnapshot(snapshot);
+                    return null;
+                });
+                Future<?> invalidated = executor.submit(() -> {
+                    start.await();
+                    nearCache.invalidateAll();
+                    return null;
+                });
+                start.countDown();
+                cached.get();
+                invalidated.get();
+
+                assertEquals(nearCache.getSnapshot() != null, salaryIndex.isLoaded());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testOwnInvalidation_isIgnored() {
+        nearCache.cacheSnapshot(new EmployeeSnapshot(List.of(employee("1")), Instant.now()));
+        nearCache.publishInvalidation("1");
+
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate)
+                .convertAndSend(eq(ServiceConstants.EMPLOYEE_CACHE_INVALIDATION_CHANNEL), published.capture());
+
+        nearCache.onMessage(message(published.getValue()), null);
+
+        assertNotNull(nearCache.getSnapshot());
+        assertNotNull(nearCache.get("1"));
+    }
+
+    @Test
+    void testHitAndMissRates_areExposed() {
+        nearCache.cache(employee("1"));
+        nearCache.get("1");
+        nearCache.get("2");
+
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "employee-near-cache")
+                        .tag("result", "hit")
+                        .functionCounter()
+                        .count());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("cache.gets")
+                        .tag("cache", "employee-near-cache")
+                        .tag("result", "miss")
+                        .functionCounter()
+                        .count());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                ServiceConstants.EMPLOYEE_CACHE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name("Employee " + id);
+        employee.setEmployee_salary(Integer.parseInt(id) * 1000);
+        return employee;
+    }
+}
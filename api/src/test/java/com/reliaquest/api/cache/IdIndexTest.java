@@ -0,0 +1,59 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class IdIndexTest {
+
+    private final IdIndex idIndex = new IdIndex();
+
+    @Test
+    void testNotLoaded_answersNothing() {
+        assertFalse(idIndex.isLoaded());
+        assertEquals(Optional.empty(), idIndex.page(null, 10));
+    }
+
+    @Test
+    void testPage_walksInIdOrder() {
+        Employee a = employee("a");
+        Employee b = employee("b");
+        Employee c = employee("c");
+        idIndex.rebuild(List.of(c, a, b));
+
+        assertEquals(Optional.of(List.of(a, b)), idIndex.page(null, 2));
+        assertEquals(Optional.of(List.of(c)), idIndex.page("b", 2));
+        assertEquals(Optional.of(List.of()), idIndex.page("c", 2));
+    }
+
+    @Test
+    void testPage_afterRemovedId_continuesWithNextId() {
+        idIndex.rebuild(List.of(employee("a"), employee("b"), employee("c")));
+
+        idIndex.remove("b");
+        idIndex.add(employee("bb"));
+
+        assertEquals(List.of("bb", "c"), idIndex.page("b", 10).orElseThrow().stream()
+                .map(Employee::getId)
+                .toList());
+    }
+
+    @Test
+    void testClear_unloads() {
+        idIndex.rebuild(List.of(employee("a")));
+
+        idIndex.clear();
+
+        assertFalse(idIndex.isLoaded());
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,79 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NameTrigramIndexTest {
+
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+
+    @BeforeEach
+    void setUp() {
+        nameIndex.rebuild(List.of(
+                employee("1", "Tiger Nixon"),
+                employee("2", "Garrett Winters"),
+                employee("3", "Ashton Cox"),
+                employee("4", "Cedric Kelly")));
+    }
+
+    @Test
+    void testNotLoaded_answersNothing() {
+        assertEquals(Optional.empty(), new NameTrigramIndex().search("Tiger"));
+    }
+
+    @Test
+    void testSearch_matchesSubstring() {
+        assertEquals(List.of("1"), ids(nameIndex.search("ger Nix")));
+        assertEquals(List.of("3"), ids(nameIndex.search("Ashton Cox")));
+    }
+
+    @Test
+    void testSearch_missingTrigram() {
+        assertTrue(nameIndex.search("Tigon").orElseThrow().isEmpty());
+    }
+
+    @Test
+    void testSearch_verifiesCandidates() {
+        nameIndex.add(employee("5", "Lola Olaf"));
+
+        // Both trigrams of "olaf" occur in "Lola Olaf", but not next to each other
+        assertTrue(nameIndex.search("olaf").orElseThrow().isEmpty());
+        assertEquals(List.of("5"), ids(nameIndex.search("Olaf")));
+    }
+
+    @Test
+    void testSearch_isCaseSensitive() {
+        assertTrue(nameIndex.search("tiger").orElseThrow().isEmpty());
+    }
+
+    @Test
+    void testSearch_shortFragmentScans() {
+        assertEquals(List.of("3"), ids(nameIndex.search("Co")));
+    }
+
+    @Test
+    void testAddAndRemove_updateIncrementally() {
+        nameIndex.add(employee("5", "Airi Satou"));
+        nameIndex.remove("1");
+
+        assertEquals(List.of("5"), ids(nameIndex.search("Satou")));
+        assertTrue(nameIndex.search("Nixon").orElseThrow().isEmpty());
+    }
+
+    private static List<String> ids(Optional<List<Employee>> result) {
+        return result.orElseThrow().stream().map(Employee::getId).sorted().toList();
+    }
+
+    private static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+}
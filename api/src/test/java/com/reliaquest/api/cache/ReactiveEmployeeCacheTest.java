@@ -0,0 +1,244 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveZSetOperations;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveEmployeeCacheTest {
+
+    private static final long GENERATION = 7;
+    private static final String SNAPSHOT_KEY = ServiceConstants.EMPLOYEE_SNAPSHOT_KEY_PREFIX + GENERATION;
+    private static final String SALARIES_KEY = ServiceConstants.EMPLOYEE_SALARIES_KEY_PREFIX + GENERATION;
+
+    @Mock
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Mock
+    private ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+
+    @Mock
+    private ReactiveHashOperations<String, String, Object> hashOps;
+
+    @Mock
+    private ReactiveHashOperations<String, String, String> pointerOps;
+
+    @Mock
+    private ReactiveZSetOperations<String, Object> zSetOps;
+
+    @Mock
+    private EmployeeNearCache nearCache;
+
+    @Mock
+    private SalaryIndex salaryIndex;
+
+    @Mock
+    private NameTrigramIndex nameIndex;
+
+    private ReactiveEmployeeCache employeeCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employeeCache = new ReactiveEmployeeCache(
+                reactiveRedisTemplate, reactiveStringRedisTemplate, nearCache, salaryIndex, nameIndex);
+        when(reactiveRedisTemplate.<String, Object>opsForHash()).thenReturn(hashOps);
+        when(reactiveRedisTemplate.opsForZSet()).thenReturn(zSetOps);
+        when(reactiveStringRedisTemplate.<String, String>opsForHash()).thenReturn(pointerOps);
+        when(reactiveStringRedisTemplate.convertAndSend(any(), any())).thenReturn(Mono.just(1L));
+        RedisSerializationContext<String, Object> serializationContext =
+                RedisSerializationContext.<String, Object>newSerializationContext(new StringRedisSerializer())
+                        .value(new GenericJackson2JsonRedisSerializer())
+                        .build();
+        when(reactiveRedisTemplate.getSerializationContext()).thenReturn(serializationContext);
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD))
+                .thenReturn(Mono.empty());
+    }
+
+    @Test
+    void testGetSnapshot_nearCacheHit_skipsRedis() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(employee("1")), Instant.now());
+        when(nearCache.getSnapshot()).thenReturn(snapshot);
+
+        assertEquals(snapshot, employeeCache.getSnapshot().block());
+        verifyNoInteractions(hashOps, pointerOps);
+    }
+
+    @Test
+    void testGetSnapshot_readsCurrentGeneration() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        Employee e1 = employee("1");
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SnapshotPointer.FIELDS))
+                .thenReturn(Mono.just(List.of(String.valueOf(GENERATION), String.valueOf(fetchedAt.toEpochMilli()))));
+        when(hashOps.values(SNAPSHOT_KEY)).thenReturn(Flux.just(e1));
+        givenGeneration(String.valueOf(GENERATION));
+
+        EmployeeSnapshot result = employeeCache.getSnapshot().block();
+
+        assertEquals(new EmployeeSnapshot(List.of(e1), fetchedAt), result);
+        verify(nearCache).cacheSnapshot(result);
+    }
+
+    @Test
+    void testGetSnapshot_publishedWhileReading_isNotNearCached() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        Employee e1 = employee("1");
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SnapshotPointer.FIELDS))
+                .thenReturn(Mono.just(List.of(String.valueOf(GENERATION), String.valueOf(fetchedAt.toEpochMilli()))));
+        when(hashOps.values(SNAPSHOT_KEY)).thenReturn(Flux.just(e1));
+        givenGeneration(String.valueOf(GENERATION + 1));
+
+        EmployeeSnapshot result = employeeCache.getSnapshot().block();
+
+        assertEquals(new EmployeeSnapshot(List.of(e1), fetchedAt), result);
+        verify(nearCache, never()).cacheSnapshot(any());
+    }
+
+    @Test
+    void testGetSnapshot_buildsIndexesOffTheRedisThread() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        AtomicReference<String> indexingThread = new AtomicReference<>();
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SnapshotPointer.FIELDS))
+                .thenReturn(Mono.just(List.of(String.valueOf(GENERATION), String.valueOf(fetchedAt.toEpochMilli()))));
+        when(hashOps.values(SNAPSHOT_KEY)).thenReturn(Flux.just(employee("1")));
+        givenGeneration(String.valueOf(GENERATION));
+        doAnswer(invocation -> {
+                    indexingThread.set(Thread.currentThread().getName());
+                    return null;
+                })
+                .when(nearCache)
+                .cacheSnapshot(any());
+
+        employeeCache.getSnapshot().block();
+
+        assertTrue(indexingThread.get().startsWith("boundedElastic"), indexingThread.get());
+    }
+
+    @Test
+    void testGetSnapshotFetchedAt_readsPointerWhenNotLoaded() {
+        Instant fetchedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SnapshotPointer.FIELDS))
+                .thenReturn(Mono.just(List.of(String.valueOf(GENERATION), String.valueOf(fetchedAt.toEpochMilli()))));
+
+        assertEquals(fetchedAt, employeeCache.getSnapshotFetchedAt().block());
+        verifyNoInteractions(hashOps);
+    }
+
+    @Test
+    void testGetSnapshot_noPointer_isEmpty() {
+        when(pointerOps.multiGet(ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY, EmployeeCache.SnapshotPointer.FIELDS))
+                .thenReturn(Mono.just(Arrays.asList(null, null)));
+
+        assertNull(employeeCache.getSnapshot().block());
+        verifyNoInteractions(hashOps);
+    }
+
+    @Test
+    void testPut_withoutSnapshot_doesNotWrite() {
+        employeeCache.put(employee("1")).block();
+
+        verifyNoInteractions(hashOps);
+        verify(nearCache).invalidateAll();
+    }
+
+    @Test
+    void testPut_withSnapshot_writesCurrentGenerationInOneScript() {
+        Employee e1 = employee("1");
+        givenGeneration(String.valueOf(GENERATION));
+        givenWriteResult(1L);
+
+        employeeCache.put(e1).block();
+
+        verifyWrite(GENERATION);
+        verify(nearCache).update(e1);
+        verify(reactiveStringRedisTemplate)
+                .convertAndSend(eq(ServiceConstants.EMPLOYEE_CACHE_INVALIDATION_CHANNEL), any());
+    }
+
+    @Test
+    void testPut_generationReplacedMidWrite_retriesAgainstNewOne() {
+        Employee e1 = employee("1");
+        givenGeneration(String.valueOf(GENERATION), String.valueOf(GENERATION + 1));
+        givenWriteResult(0L, 1L);
+
+        employeeCache.put(e1).block();
+
+        verifyWrite(GENERATION);
+        verifyWrite(GENERATION + 1);
+        verify(nearCache).update(e1);
+    }
+
+    @Test
+    void testEvict_removesFromCurrentGeneration() {
+        givenGeneration(String.valueOf(GENERATION));
+        givenWriteResult(1L);
+
+        employeeCache.evict("1").block();
+
+        verifyWrite(GENERATION);
+        verifyNoInteractions(hashOps, zSetOps);
+        verify(nearCache).remove("1");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenGeneration(String generation, String... more) {
+        Mono<String>[] next = Arrays.stream(more).map(Mono::just).toArray(Mono[]::new);
+        when(pointerOps.get(
+                        ServiceConstants.EMPLOYEE_SNAPSHOT_POINTER_KEY,
+                        ServiceConstants.SNAPSHOT_POINTER_GENERATION_FIELD))
+                .thenReturn(Mono.just(generation), next);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenWriteResult(Long result, Long... more) {
+        when(reactiveRedisTemplate.execute(
+                        eq(EmployeeCache.WRITE_EMPLOYEES),
+                        anyList(),
+                        anyList(),
+                        any(RedisElementWriter.class),
+                        any(RedisElementReader.class)))
+                .thenReturn(Flux.just(result), Arrays.stream(more).map(Flux::just).toArray(Flux[]::new));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyWrite(long generation) {
+        verify(reactiveRedisTemplate)
+                .execute(
+                        eq(EmployeeCache.WRITE_EMPLOYEES),
+                        eq(EmployeeCache.generationKeys(generation)),
+                        anyList(),
+                        any(RedisElementWriter.class),
+                        any(RedisElementReader.class));
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,80 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+
+class SalaryIndexTest {
+
+    private final SalaryIndex salaryIndex = new SalaryIndex();
+
+    @Test
+    void testNotLoaded_answersNothing() {
+        assertFalse(salaryIndex.isLoaded());
+        assertEquals(OptionalInt.empty(), salaryIndex.highest());
+        assertEquals(Optional.empty(), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testRebuild_ordersBySalaryDescending() {
+        salaryIndex.rebuild(List.of(
+                employee("1", "Alice", 5000), employee("2", "Bob", 10000), employee("3", "Carol", 7500)));
+
+        assertTrue(salaryIndex.isLoaded());
+        assertEquals(OptionalInt.of(10000), salaryIndex.highest());
+        assertEquals(Optional.of(List.of("Bob", "Carol")), salaryIndex.topNames(2));
+    }
+
+    @Test
+    void testAddAndRemove_updateIncrementally() {
+        salaryIndex.rebuild(List.of(employee("1", "Alice", 5000), employee("2", "Bob", 10000)));
+
+        salaryIndex.add(employee("3", "Carol", 20000));
+        salaryIndex.remove("2");
+
+        assertEquals(OptionalInt.of(20000), salaryIndex.highest());
+        assertEquals(Optional.of(List.of("Carol", "Alice")), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testAdd_replacesExistingEntry() {
+        salaryIndex.rebuild(List.of(employee("1", "Alice", 5000)));
+
+        salaryIndex.add(employee("1", "Alice", 6000));
+
+        assertEquals(OptionalInt.of(6000), salaryIndex.highest());
+        assertEquals(Optional.of(List.of("Alice")), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testEmployeesWithoutSalaryOrName_areSkipped() {
+        salaryIndex.rebuild(List.of(employee("1", null, 9000), employee("2", "Bob", null), employee("3", "Carol", 10)));
+
+        assertEquals(OptionalInt.of(9000), salaryIndex.highest());
+        assertEquals(Optional.of(List.of("Carol")), salaryIndex.topNames(10));
+    }
+
+    @Test
+    void testClear_unloads() {
+        salaryIndex.rebuild(List.of(employee("1", "Alice", 5000)));
+
+        salaryIndex.clear();
+        salaryIndex.add(employee("2", "Bob", 10000));
+
+        assertFalse(salaryIndex.isLoaded());
+    }
+
+    private static Employee employee(String id, String name, Integer salary) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        employee.setEmployee_salary(salary);
+        return employee;
+    }
+}
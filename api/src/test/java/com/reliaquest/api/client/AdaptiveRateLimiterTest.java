@@ -0,0 +1,237 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.config.RateLimitProperties;
+import com.reliaquest.api.constants.ClientConstants;
+import com.reliaquest.api.exception.UpstreamBackoffException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+class AdaptiveRateLimiterTest {
+
+    private final ClientRequest request =
+            ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee")).build();
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ExchangeFunction next;
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        next = mock(ExchangeFunction.class);
+        rateLimiter = new AdaptiveRateLimiter(properties, meterRegistry, clock);
+    }
+
+    @Test
+    void firstCallGoesThroughBeforeAnythingIsLearned() {
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+    }
+
+    @Test
+    void spendsLearnedPermitsThenPacesCalls() {
+        givenResponse(ClientResponse.create(HttpStatus.OK)
+                .header(ClientConstants.RATE_LIMIT_LIMIT_HEADER, "5")
+                .header(ClientConstants.RATE_LIMIT_REMAINING_HEADER, "2")
+                .build());
+
+        rateLimiter.filter(request, next).block();
+
+        assertEquals(5, meterRegistry.get("employee.api.rate.limit").gauge().value());
+        assertEquals(2, meterRegistry.get("employee.api.rate.remaining").gauge().value());
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(properties.getPaceInterval(), rateLimiter.acquire());
+    }
+
+    @Test
+    void holdsCallsUntilRetryAfterHasPassed() {
+        givenResponse(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "3")
+                .build());
+
+        rateLimiter.filter(request, next).block();
+
+        assertEquals(Duration.ofSeconds(3), rateLimiter.acquire());
+        clock.advance(Duration.ofSeconds(3));
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+    }
+
+    @Test
+    void onlyOneHeldCallProbesAResetWindowWithoutLearnedLimit() {
+        rateLimiter.learn(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "3")
+                .build());
+        clock.advance(Duration.ofSeconds(3));
+
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(properties.getPaceInterval(), rateLimiter.acquire());
+
+        rateLimiter.learn(ClientResponse.create(HttpStatus.OK)
+                .header(ClientConstants.RATE_LIMIT_REMAINING_HEADER, "2")
+                .build());
+
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(properties.getPaceInterval(), rateLimiter.acquire());
+    }
+
+    @Test
+    void resetWindowRestartsAtLearnedLimit() {
+        rateLimiter.learn(ClientResponse.create(HttpStatus.OK)
+                .header(ClientConstants.RATE_LIMIT_LIMIT_HEADER, "3")
+                .header(ClientConstants.RATE_LIMIT_REMAINING_HEADER, "0")
+                .header(ClientConstants.RATE_LIMIT_RESET_HEADER, "2")
+                .build());
+        clock.advance(Duration.ofSeconds(2));
+
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+        assertEquals(properties.getPaceInterval(), rateLimiter.acquire());
+    }
+
+    @Test
+    void probeWithoutBudgetHeadersStopsPacing() {
+        rateLimiter.learn(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build());
+        clock.advance(Duration.ofSeconds(1));
+        rateLimiter.acquire();
+
+        rateLimiter.learn(ClientResponse.create(HttpStatus.OK).build());
+
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+    }
+
+    @Test
+    void readsRetryAfterAsHttpDate() {
+        String retryAt = DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                clock.instant().plusSeconds(4).atZone(ZoneOffset.UTC));
+        givenResponse(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, retryAt)
+                .build());
+
+        rateLimiter.filter(request, next).block();
+
+        assertEquals(Duration.ofSeconds(4), rateLimiter.acquire());
+    }
+
+    @Test
+    void usesDefaultBackoffWhenRejectionHasNoRetryAfter() {
+        givenResponse(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build());
+
+        rateLimiter.filter(request, next).block();
+
+        assertEquals(properties.getDefaultBackoff(), rateLimiter.acquire());
+    }
+
+    @Test
+    void failsWithoutCallingUpstreamWhenResetIsBeyondMaxWait() {
+        givenResponse(ClientResponse.create(HttpStatus.OK)
+                .header(ClientConstants.RATE_LIMIT_REMAINING_HEADER, "0")
+                .header(ClientConstants.RATE_LIMIT_RESET_HEADER, "60")
+                .build());
+
+        rateLimiter.filter(request, next).block();
+        Mono<ClientResponse> held = rateLimiter.filter(request, next);
+
+        UpstreamBackoffException e = assertThrows(UpstreamBackoffException.class, held::block);
+        assertEquals(Duration.ofSeconds(60), e.getRetryAfter());
+        verify(next, times(1)).exchange(any());
+    }
+
+    @Test
+    void earlierResponseDoesNotReopenClosedWindow() {
+        rateLimiter.learn(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "10")
+                .build());
+        rateLimiter.learn(ClientResponse.create(HttpStatus.OK)
+                .header(ClientConstants.RATE_LIMIT_REMAINING_HEADER, "3")
+                .build());
+
+        assertEquals(Duration.ofSeconds(10), rateLimiter.acquire());
+    }
+
+    @Test
+    void failedCallReleasesPendingPermit() {
+        rateLimiter.learn(ClientResponse.create(HttpStatus.OK)
+                .header(ClientConstants.RATE_LIMIT_REMAINING_HEADER, "1")
+                .build());
+        when(next.exchange(any())).thenReturn(Mono.error(new IllegalStateException("connection reset")));
+
+        Mono<ClientResponse> failed = rateLimiter.filter(request, next);
+
+        assertThrows(IllegalStateException.class, failed::block);
+        assertEquals(Duration.ZERO, rateLimiter.acquire());
+    }
+
+    @Test
+    void passesEverythingThroughWhenDisabled() {
+        properties.setEnabled(false);
+        givenResponse(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .build());
+
+        rateLimiter.filter(request, next).block();
+        rateLimiter.filter(request, next).block();
+
+        verify(next, times(2)).exchange(any());
+    }
+
+    private void givenResponse(ClientResponse response) {
+        when(next.exchange(any())).thenReturn(Mono.just(response));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
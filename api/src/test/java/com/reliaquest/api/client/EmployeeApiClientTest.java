@@ -1,22 +1,45 @@
 package com.reliaquest.api.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 import com.reliaquest.api.constants.ExceptionConstants;
 import com.reliaquest.api.exception.TooManyRequestsException;
 import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.ConditionalResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeIdRange;
+import com.reliaquest.api.model.EmployeePage;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,6 +97,113 @@ class EmployeeApiClientTest {
         assertEquals(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE, ex.getMessage());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetIfNoneMatch_notModified_sendsEtagAndReturnsNoBody() {
+        ArgumentCaptor<Consumer<HttpHeaders>> headers = ArgumentCaptor.forClass(Consumer.class);
+
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.headers(headers.capture())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(typeRef))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("\"v1\"").build()));
+
+        ConditionalResponse<String> result = employeeApiClient.getIfNoneMatch("/test", "\"v1\"", typeRef);
+
+        assertTrue(result.notModified());
+        assertNull(result.body());
+        HttpHeaders sent = new HttpHeaders();
+        headers.getValue().accept(sent);
+        assertEquals(List.of("\"v1\""), sent.getIfNoneMatch());
+    }
+
+    @Test
+    void testGetIfNoneMatch_modified_returnsBodyWithEtag() {
+        ApiResponse<String> mockResponse = new ApiResponse<>();
+        mockResponse.setData("Success");
+
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.headers(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntity(typeRef))
+                .thenReturn(Mono.just(ResponseEntity.ok().eTag("\"v2\"").body(mockResponse)));
+
+        ConditionalResponse<String> result = employeeApiClient.getIfNoneMatch("/test", "\"v1\"", typeRef);
+
+        assertFalse(result.notModified());
+        assertEquals("Success", result.body());
+        assertEquals("\"v2\"", result.etag());
+    }
+
+    @Test
+    void testStreamIfNoneMatch_notModified_readsNoBody() {
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.headers(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.toEntityFlux(DataBuffer.class))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).body(Flux.<DataBuffer>empty())));
+
+        ConditionalResponse<Flux<Employee>> result = employeeApiClient.streamIfNoneMatch("", "\"v1\"").block();
+
+        assertTrue(result.notModified());
+        assertEquals("\"v1\"", result.etag());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamChanges_resumesAfterLastEventIdAndSkipsHeartbeats() {
+        EmployeeChanges changes = new EmployeeChanges("epoch", 12, false, List.of());
+        ArgumentCaptor<Consumer<HttpHeaders>> headers = ArgumentCaptor.forClass(Consumer.class);
+
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.accept(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.headers(headers.capture())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.httpRequest(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToFlux(any(ParameterizedTypeReference.class)))
+                .thenReturn(Flux.just(
+                        ServerSentEvent.builder().comment("heartbeat").build(),
+                        ServerSentEvent.builder(changes).id("12").build()));
+
+        assertEquals(
+                List.of(changes),
+                employeeApiClient.streamChanges(10L, Duration.ofSeconds(45)).collectList().block());
+        HttpHeaders sent = new HttpHeaders();
+        headers.getValue().accept(sent);
+        assertEquals("10", sent.getFirst("Last-Event-ID"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetPage_sendsCursorRangeAndLimit() {
+        EmployeePage page = new EmployeePage(List.of(new Employee()), "next");
+        ApiResponse<EmployeePage> mockResponse = new ApiResponse<>();
+        mockResponse.setData(page);
+        EmployeeIdRange range = new EmployeeIdRange(null, new UUID(1L << 62, 0));
+        ArgumentCaptor<Function<UriBuilder, URI>> uri = ArgumentCaptor.forClass(Function.class);
+
+        when(requestHeadersUriSpec.uri(uri.capture())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(Mono.just(mockResponse));
+
+        assertEquals(page, employeeApiClient.getPage("abc", range, 50).block());
+        assertEquals(
+                "/page?cursor=abc&to=" + range.to() + "&limit=50",
+                uri.getValue().apply(new DefaultUriBuilderFactory().builder()).toString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetPage_nullData_shouldThrowTooManyRequestsException() {
+        when(requestHeadersUriSpec.uri(any(Function.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(any(ParameterizedTypeReference.class))).thenReturn(Mono.just(new ApiResponse<>()));
+
+        Mono<EmployeePage> page = employeeApiClient.getPage(null, EmployeeIdRange.ALL, 50);
+
+        assertThrows(TooManyRequestsException.class, page::block);
+    }
+
     @Test
     void testPost_success() {
         ApiResponse<String> mockResponse = new ApiResponse<>();
@@ -0,0 +1,94 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.Employee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+class EmployeeStreamDecoderTest {
+
+    private static final String BODY = """
+            {"status":"Successfully processed request.","data":[
+              {"id":"1","employee_name":"Tiger Nixon","employee_salary":320800,"employee_age":61},
+              null,
+              {"id":"2","employee_name":"Garrett Winters","employee_salary":170750,"extra":{"nested":[1,{"a":2}]}}
+            ],"meta":{"data":[{"id":"ignored"}]}}
+            """;
+
+    private final EmployeeStreamDecoder decoder = new EmployeeStreamDecoder(
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+
+    @Test
+    void decode_emitsEachElementOfDataArray() {
+        List<Employee> employees = decoder.decode(chunks(BODY, BODY.length())).collectList().block();
+
+        assertEquals(2, employees.size());
+        assertEquals("Tiger Nixon", employees.get(0).getEmployee_name());
+        assertEquals(320800, employees.get(0).getEmployee_salary());
+        assertEquals("2", employees.get(1).getId());
+    }
+
+    @Test
+    void decode_handlesElementsSplitAcrossBuffers() {
+        List<Employee> employees = decoder.decode(chunks(BODY, 1)).collectList().block();
+
+        assertEquals(List.of("1", "2"), employees.stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    void decode_emitsElementsBeforeBodyEnds() {
+        String head = BODY.substring(0, BODY.indexOf("null"));
+        List<Employee> seen = new ArrayList<>();
+
+        decoder.decode(Flux.concat(chunks(head, head.length()), Flux.never()))
+                .take(1)
+                .doOnNext(seen::add)
+                .blockLast();
+
+        assertEquals("1", seen.get(0).getId());
+    }
+
+    @Test
+    void decode_emptyDataArray() {
+        assertTrue(decoder.decode(chunks("{\"data\":[]}", 4)).collectList().block().isEmpty());
+    }
+
+    @Test
+    void decode_nullData_shouldThrowTooManyRequestsException() {
+        Flux<Employee> employees = decoder.decode(chunks("{\"data\":null,\"status\":\"error\"}", 8));
+
+        assertThrows(TooManyRequestsException.class, employees::blockLast);
+    }
+
+    @Test
+    void decode_truncatedBody_shouldThrowDecodingException() {
+        String truncated = BODY.substring(0, BODY.indexOf("null"));
+
+        Flux<Employee> employees = decoder.decode(chunks(truncated, 16));
+
+        assertThrows(DecodingException.class, employees::blockLast);
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            byte[] chunk = Arrays.copyOfRange(bytes, start, Math.min(start + chunkSize, bytes.length));
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,164 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.constants.ClientConstants;
+import com.reliaquest.api.constants.ExceptionConstants;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.ApiResponse;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveEmployeeApiClientTest {
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private WebClient.RequestBodyUriSpec requestBodyUriSpec;
+
+    @Mock
+    private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
+
+    @Mock
+    private WebClient.RequestHeadersSpec requestHeadersSpec;
+
+    @Mock
+    private WebClient.ResponseSpec responseSpec;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ReactiveEmployeeApiClient employeeApiClient;
+
+    private final ParameterizedTypeReference<ApiResponse<String>> typeRef = new ParameterizedTypeReference<>() {};
+
+    @BeforeEach
+    void setUp() {
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(TooManyRequestsException.class)
+                .build());
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        employeeApiClient = new ReactiveEmployeeApiClient(
+                webClient, retryRegistry, circuitBreakerRegistry, BulkheadRegistry.ofDefaults());
+
+        lenient().when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        lenient().when(webClient.post()).thenReturn(requestBodyUriSpec);
+        lenient().when(webClient.method(HttpMethod.DELETE)).thenReturn(requestBodyUriSpec);
+    }
+
+    @Test
+    void testGet_success() {
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(typeRef)).thenReturn(Mono.just(response("Success")));
+
+        assertEquals("Success", employeeApiClient.get("/test", typeRef).block());
+    }
+
+    @Test
+    void testGet_tooManyRequests_isRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(typeRef))
+                .thenReturn(Mono.defer(() -> attempts.incrementAndGet() < 3
+                        ? Mono.error(tooManyRequests())
+                        : Mono.just(response("Success"))));
+
+        assertEquals("Success", employeeApiClient.get("/test", typeRef).block());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void testGet_tooManyRequestsExhaustsRetries_shouldThrowTooManyRequestsException() {
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(typeRef)).thenReturn(Mono.error(tooManyRequests()));
+
+        TooManyRequestsException ex =
+                assertThrows(TooManyRequestsException.class, () -> employeeApiClient.get("/test", typeRef).block());
+        assertEquals(ExceptionConstants.EXC_TOO_MANY_REQUESTS_MESSAGE, ex.getMessage());
+        verify(webClient, times(3)).get();
+    }
+
+    @Test
+    void testGet_retriedCall_countsOnceTowardCircuitBreaker() {
+        AtomicInteger attempts = new AtomicInteger();
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(typeRef))
+                .thenReturn(Mono.defer(() -> attempts.incrementAndGet() < 3
+                        ? Mono.error(tooManyRequests())
+                        : Mono.just(response("Success"))));
+
+        employeeApiClient.get("/test", typeRef).block();
+
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry
+                .circuitBreaker(ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+                .getMetrics();
+        assertEquals(1, metrics.getNumberOfSuccessfulCalls());
+        assertEquals(0, metrics.getNumberOfFailedCalls());
+    }
+
+    @Test
+    void testGet_circuitOpen_failsFastWithoutCallingUpstream() {
+        circuitBreakerRegistry
+                .circuitBreaker(ClientConstants.EMPLOYEE_API_CIRCUIT_BREAKER)
+                .transitionToOpenState();
+
+        assertThrows(CallNotPermittedException.class, () -> employeeApiClient.get("/test", typeRef).block());
+        verify(webClient, never()).get();
+    }
+
+    @Test
+    void testPost_nullResponse_shouldThrowTooManyRequestsException() {
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(typeRef)).thenReturn(Mono.empty());
+
+        assertThrows(TooManyRequestsException.class, () -> employeeApiClient.post("/test", "body", typeRef).block());
+    }
+
+    @Test
+    void testDelete_isNotRetried() {
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.bodyValue(any())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.bodyToMono(typeRef)).thenReturn(Mono.error(tooManyRequests()));
+
+        assertThrows(TooManyRequestsException.class, () -> employeeApiClient.delete("/test", "body", typeRef).block());
+        verify(webClient, times(1)).method(HttpMethod.DELETE);
+    }
+
+    private static ApiResponse<String> response(String data) {
+        ApiResponse<String> response = new ApiResponse<>();
+        response.setData(data);
+        return response;
+    }
+
+    private static WebClientResponseException tooManyRequests() {
+        return WebClientResponseException.create(429, "Too Many Requests", HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class WebClientConfigTest {
+
+    @Test
+    void uriTag_collapsesEmployeeIds() {
+        assertEquals(
+                "/api/v1/employee/{id}",
+                WebClientConfig.uriTag("/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"));
+    }
+
+    @Test
+    void uriTag_keepsPathsWithoutIds() {
+        assertEquals("/api/v1/employee", WebClientConfig.uriTag("/api/v1/employee"));
+        assertEquals("/api/v1/employee/highestSalary", WebClientConfig.uriTag("/api/v1/employee/highestSalary"));
+    }
+
+    @Test
+    void uriTag_ignoresIdLikePrefixes() {
+        String path = "/api/v1/employee/4a3a170b-22cd-4ac2-aad1-9bb5b34a1507abc";
+
+        assertEquals(path, WebClientConfig.uriTag(path));
+    }
+}
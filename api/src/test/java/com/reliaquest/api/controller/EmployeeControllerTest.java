@@ -1,26 +1,42 @@
 package com.reliaquest.api.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.constants.ControllerConstants;
 import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeesInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeIdsInput;
+import com.reliaquest.api.model.EmployeeSnapshot;
 import com.reliaquest.api.service.EmployeeService;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 class EmployeeControllerTest {
 
     @Mock
     private EmployeeService employeeService;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -34,11 +50,50 @@ class EmployeeControllerTest {
     @Test
     void testGetAllEmployees() {
         List<Employee> employees = List.of(new Employee(), new Employee());
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(employees, Instant.now().minusSeconds(30));
+        when(employeeService.getEmployeeSnapshot()).thenReturn(snapshot);
 
         ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
         assertEquals(200, response.getStatusCodeValue());
         assertEquals(2, response.getBody().size());
+        assertTrue(Long.parseLong(response.getHeaders().getFirst(HttpHeaders.AGE)) >= 30);
+        assertNull(response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void testGetAllEmployees_StaleSnapshot_AddsWarning() {
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(new Employee()), Instant.now().minusSeconds(600))
+                .asStale();
+        when(employeeService.getEmployeeSnapshot()).thenReturn(snapshot);
+
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(ControllerConstants.STALE_RESPONSE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+    }
+
+    @Test
+    void testStreamAllEmployees_WritesOneEmployeePerLine() throws Exception {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        e1.setEmployee_name("Alice");
+        Employee e2 = new Employee();
+        e2.setId("2");
+        e2.setEmployee_name("Bob");
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(List.of(e1, e2), Instant.now().minusSeconds(600)).asStale();
+        when(employeeService.getEmployeeSnapshot()).thenReturn(snapshot);
+
+        ResponseEntity<StreamingResponseBody> response = employeeController.streamAllEmployees();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(ControllerConstants.STALE_RESPONSE_WARNING, response.getHeaders().getFirst(HttpHeaders.WARNING));
+        String[] lines = body.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(e1, objectMapper.readValue(lines[0], Employee.class));
+        assertEquals(e2, objectMapper.readValue(lines[1], Employee.class));
+        assertTrue(body.toString(StandardCharsets.UTF_8).endsWith("\n"));
     }
 
     @Test
@@ -95,6 +150,29 @@ class EmployeeControllerTest {
         assertEquals("John", response.getBody().getEmployee_name());
     }
 
+    @Test
+    void testCreateEmployees() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        Employee created = new Employee();
+        created.setId("201");
+        when(employeeService.createEmployees(List.of(input))).thenReturn(List.of(created));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.createEmployees(new CreateEmployeesInput(List.of(input)));
+        assertEquals(201, response.getStatusCodeValue());
+        assertEquals(List.of(created), response.getBody());
+    }
+
+    @Test
+    void testDeleteEmployeesByIds() {
+        when(employeeService.deleteEmployeesByIds(List.of("1", "2"))).thenReturn(List.of("1"));
+
+        ResponseEntity<List<String>> response =
+                employeeController.deleteEmployeesByIds(new EmployeeIdsInput(List.of("1", "2")));
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(List.of("1"), response.getBody());
+    }
+
     @Test
     void testDeleteEmployeeById() {
         doNothing().when(employeeService).deleteEmployeeById("123");
@@ -0,0 +1,109 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.constants.ControllerConstants;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+class ReactiveEmployeeControllerTest {
+
+    @Mock
+    private ReactiveEmployeeService employeeService;
+
+    @InjectMocks
+    private ReactiveEmployeeController employeeController;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testGetAllEmployees() {
+        List<Employee> employees = List.of(new Employee(), new Employee());
+        EmployeeSnapshot snapshot = new EmployeeSnapshot(employees, Instant.now().minusSeconds(30));
+        when(employeeService.getEmployeeSnapshot()).thenReturn(Mono.just(snapshot));
+
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees().block();
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(2, response.getBody().size());
+        assertTrue(Long.parseLong(response.getHeaders().getFirst(HttpHeaders.AGE)) >= 30);
+    }
+
+    @Test
+    void testGetEmployeePage() {
+        EmployeePage page = new EmployeePage(List.of(new Employee()), "next");
+        when(employeeService.getEmployeePage(null, 1)).thenReturn(Mono.just(page));
+
+        ResponseEntity<EmployeePage> response = employeeController.getEmployeePage(null, 1).block();
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void testGetEmployeeById() {
+        Employee mockEmployee = new Employee();
+        mockEmployee.setId("123");
+        when(employeeService.getEmployeeById("123")).thenReturn(Mono.just(mockEmployee));
+
+        ResponseEntity<Employee> response = employeeController.getEmployeeById("123").block();
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("123", response.getBody().getId());
+    }
+
+    @Test
+    void testGetEmployeeById_errorIsPropagated() {
+        when(employeeService.getEmployeeById("404")).thenReturn(Mono.error(new EmployeeNotFoundException("missing")));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeController.getEmployeeById("404").block());
+    }
+
+    @Test
+    void testGetHighestSalaryOfEmployees() {
+        when(employeeService.getHighestSalary()).thenReturn(Mono.just(100000));
+
+        ResponseEntity<Integer> response = employeeController.getHighestSalaryOfEmployees().block();
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(100000, response.getBody());
+    }
+
+    @Test
+    void testCreateEmployee() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName("John");
+        Employee created = new Employee();
+        created.setEmployee_name("John");
+        when(employeeService.createEmployee(input)).thenReturn(Mono.just(created));
+
+        ResponseEntity<Employee> response = employeeController.createEmployee(input).block();
+        assertEquals(201, response.getStatusCode().value());
+        assertEquals("John", response.getBody().getEmployee_name());
+    }
+
+    @Test
+    void testDeleteEmployeeById() {
+        when(employeeService.deleteEmployeeById("123")).thenReturn(Mono.empty());
+
+        ResponseEntity<String> response = employeeController.deleteEmployeeById("123").block();
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(ControllerConstants.EMPLOYEE_DELETED_SUCCESSFULLY, response.getBody());
+    }
+}
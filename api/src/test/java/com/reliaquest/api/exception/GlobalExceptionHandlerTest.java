@@ -5,9 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.constants.ExceptionConstants;
 import com.reliaquest.api.model.ApiErrorResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +46,16 @@ class GlobalExceptionHandlerTest {
         assertEquals("/api/test", response.getBody().getPath());
     }
 
+    @Test
+    void testHandleInvalidPageRequest() {
+        InvalidPageRequestException ex = new InvalidPageRequestException("Page limit must be between 1 and 1000");
+
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleInvalidPageRequest(ex, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Page limit must be between 1 and 1000", response.getBody().getMessage());
+    }
+
     @Test
     void testHandleTooManyRequests() {
         TooManyRequestsException ex = new TooManyRequestsException("Too many requests");
@@ -53,6 +67,29 @@ class GlobalExceptionHandlerTest {
         assertEquals(429, response.getBody().getStatusCode());
     }
 
+    @Test
+    void testHandleUpstreamBackoff_advertisesReset() {
+        UpstreamBackoffException ex = new UpstreamBackoffException("Backing off", Duration.ofMillis(42_300));
+
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleUpstreamBackoff(ex, request);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("43", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Backing off", response.getBody().getMessage());
+    }
+
+    @Test
+    void testHandleEmployeeApiUnavailable() {
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("employee-api");
+        circuitBreaker.transitionToOpenState();
+        CallNotPermittedException ex = CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleEmployeeApiUnavailable(ex, request);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(ExceptionConstants.EXC_EMPLOYEE_API_UNAVAILABLE, response.getBody().getMessage());
+    }
+
     @Test
     void testHandleWebClientError() {
         WebClientResponseException ex = new WebClientResponseException(
@@ -0,0 +1,95 @@
+package com.reliaquest.api.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.model.EmployeeChanges;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+class EmployeeChangeSubscriberTest {
+
+    private EmployeeApiClient employeeApiClient;
+    private EmployeeService employeeService;
+    private EmployeeCache employeeCache;
+    private EmployeeCacheProperties cacheProperties;
+    private EmployeeChangeSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        employeeApiClient = mock(EmployeeApiClient.class);
+        employeeService = mock(EmployeeService.class);
+        employeeCache = mock(EmployeeCache.class);
+        cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.getChanges().setEnabled(true);
+        cacheProperties.getChanges().getSubscription().setMinReconnectDelay(Duration.ofMillis(10));
+        cacheProperties.getChanges().getSubscription().setMaxReconnectDelay(Duration.ofMillis(50));
+        subscriber = new EmployeeChangeSubscriber(employeeApiClient, employeeService, employeeCache, cacheProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.stop();
+    }
+
+    @Test
+    void testStart_disabledDoesNotSubscribe() {
+        subscriber.start();
+
+        verifyNoInteractions(employeeApiClient, employeeCache);
+    }
+
+    @Test
+    void testStart_withoutChangeFeedDoesNotSubscribe() {
+        cacheProperties.getChanges().setEnabled(false);
+        cacheProperties.getChanges().getSubscription().setEnabled(true);
+
+        subscriber.start();
+
+        verifyNoInteractions(employeeApiClient, employeeCache);
+    }
+
+    @Test
+    void testStart_resumesFromSnapshotAndReconnectsFromLastVersionSeen() {
+        EmployeeChanges first = new EmployeeChanges("epoch", 12, false, List.of());
+        EmployeeChanges second = new EmployeeChanges("epoch", 13, false, List.of());
+        cacheProperties.getChanges().getSubscription().setEnabled(true);
+
+        when(employeeCache.getSyncPoint()).thenReturn(new EmployeeCache.SyncPoint(7, "epoch", 10));
+        when(employeeApiClient.streamChanges(eq(10L), any()))
+                .thenReturn(Flux.just(first).concatWith(Flux.error(new IOException("connection reset"))));
+        when(employeeApiClient.streamChanges(eq(12L), any())).thenReturn(Flux.just(second).concatWith(Flux.never()));
+
+        subscriber.start();
+
+        verify(employeeService, timeout(1000)).applyPushedChanges(10L, first);
+        verify(employeeService, timeout(1000)).applyPushedChanges(12L, second);
+    }
+
+    @Test
+    void testApply_failureStillMovesToPushedVersion() {
+        EmployeeChanges first = new EmployeeChanges("epoch", 12, false, List.of());
+        EmployeeChanges second = new EmployeeChanges("epoch", 13, false, List.of());
+        doThrow(new IllegalStateException("Redis unavailable")).when(employeeService).applyPushedChanges(null, first);
+
+        // Must not propagate, or the stream would be reopened for a failure that is not the connection's
+        subscriber.apply(first);
+        subscriber.apply(second);
+
+        verify(employeeService).applyPushedChanges(12L, second);
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.EmployeeCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.config.BatchProperties;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeesInput;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EmployeeCreateBatcherTest {
+
+    private EmployeeApiClient employeeApiClient;
+    private EmployeeCache employeeCache;
+    private BatchProperties batchProperties;
+    private EmployeeCreateBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        employeeApiClient = mock(EmployeeApiClient.class);
+        employeeCache = mock(EmployeeCache.class);
+        batchProperties = new BatchProperties();
+        batchProperties.setWindow(Duration.ofMillis(10));
+        batcher = new EmployeeCreateBatcher(employeeApiClient, employeeCache, batchProperties);
+    }
+
+    @Test
+    void testCreate_aloneSendsBatchOfOneAfterWindow() {
+        CreateEmployeeInput input = input("Ada");
+        Employee created = employee("1");
+
+        when(employeeApiClient.post(eq("/batch"), eq(new CreateEmployeesInput(List.of(input))), any()))
+                .thenReturn(List.of(created));
+
+        assertEquals(created, batcher.create(input));
+        verify(employeeCache).putAll(List.of(created));
+    }
+
+    @Test
+    void testCreate_concurrentCreatesShareOneCall() throws Exception {
+        CreateEmployeeInput ada = input("Ada");
+        CreateEmployeeInput grace = input("Grace");
+        Employee first = employee("1");
+        Employee second = employee("2");
+        // The batch is sent as soon as it is full, long before the window ends
+        batchProperties.setWindow(Duration.ofSeconds(10));
+        batchProperties.setMaxSize(2);
+
+        when(employeeApiClient.post(eq("/batch"), any(CreateEmployeesInput.class), any()))
+                .thenAnswer(invocation -> {
+                    List<CreateEmployeeInput> inputs = invocation.<CreateEmployeesInput>getArgument(1).getEmployees();
+                    return inputs.stream().map(input -> input == ada ? first : second).toList();
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Employee> adaCreated = executor.submit(() -> batcher.create(ada));
+            Future<Employee> graceCreated = executor.submit(() -> batcher.create(grace));
+
+            assertEquals(first, adaCreated.get(5, TimeUnit.SECONDS));
+            assertEquals(second, graceCreated.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(employeeApiClient, times(1)).post(eq("/batch"), any(), any());
+    }
+
+    @Test
+    void testCreate_upstreamFailureFailsTheCaller() {
+        when(employeeApiClient.post(eq("/batch"), any(), any())).thenThrow(new TooManyRequestsException("throttled"));
+
+        assertThrows(TooManyRequestsException.class, () -> batcher.create(input("Ada")));
+        verify(employeeCache, never()).putAll(any());
+    }
+
+    @Test
+    void testCreate_employeeWithoutIdFailsOnlyItsCaller() {
+        CreateEmployeeInput input = input("Ada");
+
+        when(employeeApiClient.post(eq("/batch"), any(), any())).thenReturn(List.of(new Employee()));
+
+        assertThrows(IllegalStateException.class, () -> batcher.create(input));
+        verify(employeeCache).putAll(List.of());
+    }
+
+    private static CreateEmployeeInput input(String name) {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+}
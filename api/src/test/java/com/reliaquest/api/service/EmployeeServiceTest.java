@@ -1,27 +1,57 @@
 package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.cache.EmployeeCache;
 import com.reliaquest.api.client.EmployeeApiClient;
-import com.reliaquest.api.constants.ServiceConstants;
+import com.reliaquest.api.config.BatchProperties;
+import com.reliaquest.api.config.EmployeeCacheProperties;
 import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.exception.InvalidPageRequestException;
+import com.reliaquest.api.model.ChangeFeedPosition;
+import com.reliaquest.api.model.ConditionalResponse;
 import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.CreateEmployeesInput;
+import com.reliaquest.api.model.DeleteEmployeesInput;
 import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeIdRange;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.ValueOperations;
+import org.mockito.Spy;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 class EmployeeServiceTest {
 
@@ -29,13 +59,19 @@ class EmployeeServiceTest {
     private EmployeeApiClient employeeApiClient;
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private EmployeeCache employeeCache;
 
-    @Mock
-    private ValueOperations<String, Object> valueOps;
+    @Spy
+    private EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
 
     @Mock
-    private SetOperations<String, Object> setOps;
+    private EmployeeCreateBatcher employeeCreateBatcher;
 
     @InjectMocks
     private EmployeeService employeeService;
@@ -43,8 +79,6 @@ class EmployeeServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        when(redisTemplate.opsForValue()).thenReturn(valueOps);
-        when(redisTemplate.opsForSet()).thenReturn(setOps);
     }
 
     @Test
@@ -54,14 +88,12 @@ class EmployeeServiceTest {
         Employee e2 = new Employee();
         e2.setId("2");
 
-        when(setOps.members(ServiceConstants.EMPLOYEE_IDS_KEY)).thenReturn(Set.of("1", "2"));
-        when(valueOps.get("1")).thenReturn(e1);
-        when(valueOps.get("2")).thenReturn(e2);
+        when(employeeCache.getSnapshot()).thenReturn(snapshot(e1, e2));
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertEquals(2, result.size());
-        verify(employeeApiClient, never()).get(any(), any());
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
     }
 
     @Test
@@ -69,21 +101,510 @@ class EmployeeServiceTest {
         Employee e1 = new Employee();
         e1.setId("1");
 
-        when(setOps.members(ServiceConstants.EMPLOYEE_IDS_KEY)).thenReturn(null);
-        when(employeeApiClient.get(any(), any())).thenReturn(List.of(e1));
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1), null));
 
         List<Employee> result = employeeService.getAllEmployees();
 
         assertEquals(1, result.size());
-        verify(valueOps).set("1", e1);
-        verify(setOps).add(ServiceConstants.EMPLOYEE_IDS_KEY, "1");
+        verify(employeeCache).replaceAll(eq(List.of(e1)), any(), any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_BeyondStalenessCeiling_RefreshesSynchronously() {
+        Employee stale = new Employee();
+        stale.setId("1");
+        Employee fresh = new Employee();
+        fresh.setId("2");
+        EmployeeSnapshot staleSnapshot =
+                new EmployeeSnapshot(List.of(stale), Instant.now().minus(Duration.ofHours(1)));
+
+        when(employeeCache.getSnapshot()).thenReturn(staleSnapshot);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(fresh), null));
+
+        assertEquals(List.of(fresh), employeeService.getAllEmployees());
+        verify(employeeCache).replaceAll(eq(List.of(fresh)), any(), any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_WithinStalenessCeiling_ServesCachedSnapshot() {
+        Employee cached = new Employee();
+        cached.setId("1");
+        EmployeeSnapshot olderSnapshot =
+                new EmployeeSnapshot(List.of(cached), Instant.now().minus(Duration.ofMinutes(2)));
+
+        when(employeeCache.getSnapshot()).thenReturn(olderSnapshot);
+
+        EmployeeSnapshot result = employeeService.getEmployeeSnapshot();
+
+        assertEquals(olderSnapshot, result);
+        assertTrue(result.age().toMinutes() >= 2);
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_CircuitOpen_ServesCachedSnapshotAsStale() {
+        Employee cached = new Employee();
+        cached.setId("1");
+        EmployeeSnapshot oldSnapshot = new EmployeeSnapshot(List.of(cached), Instant.now().minus(Duration.ofHours(1)));
+
+        when(employeeCache.getSnapshot()).thenReturn(oldSnapshot);
+        when(employeeApiClient.getIfNoneMatch(any(), any(), any())).thenThrow(callNotPermitted());
+
+        EmployeeSnapshot result = employeeService.getEmployeeSnapshot();
+
+        assertEquals(List.of(cached), result.employees());
+        assertTrue(result.stale());
+        verify(employeeCache, never()).replaceAll(any(), any(), any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_CircuitOpenWithNothingCached_Throws() {
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.getIfNoneMatch(any(), any(), any())).thenThrow(callNotPermitted());
+
+        assertThrows(CallNotPermittedException.class, () -> employeeService.getAllEmployees());
+    }
+
+    @Test
+    void testGetAllEmployees_Streaming_WritesBatchesThenPublishes() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        Employee e2 = new Employee();
+        e2.setId("2");
+        Employee e3 = new Employee();
+        e3.setId("3");
+        EmployeeCache.SnapshotWriter writer = mock(EmployeeCache.SnapshotWriter.class);
+        cacheProperties.getStream().setEnabled(true);
+        cacheProperties.getStream().setBatchSize(2);
+
+        givenPublishedOnlyBy(writer, new EmployeeSnapshot(List.of(e1, e2, e3), Instant.now()));
+        when(employeeCache.openSnapshot()).thenReturn(writer);
+        when(employeeApiClient.streamIfNoneMatch("", null))
+                .thenReturn(Mono.just(ConditionalResponse.modified(Flux.just(e1, e2, e3), null)));
+
+        assertEquals(List.of(e1, e2, e3), employeeService.getAllEmployees());
+        InOrder inOrder = inOrder(writer);
+        inOrder.verify(writer).write(List.of(e1, e2));
+        inOrder.verify(writer).write(List.of(e3));
+        inOrder.verify(writer).publish(any(), any(), any());
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_Paging_WalksEachRangeByCursor() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        Employee e2 = new Employee();
+        e2.setId("2");
+        Employee e3 = new Employee();
+        e3.setId("f");
+        List<EmployeeIdRange> ranges = EmployeeIdRange.split(2);
+        EmployeeCache.SnapshotWriter writer = mock(EmployeeCache.SnapshotWriter.class);
+        cacheProperties.getPaging().setEnabled(true);
+        cacheProperties.getPaging().setParallelism(2);
+        cacheProperties.getPaging().setPageSize(1);
+
+        givenPublishedOnlyBy(writer, new EmployeeSnapshot(List.of(e1, e2, e3), Instant.now()));
+        when(employeeCache.openSnapshot()).thenReturn(writer);
+        when(employeeApiClient.getPage(null, ranges.get(0), 1))
+                .thenReturn(Mono.just(new EmployeePage(List.of(e1), "cursor-1")));
+        when(employeeApiClient.getPage("cursor-1", ranges.get(0), 1))
+                .thenReturn(Mono.just(new EmployeePage(List.of(e2), null)));
+        when(employeeApiClient.getPage(null, ranges.get(1), 1))
+                .thenReturn(Mono.just(new EmployeePage(List.of(e3), null)));
+
+        assertEquals(3, employeeService.getAllEmployees().size());
+        verify(employeeApiClient).getPage("cursor-1", ranges.get(0), 1);
+        verify(writer).publish(any(), any(), any());
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
+    }
+
+    @Test
+    void testGetEmployeePage_FromIndex_ReturnsCursorWhenMoreFollow() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        Employee e2 = new Employee();
+        e2.setId("2");
+
+        when(employeeCache.getPage(null, 2)).thenReturn(Optional.of(List.of(e1, e2)));
+
+        EmployeePage page = employeeService.getEmployeePage(null, 1);
+        assertEquals(List.of(e1), page.getEmployees());
+        assertNotNull(page.getNextCursor());
+
+        when(employeeCache.getPage("1", 2)).thenReturn(Optional.of(List.of(e2)));
+
+        EmployeePage next = employeeService.getEmployeePage(page.getNextCursor(), 1);
+        assertEquals(List.of(e2), next.getEmployees());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void testGetEmployeePage_NotIndexed_PagesSnapshotInIdOrder() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        Employee e2 = new Employee();
+        e2.setId("2");
+
+        when(employeeCache.getPage(null, 11)).thenReturn(Optional.empty());
+        when(employeeCache.getSnapshot()).thenReturn(snapshot(e2, e1));
+
+        EmployeePage page = employeeService.getEmployeePage(null, 10);
+        assertEquals(List.of(e1, e2), page.getEmployees());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetEmployeePage_InvalidRequest_Throws() {
+        assertThrows(InvalidPageRequestException.class, () -> employeeService.getEmployeePage(null, 0));
+        assertThrows(InvalidPageRequestException.class, () -> employeeService.getEmployeePage("not base64!", 10));
+    }
+
+    @Test
+    void testRefreshSnapshot_FetchesEvenWhenFresh() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+
+        when(employeeCache.getSnapshot()).thenReturn(snapshot(e1));
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1), null));
+
+        employeeService.refreshSnapshot();
+
+        verify(employeeApiClient).getIfNoneMatch(any(), any(), any());
+        verify(employeeCache).replaceAll(eq(List.of(e1)), any(), any(), any());
+    }
+
+    @Test
+    void testRefreshSnapshot_NotModified_ExtendsCachedSnapshotWithoutRewrite() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        EmployeeSnapshot extended = snapshot(e1);
+
+        when(employeeCache.getSnapshotEtag()).thenReturn("\"v1\"");
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(eq(""), eq("\"v1\""), any()))
+                .thenReturn(ConditionalResponse.notModified("\"v1\""));
+        when(employeeCache.extendSnapshot(eq("\"v1\""), any(), isNull())).thenReturn(extended);
+
+        assertEquals(extended, employeeService.refreshSnapshot());
+        verify(employeeCache, never()).replaceAll(any(), any(), any(), any());
+        verify(employeeCache, never()).openSnapshot();
+        assertEquals(1, refreshes("not_modified"));
+    }
+
+    @Test
+    void testRefreshSnapshot_Modified_StoresUpstreamEtag() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+
+        when(employeeCache.getSnapshotEtag()).thenReturn("\"v1\"");
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(eq(""), eq("\"v1\""), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1), "\"v2\""));
+
+        assertEquals(List.of(e1), employeeService.refreshSnapshot().employees());
+        verify(employeeCache).replaceAll(eq(List.of(e1)), any(), eq("\"v2\""), isNull());
+        verify(employeeCache, never()).extendSnapshot(any(), any(), any());
+        assertEquals(1, refreshes("modified"));
+    }
+
+    @Test
+    void testRefreshSnapshot_NotModifiedButSnapshotReplaced_FetchesInFull() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+
+        when(employeeCache.getSnapshotEtag()).thenReturn("\"v1\"");
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(eq(""), eq("\"v1\""), any()))
+                .thenReturn(ConditionalResponse.notModified("\"v1\""));
+        when(employeeCache.extendSnapshot(eq("\"v1\""), any(), isNull())).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(eq(""), isNull(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1), "\"v2\""));
+
+        assertEquals(List.of(e1), employeeService.refreshSnapshot().employees());
+        verify(employeeCache).replaceAll(eq(List.of(e1)), any(), eq("\"v2\""), isNull());
+    }
+
+    @Test
+    void testRefreshSnapshot_StreamingNotModified_OpensNoGeneration() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        EmployeeSnapshot extended = snapshot(e1);
+        cacheProperties.getStream().setEnabled(true);
+
+        when(employeeCache.getSnapshotEtag()).thenReturn("\"v1\"");
+        when(employeeApiClient.streamIfNoneMatch("", "\"v1\""))
+                .thenReturn(Mono.just(ConditionalResponse.notModified("\"v1\"")));
+        when(employeeCache.extendSnapshot(eq("\"v1\""), any(), isNull())).thenReturn(extended);
+
+        assertEquals(extended, employeeService.refreshSnapshot());
+        verify(employeeCache, never()).openSnapshot();
+    }
+
+    @Test
+    void testRefreshSnapshot_ChangeFeed_AppliesChangesWithoutFullFetch() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        EmployeeChange created = new EmployeeChange(12, EmployeeChange.Type.CREATED, e1);
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(7, "epoch", 10);
+        EmployeeSnapshot synced = snapshot(e1);
+        cacheProperties.getChanges().setEnabled(true);
+
+        when(employeeCache.getSyncPoint()).thenReturn(from);
+        when(employeeApiClient.get(eq("/changes?since={since}"), any(), eq(10L)))
+                .thenReturn(new EmployeeChanges("epoch", 12, false, List.of(created)));
+        when(employeeCache.applyChanges(eq(from), eq(List.of(created)), eq(new ChangeFeedPosition("epoch", 12)), any()))
+                .thenReturn(synced);
+
+        assertEquals(synced, employeeService.refreshSnapshot());
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
+        verify(employeeCache, never()).openSnapshot();
+        assertEquals(1, refreshes("incremental"));
+    }
+
+    @Test
+    void testRefreshSnapshot_ChangeFeed_SnapshotMovedMeanwhile_ServesItWithoutFullFetch() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(7, "epoch", 10);
+        EmployeeSnapshot published = snapshot(e1);
+        cacheProperties.getChanges().setEnabled(true);
+
+        when(employeeCache.getSyncPoint()).thenReturn(from);
+        when(employeeApiClient.get(eq("/changes?since={since}"), any(), eq(10L)))
+                .thenReturn(new EmployeeChanges("epoch", 12, false, List.of()));
+        when(employeeCache.getSnapshot()).thenReturn(published);
+
+        assertEquals(published, employeeService.refreshSnapshot());
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
+        verify(employeeCache, never()).openSnapshot();
+        assertEquals(0, refreshes("incremental"));
+    }
+
+    @Test
+    void testRefreshSnapshot_ChangeFeedTruncated_ReadsFullListAtFeedHead() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        cacheProperties.getChanges().setEnabled(true);
+
+        when(employeeCache.getSyncPoint()).thenReturn(new EmployeeCache.SyncPoint(7, "epoch", 10));
+        when(employeeApiClient.get(eq("/changes?since={since}"), any(), eq(10L)))
+                .thenReturn(new EmployeeChanges("epoch", 50, true, List.of()));
+        when(employeeApiClient.get(eq("/changes"), any()))
+                .thenReturn(new EmployeeChanges("epoch", 50, false, List.of()));
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1), "\"v2\""));
+
+        assertEquals(List.of(e1), employeeService.refreshSnapshot().employees());
+        verify(employeeCache)
+                .replaceAll(eq(List.of(e1)), any(), eq("\"v2\""), eq(new ChangeFeedPosition("epoch", 50)));
+        verify(employeeCache, never()).applyChanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void testRefreshSnapshot_ChangeFeedFromAnotherEpoch_ReadsFullList() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        cacheProperties.getChanges().setEnabled(true);
+
+        when(employeeCache.getSyncPoint()).thenReturn(new EmployeeCache.SyncPoint(7, "before-restart", 10));
+        when(employeeApiClient.get(eq("/changes?since={since}"), any(), eq(10L)))
+                .thenReturn(new EmployeeChanges("after-restart", 10, false, List.of()));
+        when(employeeApiClient.get(eq("/changes"), any()))
+                .thenReturn(new EmployeeChanges("after-restart", 10, false, List.of()));
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1), null));
+
+        assertEquals(List.of(e1), employeeService.refreshSnapshot().employees());
+        verify(employeeCache, never()).applyChanges(any(), any(), any(), any());
+    }
+
+    @Test
+    void testApplyPushedChanges_SkipsChangesTheSnapshotAlreadyHolds() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        Employee e2 = new Employee();
+        e2.setId("2");
+        EmployeeChange held = new EmployeeChange(11, EmployeeChange.Type.CREATED, e1);
+        EmployeeChange missing = new EmployeeChange(12, EmployeeChange.Type.DELETED, e2);
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(7, "epoch", 11);
+
+        when(employeeCache.getSyncPoint()).thenReturn(from);
+        when(employeeCache.applyChanges(eq(from), eq(List.of(missing)), eq(new ChangeFeedPosition("epoch", 12)), any()))
+                .thenReturn(snapshot(e1));
+
+        employeeService.applyPushedChanges(10L, new EmployeeChanges("epoch", 12, false, List.of(held, missing)));
+
+        verify(employeeCache)
+                .applyChanges(eq(from), eq(List.of(missing)), eq(new ChangeFeedPosition("epoch", 12)), any());
+        verifyNoInteractions(employeeApiClient);
+        assertEquals(1, refreshes("pushed"));
+    }
+
+    @Test
+    void testApplyPushedChanges_SnapshotMovedMeanwhile_IsNotCounted() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        EmployeeChange created = new EmployeeChange(12, EmployeeChange.Type.CREATED, e1);
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(7, "epoch", 11);
+
+        when(employeeCache.getSyncPoint()).thenReturn(from);
+        when(employeeCache.applyChanges(eq(from), eq(List.of(created)), eq(new ChangeFeedPosition("epoch", 12)), any()))
+                .thenReturn(null);
+
+        employeeService.applyPushedChanges(11L, new EmployeeChanges("epoch", 12, false, List.of(created)));
+
+        verifyNoInteractions(employeeApiClient);
+        assertEquals(0, refreshes("pushed"));
+    }
+
+    @Test
+    void testApplyPushedChanges_SnapshotAtPushedVersion_OnlyCatchesUpNearCache() {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        EmployeeChange written = new EmployeeChange(12, EmployeeChange.Type.CREATED, e1);
+        when(employeeCache.getSyncPoint()).thenReturn(new EmployeeCache.SyncPoint(7, "epoch", 12));
+
+        employeeService.applyPushedChanges(10L, new EmployeeChanges("epoch", 12, false, List.of(written)));
+
+        verify(employeeCache).applyToNearCache(List.of(written));
+        verify(employeeCache, never()).applyChanges(any(), any(), any(), any());
+        verifyNoInteractions(employeeApiClient);
+        assertEquals(0, refreshes("pushed"));
+    }
+
+    @Test
+    void testApplyPushedChanges_SnapshotBehindPush_CatchesUpThroughRefresh() {
+        EmployeeCache.SyncPoint from = new EmployeeCache.SyncPoint(7, "epoch", 8);
+        cacheProperties.getChanges().setEnabled(true);
+
+        when(employeeCache.getSyncPoint()).thenReturn(from);
+        when(employeeApiClient.get(eq("/changes?since={since}"), any(), eq(8L)))
+                .thenReturn(new EmployeeChanges("epoch", 12, false, List.of()));
+        when(employeeCache.applyChanges(eq(from), eq(List.of()), eq(new ChangeFeedPosition("epoch", 12)), any()))
+                .thenReturn(snapshot());
+
+        employeeService.applyPushedChanges(10L, new EmployeeChanges("epoch", 12, false, List.of()));
+
+        verify(employeeApiClient).get(eq("/changes?since={since}"), any(), eq(8L));
+        assertEquals(1, refreshes("incremental"));
+        assertEquals(0, refreshes("pushed"));
+    }
+
+    @Test
+    void testGetAllEmployees_ConcurrentMisses_FetchOnce() throws Exception {
+        Employee e1 = new Employee();
+        e1.setId("1");
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return ConditionalResponse.modified(List.of(e1), null);
+                });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Employee>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> employeeService.getAllEmployees()));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<List<Employee>> result : results) {
+                assertEquals(List.of(e1), result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(employeeApiClient, times(1)).getIfNoneMatch(any(), any(), any());
+        verify(employeeCache, times(1)).replaceAll(eq(List.of(e1)), any(), any(), any());
+    }
+
+    @Test
+    void testRefreshSnapshot_DuringLoad_FetchesAgain() throws Exception {
+        Employee loaded = new Employee();
+        loaded.setId("1");
+        Employee refreshed = new Employee();
+        refreshed.setId("2");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    loading.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return ConditionalResponse.modified(List.of(loaded), null);
+                })
+                .thenReturn(ConditionalResponse.modified(List.of(refreshed), null));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Employee>> load = executor.submit(() -> employeeService.getAllEmployees());
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            // Joining the load would hand back whatever it settles for instead of a fresh list
+            assertEquals(List.of(refreshed), employeeService.refreshSnapshot().employees());
+
+            release.countDown();
+            assertEquals(List.of(loaded), load.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(employeeApiClient, times(2)).getIfNoneMatch(any(), any(), any());
+    }
+
+    @Test
+    void testSearchEmployeesByName_FromIndex() {
+        Employee e1 = new Employee();
+        e1.setEmployee_name("Tiger Nixon");
+        when(employeeCache.searchByName("Nix")).thenReturn(Optional.of(List.of(e1)));
+
+        assertEquals(List.of(e1), employeeService.searchEmployeesByName("Nix"));
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void testSearchEmployeesByName_IndexBeyondStalenessCeiling_RefreshesFirst() {
+        Employee fresh = new Employee();
+        fresh.setId("1");
+        fresh.setEmployee_name("Tiger Nixon");
+        EmployeeSnapshot staleSnapshot = new EmployeeSnapshot(List.of(), Instant.now().minus(Duration.ofHours(1)));
+
+        when(employeeCache.getSnapshotFetchedAt()).thenReturn(staleSnapshot.fetchedAt());
+        when(employeeCache.getSnapshot()).thenReturn(staleSnapshot);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(fresh), null));
+        when(employeeCache.searchByName("Nix")).thenReturn(Optional.of(List.of(fresh)));
+
+        assertEquals(List.of(fresh), employeeService.searchEmployeesByName("Nix"));
+        InOrder inOrder = inOrder(employeeCache);
+        inOrder.verify(employeeCache).replaceAll(eq(List.of(fresh)), any(), any(), any());
+        inOrder.verify(employeeCache).searchByName("Nix");
+    }
+
+    @Test
+    void testSearchEmployeesByName_NotIndexed_ScansSnapshot() {
+        Employee e1 = new Employee();
+        e1.setEmployee_name("Tiger Nixon");
+        Employee e2 = new Employee();
+        e2.setEmployee_name("Ashton Cox");
+        when(employeeCache.getSnapshot()).thenReturn(snapshot(e1, e2));
+
+        assertEquals(List.of(e1), employeeService.searchEmployeesByName("Nix"));
     }
 
     @Test
     void testGetEmployeeById_CacheHit() {
         Employee emp = new Employee();
         emp.setId("101");
-        when(valueOps.get("101")).thenReturn(emp);
+        when(employeeCache.get("101")).thenReturn(emp);
 
         Employee result = employeeService.getEmployeeById("101");
         assertEquals("101", result.getId());
@@ -92,7 +613,7 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeeById_NotFound() {
-        when(valueOps.get("404")).thenReturn(null);
+        when(employeeCache.get("404")).thenReturn(null);
 
         WebClientResponseException notFoundException = WebClientResponseException.create(
                 HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null);
@@ -109,8 +630,9 @@ class EmployeeServiceTest {
         Employee e2 = new Employee();
         e2.setEmployee_salary(10000);
 
-        when(setOps.members(any())).thenReturn(null);
-        when(employeeApiClient.get(any(), any())).thenReturn(List.of(e1, e2));
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1, e2), null));
 
         int result = employeeService.getHighestSalary();
         assertEquals(10000, result);
@@ -125,13 +647,74 @@ class EmployeeServiceTest {
         e2.setEmployee_name("Bob");
         e2.setEmployee_salary(10000);
 
-        when(setOps.members(any())).thenReturn(null);
-        when(employeeApiClient.get(any(), any())).thenReturn(List.of(e1, e2));
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1, e2), null));
 
         List<String> result = employeeService.getTopTenHighestEarningEmployeeNames();
         assertEquals(List.of("Bob", "Alice"), result);
     }
 
+    @Test
+    void testGetHighestSalary_FromIndex() {
+        when(employeeCache.getHighestSalary()).thenReturn(OptionalInt.of(20000));
+
+        assertEquals(20000, employeeService.getHighestSalary());
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void testGetHighestSalary_IndexBeyondStalenessCeiling_RefreshesFirst() {
+        Employee fresh = new Employee();
+        fresh.setId("1");
+        fresh.setEmployee_salary(30000);
+        EmployeeSnapshot staleSnapshot = new EmployeeSnapshot(List.of(), Instant.now().minus(Duration.ofHours(1)));
+
+        when(employeeCache.getSnapshotFetchedAt()).thenReturn(staleSnapshot.fetchedAt());
+        when(employeeCache.getSnapshot()).thenReturn(staleSnapshot);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(fresh), null));
+        when(employeeCache.getHighestSalary()).thenReturn(OptionalInt.of(30000));
+
+        assertEquals(30000, employeeService.getHighestSalary());
+        InOrder inOrder = inOrder(employeeCache);
+        inOrder.verify(employeeCache).replaceAll(eq(List.of(fresh)), any(), any(), any());
+        inOrder.verify(employeeCache).getHighestSalary();
+    }
+
+    @Test
+    void testGetHighestSalary_IndexWithinStalenessCeiling_DoesNotRefresh() {
+        when(employeeCache.getSnapshotFetchedAt()).thenReturn(Instant.now().minus(Duration.ofMinutes(2)));
+        when(employeeCache.getHighestSalary()).thenReturn(OptionalInt.of(20000));
+
+        assertEquals(20000, employeeService.getHighestSalary());
+        verify(employeeApiClient, never()).getIfNoneMatch(any(), any(), any());
+    }
+
+    @Test
+    void testTopHighestEarningEmployeeNames_FromIndex() {
+        when(employeeCache.getTopEarnerNames(3)).thenReturn(Optional.of(List.of("Bob", "Alice", "Carol")));
+
+        assertEquals(List.of("Bob", "Alice", "Carol"), employeeService.getTopHighestEarningEmployeeNames(3));
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void testTopHighestEarningEmployeeNames_RespectsLimit() {
+        Employee e1 = new Employee();
+        e1.setEmployee_name("Alice");
+        e1.setEmployee_salary(5000);
+        Employee e2 = new Employee();
+        e2.setEmployee_name("Bob");
+        e2.setEmployee_salary(10000);
+
+        when(employeeCache.getSnapshot()).thenReturn(null);
+        when(employeeApiClient.<List<Employee>>getIfNoneMatch(any(), any(), any()))
+                .thenReturn(ConditionalResponse.modified(List.of(e1, e2), null));
+
+        assertEquals(List.of("Bob"), employeeService.getTopHighestEarningEmployeeNames(1));
+    }
+
     @Test
     void testCreateEmployee() {
         CreateEmployeeInput input = new CreateEmployeeInput();
@@ -143,8 +726,31 @@ class EmployeeServiceTest {
         Employee result = employeeService.createEmployee(input);
 
         assertEquals("201", result.getId());
-        verify(valueOps).set("201", created);
-        verify(setOps).add(ServiceConstants.EMPLOYEE_IDS_KEY, "201");
+        verify(employeeCache).put(created);
+    }
+
+    @Test
+    void testCreateEmployee_Batching_JoinsBatchInsteadOfPostingAlone() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        Employee created = new Employee();
+        created.setId("201");
+        batchProperties.setEnabled(true);
+
+        when(employeeCreateBatcher.create(input)).thenReturn(created);
+
+        assertEquals(created, employeeService.createEmployee(input));
+        verify(employeeApiClient, never()).post(any(), any(), any());
+        verify(employeeCache, never()).put(any());
+    }
+
+    @Test
+    void testCreateEmployee_CircuitOpen_FailsFast() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+
+        when(employeeApiClient.post(any(), eq(input), any())).thenThrow(callNotPermitted());
+
+        assertThrows(CallNotPermittedException.class, () -> employeeService.createEmployee(input));
+        verify(employeeCache, never()).put(any());
     }
 
     @Test
@@ -153,13 +759,113 @@ class EmployeeServiceTest {
         emp.setId("301");
         emp.setEmployee_name("John");
 
-        when(valueOps.get("301")).thenReturn(null);
+        when(employeeCache.get("301")).thenReturn(null);
         when(employeeApiClient.get(any(), any(), eq("301"))).thenReturn(emp);
 
         employeeService.deleteEmployeeById("301");
 
         verify(employeeApiClient).delete(any(), any(), any());
-        verify(redisTemplate).delete("301");
-        verify(setOps).remove(ServiceConstants.EMPLOYEE_IDS_KEY, "301");
+        verify(employeeCache).evict("301");
+    }
+
+    @Test
+    void testCreateEmployees_PostsOneBatchPerMaxSize() {
+        batchProperties.setMaxSize(2);
+        CreateEmployeeInput i1 = new CreateEmployeeInput();
+        i1.setName("One");
+        CreateEmployeeInput i2 = new CreateEmployeeInput();
+        i2.setName("Two");
+        CreateEmployeeInput i3 = new CreateEmployeeInput();
+        i3.setName("Three");
+        Employee e1 = new Employee();
+        e1.setId("1");
+        Employee e2 = new Employee();
+        e2.setId("2");
+        Employee e3 = new Employee();
+        e3.setId("3");
+
+        when(employeeApiClient.post(eq("/batch"), eq(new CreateEmployeesInput(List.of(i1, i2))), any()))
+                .thenReturn(List.of(e1, e2));
+        when(employeeApiClient.post(eq("/batch"), eq(new CreateEmployeesInput(List.of(i3))), any()))
+                .thenReturn(List.of(e3));
+
+        assertEquals(List.of(e1, e2, e3), employeeService.createEmployees(List.of(i1, i2, i3)));
+        verify(employeeCache).putAll(List.of(e1, e2));
+        verify(employeeCache).putAll(List.of(e3));
+    }
+
+    @Test
+    void testCreateEmployees_ShortBatch_FailsWithoutCaching() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+
+        when(employeeApiClient.post(eq("/batch"), any(), any())).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> employeeService.createEmployees(List.of(input)));
+        verify(employeeCache, never()).putAll(any());
+    }
+
+    @Test
+    void testDeleteEmployeesByIds_DeletesByNameInBatchesAndEvictsOncePerBatch() {
+        batchProperties.setMaxSize(2);
+        Employee e1 = named("1", "Ann");
+        Employee e2 = named("2", "Ben");
+        Employee e3 = named("3", "Cid");
+        when(employeeCache.get("1")).thenReturn(e1);
+        when(employeeCache.get("2")).thenReturn(e2);
+        when(employeeCache.get("3")).thenReturn(e3);
+        when(employeeApiClient.delete(eq("/batch"), eq(new DeleteEmployeesInput(List.of("Ann", "Ben"))), any()))
+                .thenReturn(List.of(true, false));
+        when(employeeApiClient.delete(eq("/batch"), eq(new DeleteEmployeesInput(List.of("Cid"))), any()))
+                .thenReturn(List.of(true));
+
+        List<String> deleted = employeeService.deleteEmployeesByIds(List.of("1", "2", "1", "3"));
+
+        assertEquals(List.of("1", "3"), deleted);
+        verify(employeeCache).evictAll(List.of("1", "2"));
+        verify(employeeCache).evictAll(List.of("3"));
+    }
+
+    @Test
+    void testDeleteEmployeesByIds_UnknownId_DeletesNothing() {
+        when(employeeCache.get("1")).thenReturn(named("1", "Ann"));
+        when(employeeCache.get("404")).thenReturn(null);
+        when(employeeApiClient.get(any(), any(), eq("404"))).thenReturn(null);
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.deleteEmployeesByIds(List.of("1", "404")));
+        verify(employeeApiClient, never()).delete(any(), any(), any());
+        verify(employeeCache, never()).evictAll(any());
+    }
+
+    private static Employee named(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setEmployee_name(name);
+        return employee;
+    }
+
+    /**
+     * The cache holds no snapshot until {@code writer} publishes, and {@code published} after that.
+     */
+    private void givenPublishedOnlyBy(EmployeeCache.SnapshotWriter writer, EmployeeSnapshot published) {
+        AtomicBoolean publishedYet = new AtomicBoolean();
+        when(writer.publish(any(), any(), any())).thenAnswer(invocation -> {
+            publishedYet.set(true);
+            return true;
+        });
+        when(employeeCache.getSnapshot()).thenAnswer(invocation -> publishedYet.get() ? published : null);
+    }
+
+    private static CallNotPermittedException callNotPermitted() {
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("employee-api");
+        circuitBreaker.transitionToOpenState();
+        return CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+    }
+
+    private static EmployeeSnapshot snapshot(Employee... employees) {
+        return new EmployeeSnapshot(List.of(employees), Instant.now());
+    }
+
+    private double refreshes(String result) {
+        return meterRegistry.counter(EmployeeService.REFRESHES_METRIC, "result", result).count();
     }
 }
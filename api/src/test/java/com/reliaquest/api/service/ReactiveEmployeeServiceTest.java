@@ -0,0 +1,282 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.cache.ReactiveEmployeeCache;
+import com.reliaquest.api.client.ReactiveEmployeeApiClient;
+import com.reliaquest.api.config.BatchProperties;
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.exception.EmployeeNotFoundException;
+import com.reliaquest.api.model.CreateEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeePage;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+class ReactiveEmployeeServiceTest {
+
+    @Mock
+    private ReactiveEmployeeApiClient employeeApiClient;
+
+    @Mock
+    private ReactiveEmployeeCache employeeCache;
+
+    @Mock
+    private EmployeeService blockingEmployeeService;
+
+    @Spy
+    private EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+
+    @Spy
+    private BatchProperties batchProperties = new BatchProperties();
+
+    @Mock
+    private EmployeeCreateBatcher employeeCreateBatcher;
+
+    @InjectMocks
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(employeeCache.getSnapshot()).thenReturn(Mono.empty());
+        when(employeeCache.getSnapshotFetchedAt()).thenReturn(Mono.empty());
+        when(employeeCache.get(any())).thenReturn(Mono.empty());
+        when(employeeCache.getHighestSalary()).thenReturn(Mono.empty());
+        when(employeeCache.getTopEarnerNames(anyInt())).thenReturn(Mono.empty());
+        when(employeeCache.put(any())).thenReturn(Mono.empty());
+        when(employeeCache.evict(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    void testGetAllEmployees_CacheHit() {
+        Employee e1 = employee("1");
+        when(employeeCache.getSnapshot()).thenReturn(Mono.just(snapshot(e1)));
+
+        assertEquals(List.of(e1), employeeService.getAllEmployees().block());
+        verify(employeeApiClient, never()).get(any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_CacheMiss_RefreshesThroughBlockingService() {
+        Employee e1 = employee("1");
+        when(blockingEmployeeService.refreshSnapshot()).thenReturn(snapshot(e1));
+
+        assertEquals(List.of(e1), employeeService.getAllEmployees().block());
+        verify(blockingEmployeeService).refreshSnapshot();
+        verify(employeeApiClient, never()).get(any(), any());
+    }
+
+    @Test
+    void testGetAllEmployees_BeyondStalenessCeiling_Refreshes() {
+        Employee stale = employee("1");
+        Employee fresh = employee("2");
+        when(employeeCache.getSnapshot())
+                .thenReturn(Mono.just(new EmployeeSnapshot(List.of(stale), Instant.now().minus(Duration.ofHours(1)))));
+        when(blockingEmployeeService.refreshSnapshot()).thenReturn(snapshot(fresh));
+
+        assertEquals(List.of(fresh), employeeService.getAllEmployees().block());
+    }
+
+    @Test
+    void testGetEmployeeSnapshot_CircuitOpen_ServesCachedSnapshotAsStale() {
+        Employee cached = employee("1");
+        when(employeeCache.getSnapshot())
+                .thenReturn(Mono.just(new EmployeeSnapshot(List.of(cached), Instant.now().minus(Duration.ofHours(1)))));
+        when(blockingEmployeeService.refreshSnapshot()).thenThrow(callNotPermitted());
+
+        EmployeeSnapshot result = employeeService.getEmployeeSnapshot().block();
+
+        assertEquals(List.of(cached), result.employees());
+        assertTrue(result.stale());
+    }
+
+    @Test
+    void testGetEmployeeSnapshot_CircuitOpenWithNothingCached_Errors() {
+        when(blockingEmployeeService.refreshSnapshot()).thenThrow(callNotPermitted());
+
+        assertThrows(CallNotPermittedException.class, () -> employeeService.getAllEmployees().block());
+    }
+
+    @Test
+    void testGetAllEmployees_ConcurrentMisses_RefreshOnce() throws Exception {
+        Employee e1 = employee("1");
+        CountDownLatch release = new CountDownLatch(1);
+        when(blockingEmployeeService.refreshSnapshot()).thenAnswer(invocation -> {
+            release.await();
+            return snapshot(e1);
+        });
+
+        CompletableFuture<List<Employee>> first = employeeService.getAllEmployees().toFuture();
+        CompletableFuture<List<Employee>> second = employeeService.getAllEmployees().toFuture();
+        release.countDown();
+
+        assertEquals(List.of(e1), first.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(e1), second.get(5, TimeUnit.SECONDS));
+        verify(blockingEmployeeService, times(1)).refreshSnapshot();
+    }
+
+    @Test
+    void testSearchEmployeesByName_FromIndex() {
+        Employee e1 = employee("1");
+        when(employeeCache.searchByName("Nix")).thenReturn(Optional.of(List.of(e1)));
+
+        assertEquals(List.of(e1), employeeService.searchEmployeesByName("Nix").block());
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void testSearchEmployeesByName_NotIndexed_ScansSnapshot() {
+        Employee e1 = employee("1");
+        e1.setEmployee_name("Tiger Nixon");
+        Employee e2 = employee("2");
+        e2.setEmployee_name("Ashton Cox");
+        when(employeeCache.getSnapshot()).thenReturn(Mono.just(snapshot(e1, e2)));
+
+        assertEquals(List.of(e1), employeeService.searchEmployeesByName("Nix").block());
+    }
+
+    @Test
+    void testGetEmployeeById_CacheHit() {
+        Employee emp = employee("101");
+        when(employeeCache.get("101")).thenReturn(Mono.just(emp));
+
+        assertEquals(emp, employeeService.getEmployeeById("101").block());
+        verify(employeeApiClient, never()).get(any(), any(), any());
+    }
+
+    @Test
+    void testGetEmployeeById_NotFound() {
+        WebClientResponseException notFoundException = WebClientResponseException.create(
+                HttpStatus.NOT_FOUND.value(), "Not Found", HttpHeaders.EMPTY, null, null);
+        when(employeeApiClient.<Employee>get(eq("/{id}"), any(), eq("404"))).thenReturn(Mono.error(notFoundException));
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.getEmployeeById("404").block());
+    }
+
+    @Test
+    void testGetHighestSalary_FromIndex() {
+        when(employeeCache.getHighestSalary()).thenReturn(Mono.just(20000));
+
+        assertEquals(20000, employeeService.getHighestSalary().block());
+        verify(employeeCache, never()).getSnapshot();
+    }
+
+    @Test
+    void testGetHighestSalary_IndexBeyondStalenessCeiling_RefreshesFirst() {
+        EmployeeSnapshot staleSnapshot = new EmployeeSnapshot(List.of(), Instant.now().minus(Duration.ofHours(1)));
+        when(employeeCache.getSnapshotFetchedAt()).thenReturn(Mono.just(staleSnapshot.fetchedAt()));
+        when(employeeCache.getSnapshot()).thenReturn(Mono.just(staleSnapshot));
+        when(blockingEmployeeService.refreshSnapshot()).thenReturn(snapshot(employee("1")));
+        when(employeeCache.getHighestSalary()).thenReturn(Mono.just(30000));
+
+        assertEquals(30000, employeeService.getHighestSalary().block());
+        InOrder inOrder = inOrder(blockingEmployeeService, employeeCache);
+        inOrder.verify(blockingEmployeeService).refreshSnapshot();
+        inOrder.verify(employeeCache).getHighestSalary();
+    }
+
+    @Test
+    void testGetHighestSalary_NotIndexed_ScansSnapshot() {
+        Employee e1 = employee("1");
+        e1.setEmployee_salary(5000);
+        Employee e2 = employee("2");
+        e2.setEmployee_salary(10000);
+        when(employeeCache.getSnapshot()).thenReturn(Mono.just(snapshot(e1, e2)));
+
+        assertEquals(10000, employeeService.getHighestSalary().block());
+    }
+
+    @Test
+    void testTopHighestEarningEmployeeNames_NotIndexed_RespectsLimit() {
+        Employee e1 = employee("1");
+        e1.setEmployee_name("Alice");
+        e1.setEmployee_salary(5000);
+        Employee e2 = employee("2");
+        e2.setEmployee_name("Bob");
+        e2.setEmployee_salary(10000);
+        when(employeeCache.getSnapshot()).thenReturn(Mono.just(snapshot(e1, e2)));
+
+        assertEquals(List.of("Bob"), employeeService.getTopHighestEarningEmployeeNames(1).block());
+    }
+
+    @Test
+    void testCreateEmployee() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        Employee created = employee("201");
+        when(employeeApiClient.<Employee>post(any(), eq(input), any())).thenReturn(Mono.just(created));
+
+        assertEquals(created, employeeService.createEmployee(input).block());
+        verify(employeeCache).put(created);
+    }
+
+    @Test
+    void testCreateEmployee_Batching_JoinsSharedBatch() {
+        CreateEmployeeInput input = new CreateEmployeeInput();
+        Employee created = employee("202");
+        batchProperties.setEnabled(true);
+        when(employeeCreateBatcher.create(input)).thenReturn(created);
+
+        assertEquals(created, employeeService.createEmployee(input).block());
+        verify(employeeApiClient, never()).post(any(), any(), any());
+    }
+
+    @Test
+    void testGetEmployeePage_DelegatesToBlockingService() {
+        EmployeePage page = new EmployeePage(List.of(employee("1")), null);
+        when(blockingEmployeeService.getEmployeePage("cursor", 10)).thenReturn(page);
+
+        assertEquals(page, employeeService.getEmployeePage("cursor", 10).block());
+    }
+
+    @Test
+    void testDeleteEmployeeById() {
+        Employee emp = employee("301");
+        emp.setEmployee_name("John");
+        when(employeeApiClient.<Employee>get(any(), any(), eq("301"))).thenReturn(Mono.just(emp));
+        when(employeeApiClient.<Boolean>delete(any(), any(), any())).thenReturn(Mono.just(true));
+
+        employeeService.deleteEmployeeById("301").block();
+
+        verify(employeeApiClient).delete(any(), any(), any());
+        verify(employeeCache).evict("301");
+    }
+
+    private static CallNotPermittedException callNotPermitted() {
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("employee-api");
+        circuitBreaker.transitionToOpenState();
+        return CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+    }
+
+    private static Employee employee(String id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+
+    private static EmployeeSnapshot snapshot(Employee... employees) {
+        return new EmployeeSnapshot(List.of(employees), Instant.now());
+    }
+}
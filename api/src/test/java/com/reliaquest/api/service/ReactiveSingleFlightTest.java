@@ -0,0 +1,87 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class ReactiveSingleFlightTest {
+
+    private final ReactiveSingleFlight<String, String> singleFlight = new ReactiveSingleFlight<>();
+
+    @Test
+    void testConcurrentSubscribers_shareOneLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        CompletableFuture<String> first = singleFlight
+                .execute("key", () -> {
+                    loads.incrementAndGet();
+                    return upstream.asMono();
+                })
+                .toFuture();
+        CompletableFuture<String> second = singleFlight
+                .execute("key", () -> {
+                    loads.incrementAndGet();
+                    return Mono.just("unused");
+                })
+                .toFuture();
+
+        upstream.tryEmitValue("value");
+
+        assertEquals("value", first.join());
+        assertEquals("value", second.join());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testError_isSharedAndNotCached() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        Sinks.One<String> upstream = Sinks.one();
+
+        CompletableFuture<String> first = singleFlight.execute("key", upstream::asMono).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("key", upstream::asMono).toFuture();
+        upstream.tryEmitError(failure);
+
+        assertSame(failure, assertThrows(CompletionException.class, first::join).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, second::join).getCause());
+        assertEquals("fresh", singleFlight.execute("key", () -> Mono.just("fresh")).block());
+    }
+
+    @Test
+    void testEmptyLoad_completesEmpty() {
+        assertNull(singleFlight.execute("key", Mono::empty).block());
+    }
+
+    @Test
+    void testCancelledSubscriber_doesNotCancelLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        singleFlight
+                .execute("key", () -> {
+                    loads.incrementAndGet();
+                    return upstream.asMono();
+                })
+                .subscribe()
+                .dispose();
+        CompletableFuture<String> waiter = singleFlight
+                .execute("key", () -> {
+                    loads.incrementAndGet();
+                    return Mono.just("unused");
+                })
+                .toFuture();
+
+        upstream.tryEmitValue("value");
+
+        assertEquals("value", waiter.join());
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.api.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.config.EmployeeCacheProperties;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.EmployeeSnapshot;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+
+class SnapshotRefresherTest {
+
+    private EmployeeService employeeService;
+    private TaskScheduler taskScheduler;
+    private EmployeeCacheProperties cacheProperties;
+    private SnapshotRefresher snapshotRefresher;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(EmployeeService.class);
+        taskScheduler = mock(TaskScheduler.class);
+        cacheProperties = new EmployeeCacheProperties();
+        snapshotRefresher = new SnapshotRefresher(employeeService, taskScheduler, cacheProperties);
+    }
+
+    @Test
+    void testStart_schedulesAtConfiguredInterval() {
+        cacheProperties.setRefreshInterval(Duration.ofSeconds(30));
+
+        snapshotRefresher.start();
+
+        verify(taskScheduler)
+                .scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void testStart_zeroIntervalDisablesRefresh() {
+        cacheProperties.setRefreshInterval(Duration.ZERO);
+
+        snapshotRefresher.start();
+
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void testRefresh_rebuildsSnapshot() {
+        when(employeeService.refreshSnapshot()).thenReturn(new EmployeeSnapshot(List.of(), Instant.now()));
+
+        snapshotRefresher.refresh();
+
+        verify(employeeService).refreshSnapshot();
+    }
+
+    @Test
+    void testRefresh_upstreamFailureKeepsLastSnapshot() {
+        when(employeeService.refreshSnapshot()).thenThrow(new TooManyRequestsException("throttled"));
+
+        // Must not propagate, or the scheduler would stop running the task
+        snapshotRefresher.refresh();
+    }
+}
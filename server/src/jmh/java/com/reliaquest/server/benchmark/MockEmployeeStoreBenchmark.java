@@ -0,0 +1,96 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.StreamSupport;
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Mixed reads and writes against {@link MockEmployeeService}, with the seed held as objects or in columns. A read
+ * looks an employee up by ID and reads a page of ten from there, as {@code GET /{id}} and {@code GET /page} do; a
+ * write creates an employee and deletes it again. {@code writeRatio} is the share of operations that write. Run with
+ * different thread counts to see how reads scale with cores, e.g. {@code ./gradlew server:jmh -PjmhThreads=8}; the
+ * {@code reads} and {@code writes} counters split the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MockEmployeeStoreBenchmark {
+
+    private static final AtomicLong WRITER_NAMES = new AtomicLong();
+
+    @Param({"0", "0.01", "0.1"})
+    private double writeRatio;
+
+    @Param({"1000", "100000"})
+    private int employeeCount;
+
+    @Param({"false", "true"})
+    private boolean columnar;
+
+    private MockEmployeeService service;
+    private UUID[] ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Iterable<MockEmployee> employees = new MockEmployeeGenerator(42).generate(employeeCount);
+        service = new MockEmployeeService(new Faker(), employees, columnar, 10_000);
+        ids = StreamSupport.stream(employees.spliterator(), false).map(MockEmployee::getId).toArray(UUID[]::new);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Operations {
+
+        public long reads;
+        public long writes;
+
+        private CreateMockEmployeeInput create;
+        private DeleteMockEmployeeInput delete;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String name = "bench-" + WRITER_NAMES.incrementAndGet();
+            create = new CreateMockEmployeeInput();
+            create.setName(name);
+            create.setSalary(60_000);
+            create.setAge(30);
+            create.setTitle("Engineer");
+            delete = new DeleteMockEmployeeInput();
+            delete.setName(name);
+        }
+    }
+
+    @Benchmark
+    public void readOrWrite(Operations operations, Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < writeRatio) {
+            blackhole.consume(service.create(operations.create));
+            blackhole.consume(service.delete(operations.delete));
+            operations.writes++;
+        } else {
+            UUID id = ids[random.nextInt(ids.length)];
+            blackhole.consume(service.findById(id));
+            blackhole.consume(service.findPage(null, id, null, 10));
+            operations.reads++;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.server.benchmark;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.service.MockEmployeeService;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.util.Locale;
+import net.datafaker.Faker;
+
+/**
+ * Prints the heap each employee takes in the object store and in the columnar store. Each store is seeded with the same
+ * generated employees and measured as the growth in live heap after a full GC, so the figure includes every index the
+ * store keeps.
+ */
+public final class StoreHeapReport {
+
+    private StoreHeapReport() {}
+
+    public static void main(String[] args) throws InterruptedException {
+
+        int employees = Integer.getInteger("heapReport.employees", 1_000_000);
+        MockEmployeeGenerator generator = new MockEmployeeGenerator(42);
+        Faker faker = new Faker();
+
+        // Loads Datafaker's data files and the store classes before anything is measured
+        new MockEmployeeService(faker, generator.generate(1_000), true, 0);
+        new MockEmployeeService(faker, generator.generate(1_000), false, 0);
+
+        for (boolean columnar : new boolean[] {false, true}) {
+            long before = liveHeap();
+            MockEmployeeService service = new MockEmployeeService(faker, generator.generate(employees), columnar, 0);
+            long after = liveHeap();
+            Reference.reachabilityFence(service);
+
+            System.out.printf(
+                    Locale.ROOT,
+                    "%s store: employees=%d heap=%.1fMB bytesPerEmployee=%.1f%n",
+                    columnar ? "columnar" : "object",
+                    employees,
+                    (after - before) / (1024.0 * 1024),
+                    (after - before) / (double) employees);
+        }
+    }
+
+    private static long liveHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,110 @@
+package com.reliaquest.server.config;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Employees stored as newline-delimited JSON, one employee per line in the API's format. A path ending in {@code .gz}
+ * is gzip-compressed.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeDataset {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * The employees in the file, read one at a time while the iterable is walked. The file is closed once the last
+     * employee has been read.
+     */
+    public Iterable<MockEmployee> read(Path path) {
+        return () -> {
+            try {
+                final var in = open(path);
+                final MappingIterator<MockEmployee> employees =
+                        objectMapper.readerFor(MockEmployee.class).readValues(in);
+                return new Iterator<>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        if (employees.hasNext()) {
+                            return true;
+                        }
+                        close(employees, path);
+                        return false;
+                    }
+
+                    @Override
+                    public MockEmployee next() {
+                        return employees.next();
+                    }
+                };
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read employee dataset " + path, e);
+            }
+        };
+    }
+
+    /**
+     * Writes to a temporary file next to {@code path} and then moves it into place, so a failed write never leaves a
+     * truncated dataset behind.
+     */
+    public void write(Path path, Iterable<MockEmployee> employees) {
+        final var directory = path.toAbsolutePath().getParent();
+        try {
+            Files.createDirectories(directory);
+            final var temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            try (final var out = create(temporary, path);
+                    final var writer = objectMapper
+                            .writerFor(MockEmployee.class)
+                            .withRootValueSeparator("\n")
+                            .writeValues(out)) {
+                writer.writeAll(employees).flush();
+                out.write('\n');
+            } catch (IOException e) {
+                Files.deleteIfExists(temporary);
+                throw e;
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write employee dataset " + path, e);
+        }
+    }
+
+    private static void close(MappingIterator<MockEmployee> employees, Path path) {
+        try {
+            employees.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not close employee dataset " + path, e);
+        }
+    }
+
+    private static InputStream open(Path path) throws IOException {
+        final var in = new BufferedInputStream(Files.newInputStream(path));
+        return isGzip(path) ? new GZIPInputStream(in) : in;
+    }
+
+    private static OutputStream create(Path file, Path target) throws IOException {
+        final var out = new BufferedOutputStream(Files.newOutputStream(file));
+        return isGzip(target) ? new GZIPOutputStream(out) : out;
+    }
+
+    private static boolean isGzip(Path path) {
+        return path.getFileName().toString().endsWith(GZIP_SUFFIX);
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates the same employees for the same seed, in parallel. Employees are made in fixed-size chunks, each from its
+ * own {@link Faker} seeded from the seed and the chunk number, so the result does not depend on how many threads
+ * share the work.
+ */
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 10_000;
+
+    // Fixed so a seed gives the same names and titles on every machine
+    private static final Locale LOCALE = Locale.US;
+
+    private final long seed;
+
+    public MockEmployeeGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * The first {@code count} employees for the seed. They are generated while the iterable is walked, one chunk per
+     * processor at a time, so only those chunks are held at once however large {@code count} is.
+     */
+    public Iterable<MockEmployee> generate(int count) {
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var window = Runtime.getRuntime().availableProcessors();
+        return () -> IntStream.iterate(0, first -> first < chunks, first -> first + window)
+                .mapToObj(first -> IntStream.range(first, Math.min(first + window, chunks))
+                        .parallel()
+                        .mapToObj(chunk -> generateChunk(chunk, Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                        .toList())
+                .flatMap(List::stream)
+                .flatMap(List::stream)
+                .iterator();
+    }
+
+    private List<MockEmployee> generateChunk(int chunk, int size) {
+        // SplittableRandom mixes the bits, so neighbouring chunks do not get correlated sequences
+        final var random = new Random(new SplittableRandom(seed + chunk).nextLong());
+        final var faker = new Faker(LOCALE, random);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase(LOCALE)))
+                    .build());
+        }
+        return employees;
+    }
+
+    /**
+     * A version 4 UUID, like {@link UUID#randomUUID()}, but drawn from {@code random}.
+     */
+    private static UUID randomUuid(Random random) {
+        final var mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
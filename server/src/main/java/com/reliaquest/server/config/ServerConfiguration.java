@@ -1,18 +1,13 @@
 package com.reliaquest.server.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,25 +26,30 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * Seed data only; MockEmployeeService copies it into its own store, which takes the CRUD operations.
+     * Employees are generated or read while the store walks them, so they are never all held as objects at once.
+     * With mock.employees.dataset set, employees are read from that file, which is generated on first start.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public Iterable<MockEmployee> mockEmployees(
+            ObjectMapper objectMapper,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:42}") long seed,
+            @Value("${mock.employees.dataset:}") String dataset) {
+        final var generator = new MockEmployeeGenerator(seed);
+        if (dataset.isBlank()) {
+            return generator.generate(maxEmployees);
+        }
+
+        final var path = Path.of(dataset);
+        final var mockEmployeeDataset = new MockEmployeeDataset(objectMapper);
+        if (Files.exists(path)) {
+            log.info("Loading employees from {}; mock.employees.max and seed do not apply", dataset);
+        } else {
+            mockEmployeeDataset.write(path, generator.generate(maxEmployees));
+            log.info("Wrote generated employees to {}", dataset);
+        }
+        return mockEmployeeDataset.read(path);
     }
 
     @Override
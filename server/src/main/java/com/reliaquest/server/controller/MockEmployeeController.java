@@ -1,23 +1,35 @@
 package com.reliaquest.server.controller;
 
 import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.CreateMockEmployeesInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeesInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeePage;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.EmployeeChangeStream;
+import com.reliaquest.server.web.EmployeeListResponseCache;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -25,10 +37,84 @@ import org.springframework.web.bind.annotation.RestController;
 public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
+    private final EmployeeListResponseCache employeeListResponseCache;
+    private final EmployeeChangeStream employeeChangeStream;
 
+    @Value("${mock.employees.page.default-size:100}")
+    private int defaultPageSize;
+
+    @Value("${mock.employees.page.max-size:1000}")
+    private int maxPageSize;
+
+    @Value("${mock.employees.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    /*
+     * Served from bytes encoded once per store version, with an ETag per encoding; If-None-Match with the current ETag
+     * gets 304. Lists too large to cache are serialized per request, without an ETag.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<?> getEmployees(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        final var snapshot = mockEmployeeService.getSnapshot();
+        final var cached = employeeListResponseCache.respond(snapshot, ifNoneMatch, acceptEncoding);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        return ResponseEntity.ok(Response.handledWith(snapshot.employees()));
+    }
+
+    /*
+     * Employees in ID order, a page at a time. Passing back the returned cursor continues where the page ended, even
+     * if employees were added or removed in between; from and to bound the walk to an ID range so that a client can
+     * read several ranges in parallel. The limit is capped at mock.employees.page.max-size.
+     */
+    @GetMapping("/page")
+    public Response<MockEmployeePage> getEmployeePage(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "from", required = false) UUID from,
+            @RequestParam(name = "to", required = false) UUID to,
+            @RequestParam(name = "limit", required = false) Integer limit) {
+
+        final var pageSize = Math.min(limit != null ? limit : defaultPageSize, maxPageSize);
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive");
+        }
+        final var after = cursor != null ? MockEmployeePage.decodeCursor(cursor) : null;
+
+        // One employee past the page tells whether there is a next one
+        final var employees = mockEmployeeService.findPage(after, from, to, pageSize + 1);
+        if (employees.size() <= pageSize) {
+            return Response.handledWith(new MockEmployeePage(employees, null));
+        }
+
+        final var page = employees.subList(0, pageSize);
+        final var nextCursor = MockEmployeePage.encodeCursor(page.get(pageSize - 1).getId());
+        return Response.handledWith(new MockEmployeePage(page, nextCursor));
+    }
+
+    /*
+     * Creates and deletes published after store version since, oldest first, with the version to pass as since next
+     * time. Without since, only the current version is returned, as a starting point. truncated means the changes no
+     * longer reach back to since, or since is from an earlier run of the server; the list has to be read in full.
+     */
+    @GetMapping("/changes")
+    public Response<MockEmployeeChanges> getChanges(@RequestParam(name = "since", required = false) Long since) {
+        return Response.handledWith(mockEmployeeService.getChanges(since));
+    }
+
+    /*
+     * The same changes as /changes, pushed as server-sent events while the connection stays open: one changes event
+     * per published version, with the version as its ID and the changes since the previous event as bare JSON data.
+     * A reconnecting client resumes after the Last-Event-ID it sends, which takes precedence over since.
+     */
+    @GetMapping(path = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(name = "since", required = false) Long since,
+            @RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return employeeChangeStream.subscribe(lastEventId != null ? lastEventId : since);
     }
 
     @GetMapping("/{id}")
@@ -41,11 +127,49 @@ public class MockEmployeeController {
 
     @PostMapping()
     public Response<MockEmployee> createEmployee(@Valid @RequestBody CreateMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.create(input));
+        final var created = mockEmployeeService.create(input);
+        employeeListResponseCache.invalidate();
+        return Response.handledWith(created);
     }
 
     @DeleteMapping()
     public Response<Boolean> deleteEmployee(@Valid @RequestBody DeleteMockEmployeeInput input) {
-        return Response.handledWith(mockEmployeeService.delete(input));
+        final var deleted = mockEmployeeService.delete(input);
+        if (deleted) {
+            employeeListResponseCache.invalidate();
+        }
+        return Response.handledWith(deleted);
+    }
+
+    /*
+     * Creates every employee in the body with one request and one store write, under a single version, and returns
+     * them in input order. Takes at most mock.employees.batch.max-size employees.
+     */
+    @PostMapping("/batch")
+    public Response<List<MockEmployee>> createEmployees(@Valid @RequestBody CreateMockEmployeesInput input) {
+        checkBatchSize(input.getEmployees().size());
+        final var created = mockEmployeeService.createAll(input.getEmployees());
+        employeeListResponseCache.invalidate();
+        return Response.handledWith(created);
+    }
+
+    /*
+     * Deletes one employee per name in the body, as DELETE / would one at a time, in one store write. The response
+     * tells per name whether an employee was deleted. Takes at most mock.employees.batch.max-size names.
+     */
+    @DeleteMapping("/batch")
+    public Response<List<Boolean>> deleteEmployees(@Valid @RequestBody DeleteMockEmployeesInput input) {
+        checkBatchSize(input.getNames().size());
+        final var deleted = mockEmployeeService.deleteAll(input.getNames());
+        if (deleted.contains(true)) {
+            employeeListResponseCache.invalidate();
+        }
+        return Response.handledWith(deleted);
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size must not exceed " + maxBatchSize);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class CreateMockEmployeesInput {
+
+    @NotEmpty
+    private List<@Valid @NotNull CreateMockEmployeeInput> employees;
+}
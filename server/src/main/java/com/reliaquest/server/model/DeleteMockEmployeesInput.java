@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class DeleteMockEmployeesInput {
+
+    @NotEmpty
+    private List<@NotBlank String> names;
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.server.model;
+
+/**
+ * One create or delete, with the store version that published it. A delete carries the employee as it was removed.
+ */
+public record MockEmployeeChange(long version, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    public static MockEmployeeChange created(long version, MockEmployee employee) {
+        return new MockEmployeeChange(version, Type.CREATED, employee);
+    }
+
+    public static MockEmployeeChange deleted(long version, MockEmployee employee) {
+        return new MockEmployeeChange(version, Type.DELETED, employee);
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * The changes after a requested store version, oldest first, and the version they lead up to. {@code truncated} means
+ * the log no longer holds every change since the requested version, so the list has to be read in full. {@code epoch}
+ * is new every time the server starts; versions from another epoch mean nothing in this one.
+ */
+public record MockEmployeeChanges(String epoch, long version, boolean truncated, List<MockEmployeeChange> changes) {}
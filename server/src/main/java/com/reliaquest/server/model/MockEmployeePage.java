@@ -0,0 +1,24 @@
+package com.reliaquest.server.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of employees in ID order. {@code nextCursor} is opaque to clients and {@code null} on the last page.
+ */
+public record MockEmployeePage(List<MockEmployee> employees, String nextCursor) {
+
+    public static String encodeCursor(UUID lastId) {
+        byte[] id = lastId.toString().getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id);
+    }
+
+    /**
+     * @throws IllegalArgumentException when the cursor was not issued by {@link #encodeCursor(UUID)}
+     */
+    public static UUID decodeCursor(String cursor) {
+        return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+    }
+}
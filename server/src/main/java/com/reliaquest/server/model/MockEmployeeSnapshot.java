@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/**
+ * Every employee in ID order as of one store version. The version changes with every create and delete, so equal
+ * versions mean equal lists.
+ */
+public record MockEmployeeSnapshot(long version, List<MockEmployee> employees) {}
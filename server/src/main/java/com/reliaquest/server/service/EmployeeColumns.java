@@ -0,0 +1,394 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.IntPredicate;
+
+/**
+ * Employees kept column by column in primitive arrays, sorted by ID: each UUID as two longs, salary and age as ints,
+ * titles as codes into a dictionary, and names and emails as UTF-8 in one byte array per column. An employee object is
+ * only built when one is read, e.g. while a response is being serialized. Nothing changes after
+ * {@link Builder#build()}.
+ */
+final class EmployeeColumns {
+
+    static final EmployeeColumns EMPTY = new Builder().build();
+
+    private static final int NO_POSITION = -1;
+    private static final int NO_TITLE = -1;
+
+    // Create validates salary and age as present, but a dataset file may still leave them out
+    private static final int NULL_INT = Integer.MIN_VALUE;
+
+    private final int size;
+    private final long[] mostSignificantBits;
+    private final long[] leastSignificantBits;
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final TextColumn names;
+    private final TextColumn emails;
+
+    // Hash table over lower-cased names: the first position in each bucket, then the next position in the same bucket
+    private final int[] nameBuckets;
+    private final int[] nameChain;
+
+    private EmployeeColumns(
+            int size,
+            long[] mostSignificantBits,
+            long[] leastSignificantBits,
+            int[] salaries,
+            int[] ages,
+            int[] titleCodes,
+            String[] titles,
+            TextColumn names,
+            TextColumn emails) {
+        this.size = size;
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.names = names;
+        this.emails = emails;
+        this.nameBuckets = new int[Integer.highestOneBit(Math.max(1, size - 1)) << 1];
+        this.nameChain = new int[size];
+        indexNames();
+    }
+
+    int size() {
+        return size;
+    }
+
+    MockEmployee get(int position) {
+        final var titleCode = titleCodes[position];
+        return MockEmployee.builder()
+                .id(new UUID(mostSignificantBits[position], leastSignificantBits[position]))
+                .name(names.get(position))
+                .salary(boxed(salaries[position]))
+                .age(boxed(ages[position]))
+                .title(titleCode == NO_TITLE ? null : titles[titleCode])
+                .email(emails.get(position))
+                .build();
+    }
+
+    /**
+     * Position of the employee with this ID, or a negative number when there is none.
+     */
+    int indexOf(UUID id) {
+        final var position = indexAfter(id, false);
+        return position < size && compareTo(position, id) == 0 ? position : NO_POSITION;
+    }
+
+    /**
+     * Position of the first employee whose ID is after {@code id}, or equal to it unless {@code exclusive}.
+     */
+    int indexAfter(UUID id, boolean exclusive) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareTo(mid, id);
+            if (comparison < 0 || (exclusive && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int compareTo(int position, UUID id) {
+        return compareIds(
+                mostSignificantBits[position],
+                leastSignificantBits[position],
+                id.getMostSignificantBits(),
+                id.getLeastSignificantBits());
+    }
+
+    /**
+     * The first position, in ID order, whose lower-cased name is {@code nameKey} and which {@code skip} does not
+     * reject, or a negative number when there is none.
+     */
+    int findByName(String nameKey, IntPredicate skip) {
+        int position = nameBuckets[bucket(nameKey)];
+        while (position != NO_POSITION) {
+            if (!skip.test(position) && nameKey.equals(MockEmployeeStore.nameKey(names.get(position)))) {
+                return position;
+            }
+            position = nameChain[position];
+        }
+        return NO_POSITION;
+    }
+
+    /**
+     * Orders IDs as their canonical strings. Those are fixed-width lowercase hex, so comparing both halves unsigned
+     * gives the same order without building the strings.
+     */
+    static int compareIds(long leftMost, long leftLeast, long rightMost, long rightLeast) {
+        final var comparison = Long.compareUnsigned(leftMost, rightMost);
+        return comparison != 0 ? comparison : Long.compareUnsigned(leftLeast, rightLeast);
+    }
+
+    private void indexNames() {
+        Arrays.fill(nameBuckets, NO_POSITION);
+        // Filled from the back so that every bucket lists its positions in ID order
+        for (int position = size - 1; position >= 0; position--) {
+            final var name = names.get(position);
+            if (name == null) {
+                nameChain[position] = NO_POSITION;
+                continue;
+            }
+            final var bucket = bucket(MockEmployeeStore.nameKey(name));
+            nameChain[position] = nameBuckets[bucket];
+            nameBuckets[bucket] = position;
+        }
+    }
+
+    private int bucket(String nameKey) {
+        final var hash = nameKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (nameBuckets.length - 1);
+    }
+
+    private static Integer boxed(int value) {
+        return value == NULL_INT ? null : value;
+    }
+
+    private static int unboxed(Integer value) {
+        return value == null ? NULL_INT : value;
+    }
+
+    /**
+     * Strings stored back to back as UTF-8. An empty string reads back as null; the API never stores empty names or
+     * emails.
+     */
+    private static final class TextColumn {
+
+        private final byte[] bytes;
+        private final int[] offsets;
+
+        TextColumn(byte[] bytes, int[] offsets) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+        }
+
+        String get(int position) {
+            final var start = offsets[position];
+            final var length = offsets[position + 1] - start;
+            return length == 0 ? null : new String(bytes, start, length, StandardCharsets.UTF_8);
+        }
+
+        int length(int position) {
+            return offsets[position + 1] - offsets[position];
+        }
+
+        /**
+         * The strings at {@code positions}, in that order.
+         */
+        TextColumn select(int[] positions, int count) {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += length(positions[i]);
+            }
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Employee text column exceeds 2 GB");
+            }
+
+            final var selected = new byte[(int) total];
+            final var selectedOffsets = new int[count + 1];
+            for (int i = 0; i < count; i++) {
+                final var position = positions[i];
+                final var length = length(position);
+                System.arraycopy(bytes, offsets[position], selected, selectedOffsets[i], length);
+                selectedOffsets[i + 1] = selectedOffsets[i] + length;
+            }
+            return new TextColumn(selected, selectedOffsets);
+        }
+    }
+
+    /**
+     * Collects employees in any order; {@link #build()} sorts them by ID. When an ID is added more than once, the last
+     * one wins.
+     */
+    static final class Builder {
+
+        private static final int INSERTION_SORT_THRESHOLD = 16;
+
+        private final Map<String, Integer> titleDictionary = new HashMap<>();
+        private final List<String> titles = new ArrayList<>();
+        private final TextBuilder names = new TextBuilder();
+        private final TextBuilder emails = new TextBuilder();
+
+        private int size;
+        private long[] mostSignificantBits = new long[16];
+        private long[] leastSignificantBits = new long[16];
+        private int[] salaries = new int[16];
+        private int[] ages = new int[16];
+        private int[] titleCodes = new int[16];
+
+        Builder add(MockEmployee employee) {
+            Objects.requireNonNull(employee.getId(), "Employee ID must not be null");
+            if (size == mostSignificantBits.length) {
+                grow();
+            }
+
+            mostSignificantBits[size] = employee.getId().getMostSignificantBits();
+            leastSignificantBits[size] = employee.getId().getLeastSignificantBits();
+            salaries[size] = unboxed(employee.getSalary());
+            ages[size] = unboxed(employee.getAge());
+            titleCodes[size] = employee.getTitle() == null
+                    ? NO_TITLE
+                    : titleDictionary.computeIfAbsent(employee.getTitle(), title -> {
+                        titles.add(title);
+                        return titles.size() - 1;
+                    });
+            names.add(employee.getName());
+            emails.add(employee.getEmail());
+            size++;
+            return this;
+        }
+
+        EmployeeColumns build() {
+            final var order = new int[size];
+            Arrays.setAll(order, position -> position);
+            sort(order, 0, size);
+
+            // Drop all but the last of any run of equal IDs; the sort keeps equal IDs in the order they were added
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                final var position = order[i];
+                if (i + 1 < size && sameId(position, order[i + 1])) {
+                    continue;
+                }
+                order[count++] = position;
+            }
+
+            final var sortedMost = new long[count];
+            final var sortedLeast = new long[count];
+            final var sortedSalaries = new int[count];
+            final var sortedAges = new int[count];
+            final var sortedTitleCodes = new int[count];
+            for (int i = 0; i < count; i++) {
+                final var position = order[i];
+                sortedMost[i] = mostSignificantBits[position];
+                sortedLeast[i] = leastSignificantBits[position];
+                sortedSalaries[i] = salaries[position];
+                sortedAges[i] = ages[position];
+                sortedTitleCodes[i] = titleCodes[position];
+            }
+            return new EmployeeColumns(
+                    count,
+                    sortedMost,
+                    sortedLeast,
+                    sortedSalaries,
+                    sortedAges,
+                    sortedTitleCodes,
+                    titles.toArray(String[]::new),
+                    names.toColumn().select(order, count),
+                    emails.toColumn().select(order, count));
+        }
+
+        private void grow() {
+            final var capacity = mostSignificantBits.length + (mostSignificantBits.length >> 1);
+            mostSignificantBits = Arrays.copyOf(mostSignificantBits, capacity);
+            leastSignificantBits = Arrays.copyOf(leastSignificantBits, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+        }
+
+        private boolean sameId(int left, int right) {
+            return mostSignificantBits[left] == mostSignificantBits[right]
+                    && leastSignificantBits[left] == leastSignificantBits[right];
+        }
+
+        private int compare(int left, int right) {
+            final var comparison = compareIds(
+                    mostSignificantBits[left],
+                    leastSignificantBits[left],
+                    mostSignificantBits[right],
+                    leastSignificantBits[right]);
+            return comparison != 0 ? comparison : Integer.compare(left, right);
+        }
+
+        /**
+         * Quicksort of {@code order[from, to)} by ID, without boxing the positions. Recurses into the smaller side
+         * only, so the stack stays shallow whatever the input order.
+         */
+        private void sort(int[] order, int from, int to) {
+            while (to - from > INSERTION_SORT_THRESHOLD) {
+                final var pivot = order[(from + to) >>> 1];
+                int i = from;
+                int j = to - 1;
+                while (i <= j) {
+                    while (compare(order[i], pivot) < 0) {
+                        i++;
+                    }
+                    while (compare(order[j], pivot) > 0) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        final var swapped = order[i];
+                        order[i++] = order[j];
+                        order[j--] = swapped;
+                    }
+                }
+                if (j + 1 - from < to - i) {
+                    sort(order, from, j + 1);
+                    from = i;
+                } else {
+                    sort(order, i, to);
+                    to = j + 1;
+                }
+            }
+
+            for (int i = from + 1; i < to; i++) {
+                final var position = order[i];
+                int j = i - 1;
+                while (j >= from && compare(order[j], position) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = position;
+            }
+        }
+    }
+
+    private static final class TextBuilder {
+
+        private byte[] bytes = new byte[256];
+        private int[] offsets = new int[17];
+        private int count;
+
+        void add(String value) {
+            final var encoded = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            final var start = offsets[count];
+            if ((long) start + encoded.length > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Employee text column exceeds 2 GB");
+            }
+            if (start + encoded.length > bytes.length) {
+                final var grown = (int) Math.min(Integer.MAX_VALUE - 8, bytes.length + (bytes.length >> 1));
+                bytes = Arrays.copyOf(bytes, Math.max(start + encoded.length, grown));
+            }
+            if (count + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length + (offsets.length >> 1));
+            }
+
+            System.arraycopy(encoded, 0, bytes, start, encoded.length);
+            offsets[++count] = start + encoded.length;
+        }
+
+        TextColumn toColumn() {
+            return new TextColumn(bytes, offsets);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The most recent creates and deletes, in the order the store published them. At most {@code capacity} changes are
+ * kept; once older ones have been dropped, a reader asking for changes from before them is told the log is truncated.
+ */
+final class MockEmployeeChangeLog {
+
+    private final String epoch = UUID.randomUUID().toString();
+    private final int capacity;
+    private final ArrayDeque<MockEmployeeChange> changes = new ArrayDeque<>();
+
+    private long version;
+
+    // Newest version some of whose changes have been dropped; readers behind it cannot catch up from the log
+    private long truncatedThrough;
+
+    MockEmployeeChangeLog(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Change log capacity must not be negative");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Appends the changes published with {@code version}, which may be none.
+     */
+    synchronized void record(long version, List<MockEmployeeChange> published) {
+        for (MockEmployeeChange change : published) {
+            changes.addLast(change);
+            if (changes.size() > capacity) {
+                truncatedThrough = changes.removeFirst().version();
+            }
+        }
+        this.version = version;
+    }
+
+    /**
+     * The changes published after {@code since}, or only the current version when {@code since} is {@code null}.
+     * Truncated when changes after {@code since} were dropped, or when {@code since} is ahead of the log.
+     */
+    synchronized MockEmployeeChanges since(Long since) {
+        if (since == null) {
+            return new MockEmployeeChanges(epoch, version, false, List.of());
+        }
+        if (since < truncatedThrough || since > version) {
+            return new MockEmployeeChanges(epoch, version, true, List.of());
+        }
+
+        final var newer = new ArrayList<MockEmployeeChange>();
+        final var iterator = changes.descendingIterator();
+        while (iterator.hasNext()) {
+            final var change = iterator.next();
+            if (change.version() <= since) {
+                break;
+            }
+            newer.add(change);
+        }
+        Collections.reverse(newer);
+        return new MockEmployeeChanges(epoch, version, false, newer);
+    }
+}
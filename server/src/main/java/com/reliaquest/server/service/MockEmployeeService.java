@@ -4,55 +4,127 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.model.MockEmployeeSnapshot;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
+    private final MockEmployeeStore store;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    /**
+     * With {@code columnar} set, the seed employees are kept in primitive columns rather than as objects, which takes
+     * far less heap for large populations. The last {@code changeLogCapacity} creates and deletes are kept for
+     * {@link #getChanges}.
+     */
+    public MockEmployeeService(
+            Faker faker,
+            Iterable<MockEmployee> mockEmployees,
+            @Value("${mock.employees.columnar:false}") boolean columnar,
+            @Value("${mock.employees.changes.capacity:10000}") int changeLogCapacity) {
+        final var started = System.nanoTime();
+        this.faker = faker;
+        this.store = new MockEmployeeStore(mockEmployees, columnar, changeLogCapacity);
+        log.info(
+                "Seeded {} employees into the {} store in {} ms",
+                store.snapshot().size(),
+                columnar ? "columnar" : "object",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    /**
+     * Every employee in ID order, as of the latest published snapshot. The list is read-only and later creates and
+     * deletes do not change it, so it can be serialized without copying or locking.
+     */
+    public List<MockEmployee> getMockEmployees() {
+        return store.snapshot().employees();
+    }
+
+    /**
+     * Like {@link #getMockEmployees()}, together with the store version the list belongs to.
+     */
+    public MockEmployeeSnapshot getSnapshot() {
+        final var snapshot = store.snapshot();
+        return new MockEmployeeSnapshot(snapshot.version(), snapshot.employees());
+    }
+
+    /**
+     * Creates and deletes published after store version {@code since}, oldest first, or only the current version when
+     * {@code since} is {@code null}.
+     */
+    public MockEmployeeChanges getChanges(Long since) {
+        return store.changesSince(since);
+    }
+
+    /**
+     * Runs {@code listener} after every published create or delete, in publication order. It runs on the writing thread
+     * while that still holds the store's publish lock, so it should only hand the news off, e.g. to another thread.
+     */
+    public void addChangeListener(@NonNull Runnable listener) {
+        store.onPublish(listener);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.snapshot().findById(uuid);
+    }
+
+    /**
+     * Up to {@code limit} employees in ID order, after {@code after} when given, otherwise from {@code from}, and
+     * before {@code to}. IDs compare as their canonical strings, so where a page ends does not move when other
+     * employees are added or removed.
+     */
+    public List<MockEmployee> findPage(UUID after, UUID from, UUID to, int limit) {
+        return store.snapshot().page(after, from, to, limit);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
-        final var mockEmployee = MockEmployee.from(
-                ServerConfiguration.EMAIL_TEMPLATE.formatted(
-                        faker.twitter().userName().toLowerCase()),
-                input);
-        mockEmployees.add(mockEmployee);
+        final var mockEmployee = newEmployee(input);
+        store.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
+    /**
+     * Creates every employee in one store write, published under a single version, and returns them in input order.
+     */
+    public List<MockEmployee> createAll(@NonNull List<CreateMockEmployeeInput> inputs) {
+        final var mockEmployees = store.addAll(inputs.stream().map(this::newEmployee).toList());
+        log.debug("Added {} employees", mockEmployees.size());
+        return mockEmployees;
+    }
+
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = store.removeByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
 
         return false;
     }
+
+    /**
+     * Deletes one employee per name in one store write and tells, per name, whether an employee was deleted.
+     */
+    public List<Boolean> deleteAll(@NonNull List<String> names) {
+        final var removed = store.removeAllByName(names);
+        log.debug("Removed {} of {} employees", removed.stream().filter(Optional::isPresent).count(), names.size());
+        return removed.stream().map(Optional::isPresent).toList();
+    }
+
+    private MockEmployee newEmployee(CreateMockEmployeeInput input) {
+        return MockEmployee.from(
+                ServerConfiguration.EMAIL_TEMPLATE.formatted(faker.twitter().userName().toLowerCase()), input);
+    }
 }
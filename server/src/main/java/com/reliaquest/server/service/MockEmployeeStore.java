@@ -0,0 +1,491 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.NonNull;
+
+/**
+ * Copy-on-write employee store. Readers take the current {@link Snapshot} with a single volatile read and never wait:
+ * a snapshot is immutable and holds a hash index by UUID, a case-insensitive name multimap and the employees sorted by
+ * their canonical ID string, for listing and paging in a stable order.
+ *
+ * <p>In columnar mode the seed employees are kept in {@link EmployeeColumns} instead, and only employees created later
+ * are held as objects; reads merge the two in ID order. Deleting a seed employee marks its column position removed.
+ *
+ * <p>Writers queue their change and then compete for the publish lock. The winner applies every queued change, its own
+ * and those of the writers waiting behind it, to one new snapshot and publishes it, so the cost of copying the indexes
+ * is shared by however many writes arrived meanwhile.
+ *
+ * <p>Every create and delete is also recorded in a bounded {@link MockEmployeeChangeLog} under the version that
+ * published it, so a client that holds one version can catch up with the changes since instead of the full list.
+ * Listeners registered with {@link #onPublish} hear about each new version as soon as it is published.
+ */
+class MockEmployeeStore {
+
+    private static final Comparator<MockEmployee> BY_KEY = (left, right) -> compareIds(left.getId(), right.getId());
+
+    private final Queue<Change<?>> pending = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock publishLock = new ReentrantLock();
+    private final MockEmployeeChangeLog changeLog;
+    private final List<Runnable> publishListeners = new CopyOnWriteArrayList<>();
+
+    private volatile Snapshot current;
+
+    MockEmployeeStore(@NonNull Iterable<MockEmployee> employees, boolean columnar, int changeLogCapacity) {
+        this.changeLog = new MockEmployeeChangeLog(changeLogCapacity);
+        if (columnar) {
+            final var columns = new EmployeeColumns.Builder();
+            employees.forEach(columns::add);
+            this.current = new Snapshot(0, columns.build(), new BitSet(), 0, Map.of(), Map.of(), new MockEmployee[0]);
+            return;
+        }
+
+        final var byId = new HashMap<UUID, MockEmployee>();
+        final var idsByName = new HashMap<String, List<UUID>>();
+        for (MockEmployee employee : employees) {
+            Objects.requireNonNull(employee.getId(), "Employee ID must not be null");
+            index(byId, idsByName, employee);
+        }
+        final var ordered = byId.values().toArray(MockEmployee[]::new);
+        Arrays.sort(ordered, BY_KEY);
+        this.current = new Snapshot(0, EmployeeColumns.EMPTY, new BitSet(), 0, byId, idsByName, ordered);
+    }
+
+    Snapshot snapshot() {
+        return current;
+    }
+
+    /**
+     * The creates and deletes published after version {@code since}; see {@link MockEmployeeChangeLog#since}.
+     */
+    MockEmployeeChanges changesSince(Long since) {
+        return changeLog.since(since);
+    }
+
+    /**
+     * Runs {@code listener} after every published version, on the publishing writer's thread while it still holds the
+     * publish lock. Versions are therefore announced in order, but a listener that blocks holds up every writer.
+     */
+    void onPublish(@NonNull Runnable listener) {
+        publishListeners.add(listener);
+    }
+
+    MockEmployee add(@NonNull MockEmployee employee) {
+        Objects.requireNonNull(employee.getId(), "Employee ID must not be null");
+        return apply(batch -> batch.add(employee));
+    }
+
+    /**
+     * Adds every employee in one write, so they are published together under a single version.
+     */
+    List<MockEmployee> addAll(@NonNull List<MockEmployee> employees) {
+        employees.forEach(employee -> Objects.requireNonNull(employee.getId(), "Employee ID must not be null"));
+        return apply(batch -> {
+            employees.forEach(batch::add);
+            return employees;
+        });
+    }
+
+    /**
+     * Removes the longest-held employee with this name, ignoring case.
+     */
+    Optional<MockEmployee> removeByName(@NonNull String name) {
+        return apply(batch -> batch.removeByName(name));
+    }
+
+    /**
+     * Removes one employee per name, in order and in one write, as {@link #removeByName} would one at a time. A name
+     * given twice removes the two longest-held employees with it.
+     */
+    List<Optional<MockEmployee>> removeAllByName(@NonNull List<String> names) {
+        return apply(batch -> names.stream().map(batch::removeByName).toList());
+    }
+
+    private <T> T apply(Function<Batch, T> operation) {
+        final var change = new Change<>(operation);
+        pending.add(change);
+
+        publishLock.lock();
+        try {
+            // A writer that held the lock meanwhile may already have published this change
+            if (!change.applied) {
+                publishPending();
+            }
+            return change.result();
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private void publishPending() {
+        final var batch = new Batch(current);
+        Change<?> change;
+        while ((change = pending.poll()) != null) {
+            change.applyTo(batch);
+        }
+        final var snapshot = batch.toSnapshot();
+        changeLog.record(snapshot.version(), batch.changes);
+        current = snapshot;
+        publishListeners.forEach(Runnable::run);
+    }
+
+    private static int compareIds(UUID left, UUID right) {
+        return EmployeeColumns.compareIds(
+                left.getMostSignificantBits(),
+                left.getLeastSignificantBits(),
+                right.getMostSignificantBits(),
+                right.getLeastSignificantBits());
+    }
+
+    static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static void index(Map<UUID, MockEmployee> byId, Map<String, List<UUID>> idsByName, MockEmployee employee) {
+        final var replaced = byId.put(employee.getId(), employee);
+        if (replaced != null && replaced.getName() != null) {
+            idsByName.get(nameKey(replaced.getName())).remove(employee.getId());
+        }
+        if (employee.getName() != null) {
+            idsByName.computeIfAbsent(nameKey(employee.getName()), ignored -> new ArrayList<>()).add(employee.getId());
+        }
+    }
+
+    /**
+     * One published version of the store. Nothing in it changes after publication.
+     */
+    static final class Snapshot {
+
+        private final long version;
+        private final EmployeeColumns columns;
+        private final BitSet removedColumns;
+        private final int removedCount;
+        private final Map<UUID, MockEmployee> byId;
+        private final Map<String, List<UUID>> idsByName;
+        private final MockEmployee[] ordered;
+        private final List<MockEmployee> employees;
+
+        private Snapshot(
+                long version,
+                EmployeeColumns columns,
+                BitSet removedColumns,
+                int removedCount,
+                Map<UUID, MockEmployee> byId,
+                Map<String, List<UUID>> idsByName,
+                MockEmployee[] ordered) {
+            this.version = version;
+            this.columns = columns;
+            this.removedColumns = removedColumns;
+            this.removedCount = removedCount;
+            this.byId = byId;
+            this.idsByName = idsByName;
+            this.ordered = ordered;
+            this.employees =
+                    columns.size() == 0 ? Collections.unmodifiableList(Arrays.asList(ordered)) : new MergedList();
+        }
+
+        long version() {
+            return version;
+        }
+
+        int size() {
+            return columns.size() - removedCount + ordered.length;
+        }
+
+        /**
+         * Every employee in ID order. In columnar mode the list builds each employee as it is walked and is not
+         * {@link java.util.RandomAccess}, so serializers iterate it rather than calling {@code get}.
+         */
+        List<MockEmployee> employees() {
+            return employees;
+        }
+
+        Optional<MockEmployee> findById(UUID id) {
+            final var employee = byId.get(id);
+            if (employee != null) {
+                return Optional.of(employee);
+            }
+            final var position = columns.indexOf(id);
+            return position < 0 || removedColumns.get(position) ? Optional.empty() : Optional.of(columns.get(position));
+        }
+
+        /**
+         * Up to {@code limit} employees in ID order, after {@code after} when given, otherwise from {@code from}, and
+         * before {@code to}.
+         */
+        List<MockEmployee> page(UUID after, UUID from, UUID to, int limit) {
+            final var start = after != null ? after : from;
+            final var exclusive = after != null;
+            final var objectStart = start == null ? 0 : indexAfter(start, exclusive);
+            final var objectEnd = Math.max(objectStart, to == null ? ordered.length : indexAfter(to, false));
+            if (columns.size() == 0) {
+                return employees.subList(objectStart, Math.min(objectEnd, objectStart + limit));
+            }
+
+            final var columnStart = start == null ? 0 : columns.indexAfter(start, exclusive);
+            final var columnEnd = to == null ? columns.size() : columns.indexAfter(to, false);
+            final var merge = new Merge(columnStart, columnEnd, objectStart, objectEnd);
+            final var page = new ArrayList<MockEmployee>();
+            while (page.size() < limit && merge.hasNext()) {
+                page.add(merge.next());
+            }
+            return page;
+        }
+
+        /**
+         * Position of the first employee object whose ID is after {@code id}, or equal to it unless {@code exclusive}.
+         */
+        private int indexAfter(UUID id, boolean exclusive) {
+            int low = 0;
+            int high = ordered.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int comparison = compareIds(ordered[mid].getId(), id);
+                if (comparison < 0 || (exclusive && comparison == 0)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Walks column positions and employee objects together in ID order, skipping removed columns.
+         */
+        private final class Merge implements Iterator<MockEmployee> {
+
+            private final int columnEnd;
+            private final int objectEnd;
+            private int column;
+            private int object;
+
+            Merge(int column, int columnEnd, int object, int objectEnd) {
+                this.columnEnd = columnEnd;
+                this.objectEnd = objectEnd;
+                this.column = removedColumns.nextClearBit(column);
+                this.object = object;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return column < columnEnd || object < objectEnd;
+            }
+
+            @Override
+            public MockEmployee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (object < objectEnd
+                        && (column >= columnEnd || columns.compareTo(column, ordered[object].getId()) > 0)) {
+                    return ordered[object++];
+                }
+                final var employee = columns.get(column);
+                column = removedColumns.nextClearBit(column + 1);
+                return employee;
+            }
+        }
+
+        private final class MergedList extends AbstractList<MockEmployee> {
+
+            @Override
+            public Iterator<MockEmployee> iterator() {
+                return new Merge(0, columns.size(), 0, ordered.length);
+            }
+
+            @Override
+            public MockEmployee get(int index) {
+                Objects.checkIndex(index, size());
+                final var merge = iterator();
+                for (int i = 0; i < index; i++) {
+                    merge.next();
+                }
+                return merge.next();
+            }
+
+            @Override
+            public int size() {
+                return Snapshot.this.size();
+            }
+        }
+    }
+
+    /**
+     * Changes on their way into the next snapshot. The maps are copied once per batch; name lists only when touched.
+     */
+    private static final class Batch {
+
+        private final Snapshot base;
+        private final Map<UUID, MockEmployee> byId;
+        private final Map<String, List<UUID>> idsByName;
+        private final List<MockEmployee> added = new ArrayList<>();
+        private final List<MockEmployeeChange> changes = new ArrayList<>();
+        private boolean removed;
+        private BitSet removedColumns;
+        private int removedCount;
+
+        Batch(Snapshot base) {
+            this.base = base;
+            this.byId = new HashMap<>(base.byId);
+            this.idsByName = new HashMap<>(base.idsByName);
+            this.removedColumns = base.removedColumns;
+            this.removedCount = base.removedCount;
+        }
+
+        MockEmployee add(MockEmployee employee) {
+            final var replaced = byId.get(employee.getId());
+            if (replaced != null) {
+                unindexName(replaced);
+                removed = true;
+            } else {
+                final var position = base.columns.indexOf(employee.getId());
+                if (position >= 0 && !removedColumns.get(position)) {
+                    removeColumn(position);
+                }
+            }
+            byId.put(employee.getId(), employee);
+            if (employee.getName() != null) {
+                idsByName.compute(nameKey(employee.getName()), (key, ids) -> {
+                    final var updated = ids == null ? new ArrayList<UUID>(1) : new ArrayList<>(ids);
+                    updated.add(employee.getId());
+                    return updated;
+                });
+            }
+            added.add(employee);
+            changes.add(MockEmployeeChange.created(version(), employee));
+            return employee;
+        }
+
+        Optional<MockEmployee> removeByName(String name) {
+            // Column employees are the seed, so they have been held longest
+            final var position = base.columns.findByName(nameKey(name), removedColumns::get);
+            if (position >= 0) {
+                removeColumn(position);
+                final var employee = base.columns.get(position);
+                changes.add(MockEmployeeChange.deleted(version(), employee));
+                return Optional.of(employee);
+            }
+
+            final var ids = idsByName.get(nameKey(name));
+            if (ids == null || ids.isEmpty()) {
+                return Optional.empty();
+            }
+
+            final var employee = byId.remove(ids.get(0));
+            unindexName(employee);
+            removed = true;
+            changes.add(MockEmployeeChange.deleted(version(), employee));
+            return Optional.of(employee);
+        }
+
+        private void removeColumn(int position) {
+            if (removedColumns == base.removedColumns) {
+                removedColumns = (BitSet) removedColumns.clone();
+            }
+            removedColumns.set(position);
+            removedCount++;
+        }
+
+        private void unindexName(MockEmployee employee) {
+            if (employee.getName() == null) {
+                return;
+            }
+            idsByName.computeIfPresent(nameKey(employee.getName()), (key, ids) -> {
+                final var updated = new ArrayList<>(ids);
+                updated.remove(employee.getId());
+                return updated.isEmpty() ? null : updated;
+            });
+        }
+
+        Snapshot toSnapshot() {
+            return new Snapshot(version(), base.columns, removedColumns, removedCount, byId, idsByName, ordered());
+        }
+
+        private long version() {
+            return base.version + 1;
+        }
+
+        /**
+         * The base order with removed and replaced employees dropped, merged with the new ones sorted.
+         */
+        private MockEmployee[] ordered() {
+            final var additions = added.stream()
+                    .filter(employee -> byId.get(employee.getId()) == employee)
+                    .sorted(BY_KEY)
+                    .toArray(MockEmployee[]::new);
+            if (additions.length == 0 && !removed) {
+                return base.ordered;
+            }
+
+            final var merged = new MockEmployee[byId.size()];
+            int size = 0;
+            int next = 0;
+            for (MockEmployee employee : base.ordered) {
+                if (byId.get(employee.getId()) != employee) {
+                    continue;
+                }
+                while (next < additions.length && BY_KEY.compare(additions[next], employee) < 0) {
+                    merged[size++] = additions[next++];
+                }
+                merged[size++] = employee;
+            }
+            while (next < additions.length) {
+                merged[size++] = additions[next++];
+            }
+            return merged;
+        }
+    }
+
+    /**
+     * A queued write. Its fields are only read and written under the publish lock.
+     */
+    private static final class Change<T> {
+
+        private final Function<Batch, T> operation;
+        private boolean applied;
+        private T value;
+        private RuntimeException failure;
+
+        Change(Function<Batch, T> operation) {
+            this.operation = operation;
+        }
+
+        void applyTo(Batch batch) {
+            try {
+                value = operation.apply(batch);
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            applied = true;
+        }
+
+        T result() {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
+}
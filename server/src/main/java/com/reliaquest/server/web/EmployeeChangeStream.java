@@ -0,0 +1,152 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.service.MockEmployeeService;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the store's creates and deletes to subscribers as server-sent events while they happen. Every event is named
+ * {@code changes}, has the store version as its ID and carries the changes since the subscriber's previous event, so
+ * the events of one connection line up end to end from the version it started at. The first event is sent straight
+ * away: the changes since the requested version, or only the current version when none was requested.
+ *
+ * <p>Writers only signal subscribers; each subscriber reads the change log and sends on a thread of its own, so a slow
+ * client never holds up a write. A subscriber that falls behind gets everything it missed in one event, and one that
+ * falls further behind than the log reaches gets an event marked truncated, after which it continues from the current
+ * version. Quiet streams get a comment every {@code mock.employees.changes.stream.heartbeat}, so that clients and
+ * proxies can tell them from dead ones.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeStream {
+
+    static final String EVENT_NAME = "changes";
+
+    private final MockEmployeeService mockEmployeeService;
+    private final Duration timeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newCachedThreadPool(daemonThreads("employee-change-stream-"));
+    private final ScheduledExecutorService heartbeats =
+            Executors.newSingleThreadScheduledExecutor(daemonThreads("employee-change-heartbeat-"));
+
+    public EmployeeChangeStream(
+            MockEmployeeService mockEmployeeService,
+            @Value("${mock.employees.changes.stream.timeout:30m}") Duration timeout,
+            @Value("${mock.employees.changes.stream.heartbeat:15s}") Duration heartbeat) {
+        this.mockEmployeeService = mockEmployeeService;
+        this.timeout = timeout;
+        mockEmployeeService.addChangeListener(() -> subscribers.forEach(Subscriber::signal));
+        heartbeats.scheduleWithFixedDelay(
+                () -> subscribers.forEach(Subscriber::heartbeat),
+                heartbeat.toMillis(),
+                heartbeat.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A stream of the changes published after store version {@code since}, or from the current version when
+     * {@code since} is {@code null}. The stream ends after {@code mock.employees.changes.stream.timeout}; clients are
+     * expected to reconnect with the last version they saw.
+     */
+    public SseEmitter subscribe(Long since) {
+        final var emitter = new SseEmitter(timeout.toMillis());
+        final var subscriber = new Subscriber(emitter, since);
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        subscriber.signal();
+        log.debug("Change stream subscribed from version {}; {} subscribers", since, subscribers.size());
+        return emitter;
+    }
+
+    @PreDestroy
+    void close() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        final var threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+
+    /**
+     * One open stream. Signals are counted so that sending runs on at most one thread at a time and every signal that
+     * arrives while it runs leads to another look at the log; {@code version} and {@code started} are only touched
+     * while sending.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicInteger signals = new AtomicInteger();
+        private volatile boolean heartbeatDue;
+        private Long version;
+        private boolean started;
+
+        Subscriber(SseEmitter emitter, Long since) {
+            this.emitter = emitter;
+            this.version = since;
+        }
+
+        void signal() {
+            if (signals.getAndIncrement() == 0) {
+                senders.execute(this::drain);
+            }
+        }
+
+        void heartbeat() {
+            heartbeatDue = true;
+            signal();
+        }
+
+        private void drain() {
+            var missed = 1;
+            do {
+                send();
+                missed = signals.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void send() {
+            if (!subscribers.contains(this)) {
+                return;
+            }
+            try {
+                final var changes = mockEmployeeService.getChanges(version);
+                if (!started || changes.version() != version) {
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .id(Long.toString(changes.version()))
+                            .data(changes, MediaType.APPLICATION_JSON));
+                    version = changes.version();
+                    started = true;
+                } else if (heartbeatDue) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                heartbeatDue = false;
+            } catch (IOException | IllegalStateException e) {
+                // The client went away, or the stream already ended
+                log.debug("Change stream closed at version {}: {}", version, e.toString());
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
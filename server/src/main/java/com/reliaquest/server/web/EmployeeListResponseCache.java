@@ -0,0 +1,226 @@
+package com.reliaquest.server.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployeeSnapshot;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * The full employee list response, encoded as JSON and as gzip once per store version. Reads of an unchanged list
+ * only copy the cached bytes out; a create or delete publishes a new version, and the first read after it encodes the
+ * list again. Each encoding has its own strong ETag, derived from the JSON bytes, and a request whose
+ * {@code If-None-Match} names it gets 304 without a body.
+ *
+ * <p>Lists whose JSON exceeds {@code mock.employees.response-cache.max-bytes} are not kept; the caller serializes
+ * those per request instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeListResponseCache {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${mock.employees.response-cache.max-bytes:268435456}")
+    private int maxBytes;
+
+    private volatile EncodedList current;
+
+    /**
+     * The response for {@code snapshot}, or empty when its list is too large to cache.
+     */
+    public Optional<ResponseEntity<byte[]>> respond(
+            MockEmployeeSnapshot snapshot, String ifNoneMatch, String acceptEncoding) {
+        var encoded = current;
+        if (encoded == null || encoded.version() < snapshot.version()) {
+            encoded = encode(snapshot);
+        }
+        if (encoded.json() == null) {
+            return Optional.empty();
+        }
+
+        final var gzip = accepts(acceptEncoding, GZIP);
+        final var etag = "\"" + encoded.hash() + (gzip ? GZIP_ETAG_SUFFIX : "") + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return Optional.of(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build());
+        }
+
+        final var response = ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            // Tomcat leaves responses that already have a Content-Encoding alone, so this is not compressed twice
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return Optional.of(response.body(gzip ? encoded.gzip() : encoded.json()));
+    }
+
+    /**
+     * Drops the cached bytes. Versions already tell a changed list apart; this only frees the memory before the next
+     * read.
+     */
+    public void invalidate() {
+        current = null;
+    }
+
+    private synchronized EncodedList encode(MockEmployeeSnapshot snapshot) {
+        // Another reader may have encoded this version, or a later one, while this one waited
+        final var encoded = current;
+        if (encoded != null && encoded.version() >= snapshot.version()) {
+            return encoded;
+        }
+
+        final var started = System.nanoTime();
+        final var json = new BoundedBuffer(maxBytes);
+        try {
+            objectMapper.writeValue(json, Response.handledWith(snapshot.employees()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode employee list", e);
+        }
+
+        if (json.overflowed()) {
+            log.info("Employee list version {} is over {} bytes as JSON; not caching it", snapshot.version(), maxBytes);
+            current = new EncodedList(snapshot.version(), null, null, null);
+        } else {
+            final var jsonBytes = json.toByteArray();
+            current = new EncodedList(snapshot.version(), hash(jsonBytes), jsonBytes, gzip(jsonBytes));
+            log.debug(
+                    "Encoded employee list version {}: {} bytes, {} gzipped, in {} ms",
+                    snapshot.version(),
+                    jsonBytes.length,
+                    current.gzip().length,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        }
+        return current;
+    }
+
+    private static byte[] gzip(byte[] json) {
+        final var out = new ByteArrayOutputStream(json.length / 4);
+        try (final var gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not compress employee list", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] json) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header names {@code etag}. The comparison is weak, as RFC 9110 asks for
+     * {@code If-None-Match}.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header allows {@code coding}, by name or by {@code *}, with a non-zero weight.
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String candidate : acceptEncoding.split(",")) {
+            final var parameters = candidate.split(";");
+            final var name = parameters[0].trim();
+            if (!name.equalsIgnoreCase(coding) && !name.equals("*")) {
+                continue;
+            }
+            return parameters.length < 2 || weight(parameters[1]) > 0;
+        }
+        return false;
+    }
+
+    private static double weight(String parameter) {
+        final var trimmed = parameter.trim();
+        if (!trimmed.startsWith("q=")) {
+            return 1;
+        }
+        try {
+            return Double.parseDouble(trimmed.substring(2));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * One encoded version of the list. {@code json} is null when the list was too large to keep.
+     */
+    private record EncodedList(long version, String hash, byte[] json, byte[] gzip) {}
+
+    /**
+     * Keeps at most {@code limit} bytes; once a write would go past it, the buffer only notes that it overflowed.
+     */
+    private static final class BoundedBuffer extends ByteArrayOutputStream {
+
+        private final int limit;
+        private boolean overflowed;
+
+        BoundedBuffer(int limit) {
+            super(8192);
+            this.limit = limit;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            if (overflowed || count >= limit) {
+                overflowed = true;
+                return;
+            }
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            if (overflowed || len > limit - count) {
+                overflowed = true;
+                return;
+            }
+            super.write(b, off, len);
+        }
+
+        boolean overflowed() {
+            return overflowed;
+        }
+    }
+}
@@ -7,11 +7,21 @@ import java.time.Instant;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.random.RandomGenerator;
 import lombok.Getter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+/**
+ * Allows a random number of requests, then rejects everything with 429 until a random backoff has passed since the last
+ * allowed request. Responses carry {@code RateLimit-Limit} and {@code RateLimit-Remaining}; the request that spends the
+ * budget and every rejection also carry the seconds until the reset, so clients can wait instead of guessing.
+ */
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
+    private static final String RATE_LIMIT_LIMIT = "RateLimit-Limit";
+    private static final String RATE_LIMIT_REMAINING = "RateLimit-Remaining";
+    private static final String RATE_LIMIT_RESET = "RateLimit-Reset";
+
     private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
     private static final Duration REQUEST_BACKOFF_DURATION =
             Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
@@ -24,7 +34,10 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
             if (Instant.now()
                     .minus(REQUEST_BACKOFF_DURATION)
                     .isBefore(requestLimit.get().getLastRequested())) {
+                long resetSeconds = secondsUntilReset(requestLimit.get());
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(resetSeconds));
+                setRateLimitHeaders(response, 0, resetSeconds);
                 return false;
             }
             if (Instant.now()
@@ -32,14 +45,32 @@ public class RandomRequestLimitInterceptor implements HandlerInterceptor {
                     .isAfter(requestLimit.get().getLastRequested())) {
                 requestLimit.set(RequestLimit.init());
             }
+            setRateLimitHeaders(response, REQUEST_LIMIT, null);
         } else {
-            requestLimit.getAndUpdate(
+            RequestLimit counted = requestLimit.updateAndGet(
                     currentRequestLimit -> new RequestLimit(currentRequestLimit.count() + 1, Instant.now()));
+            int remaining = Math.max(REQUEST_LIMIT - counted.count(), 0);
+            // The backoff starts from the last allowed request, so the reset is only known once the budget is spent
+            setRateLimitHeaders(response, remaining, remaining == 0 ? REQUEST_BACKOFF_DURATION.toSeconds() : null);
         }
 
         return true;
     }
 
+    private static void setRateLimitHeaders(HttpServletResponse response, int remaining, Long resetSeconds) {
+        response.setHeader(RATE_LIMIT_LIMIT, String.valueOf(REQUEST_LIMIT));
+        response.setHeader(RATE_LIMIT_REMAINING, String.valueOf(remaining));
+        if (resetSeconds != null) {
+            response.setHeader(RATE_LIMIT_RESET, String.valueOf(resetSeconds));
+        }
+    }
+
+    private static long secondsUntilReset(RequestLimit limit) {
+        Duration untilReset = Duration.between(Instant.now(), limit.getLastRequested().plus(REQUEST_BACKOFF_DURATION));
+        // Round up so a client waiting the advertised time never arrives early
+        return Math.max(1, (untilReset.toMillis() + 999) / 1000);
+    }
+
     private record RequestLimit(@Getter int count, @Getter Instant lastRequested) {
         public static RequestLimit init() {
             return new RequestLimit(0, Instant.now());
@@ -0,0 +1,159 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeColumnsTest {
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("7fffffff-0000-0000-0000-000000000000");
+    private static final UUID THIRD = UUID.fromString("80000000-0000-0000-0000-000000000000");
+    private static final UUID FOURTH = UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff");
+
+    @Test
+    void testCompareIds_matchesCanonicalStringOrder() {
+        final var random = new Random(42);
+        final var ids = new ArrayList<UUID>(List.of(FIRST, SECOND, THIRD, FOURTH));
+        for (int i = 0; i < 1000; i++) {
+            ids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            final var left = ids.get(i - 1);
+            final var right = ids.get(i);
+            final var expected = Integer.signum(left.toString().compareTo(right.toString()));
+            final var actual = EmployeeColumns.compareIds(
+                    left.getMostSignificantBits(),
+                    left.getLeastSignificantBits(),
+                    right.getMostSignificantBits(),
+                    right.getLeastSignificantBits());
+            assertEquals(expected, Integer.signum(actual), left + " vs " + right);
+        }
+    }
+
+    @Test
+    void testBuild_sortsByCanonicalId() {
+        final var random = new Random(7);
+        final var builder = new EmployeeColumns.Builder();
+        final var ids = new ArrayList<UUID>();
+        for (int i = 0; i < 100; i++) {
+            final var id = new UUID(random.nextLong(), random.nextLong());
+            ids.add(id);
+            builder.add(employee(id, "Employee " + i));
+        }
+
+        final var columns = builder.build();
+
+        ids.sort(Comparator.comparing(UUID::toString));
+        assertEquals(ids.size(), columns.size());
+        for (int position = 0; position < columns.size(); position++) {
+            assertEquals(ids.get(position), columns.get(position).getId());
+        }
+    }
+
+    @Test
+    void testBuild_keepsLastOfDuplicateIds() {
+        final var columns = new EmployeeColumns.Builder()
+                .add(employee(THIRD, "First Third"))
+                .add(employee(FIRST, "Alice"))
+                .add(employee(THIRD, "Second Third"))
+                .add(employee(THIRD, "Last Third"))
+                .build();
+
+        assertEquals(2, columns.size());
+        assertEquals("Alice", columns.get(0).getName());
+        assertEquals("Last Third", columns.get(1).getName());
+        assertTrue(columns.findByName(MockEmployeeStore.nameKey("First Third"), position -> false) < 0);
+    }
+
+    @Test
+    void testGet_roundTripsEveryField() {
+        final var employee = MockEmployee.builder()
+                .id(FIRST)
+                .name("Alice")
+                .salary(5000)
+                .age(30)
+                .title("Engineer")
+                .email("alice@company.com")
+                .build();
+
+        final var columns = new EmployeeColumns.Builder().add(employee).build();
+
+        assertEquals(employee, columns.get(0));
+    }
+
+    @Test
+    void testGet_keepsMissingValuesNull() {
+        final var columns = new EmployeeColumns.Builder()
+                .add(MockEmployee.builder().id(FIRST).build())
+                .build();
+
+        final var employee = columns.get(0);
+        assertNull(employee.getName());
+        assertNull(employee.getSalary());
+        assertNull(employee.getAge());
+        assertNull(employee.getTitle());
+        assertNull(employee.getEmail());
+    }
+
+    @Test
+    void testAdd_rejectsMissingId() {
+        final var builder = new EmployeeColumns.Builder();
+
+        assertThrows(NullPointerException.class, () -> builder.add(MockEmployee.builder().build()));
+    }
+
+    @Test
+    void testIndexOfAndIndexAfter() {
+        final var columns = new EmployeeColumns.Builder()
+                .add(employee(THIRD, "Carol"))
+                .add(employee(FIRST, "Alice"))
+                .build();
+
+        assertEquals(0, columns.indexOf(FIRST));
+        assertEquals(1, columns.indexOf(THIRD));
+        assertTrue(columns.indexOf(SECOND) < 0);
+        assertEquals(0, columns.indexAfter(FIRST, false));
+        assertEquals(1, columns.indexAfter(FIRST, true));
+        assertEquals(1, columns.indexAfter(SECOND, true));
+        assertEquals(2, columns.indexAfter(FOURTH, false));
+        assertTrue(columns.compareTo(0, SECOND) < 0);
+        assertTrue(columns.compareTo(1, SECOND) > 0);
+    }
+
+    @Test
+    void testFindByName_ignoresCaseAndHonoursSkip() {
+        final var columns = new EmployeeColumns.Builder()
+                .add(employee(THIRD, "Alice"))
+                .add(employee(FIRST, "ALICE"))
+                .add(employee(SECOND, "Bob"))
+                .build();
+
+        final var key = MockEmployeeStore.nameKey("alice");
+        assertEquals(0, columns.findByName(key, position -> false));
+        assertEquals(2, columns.findByName(key, position -> position == 0));
+        assertTrue(columns.findByName(key, position -> true) < 0);
+        assertTrue(columns.findByName(MockEmployeeStore.nameKey("Carol"), position -> false) < 0);
+    }
+
+    @Test
+    void testEmpty_findsNothing() {
+        assertEquals(0, EmployeeColumns.EMPTY.size());
+        assertTrue(EmployeeColumns.EMPTY.indexOf(FIRST) < 0);
+        assertTrue(EmployeeColumns.EMPTY.findByName("alice", position -> false) < 0);
+    }
+
+    private static MockEmployee employee(UUID id, String name) {
+        return MockEmployee.builder().id(id).name(name).salary(1000).age(30).build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeChangeLogTest {
+
+    @Test
+    void testSince_nullGivesCurrentVersionOnly() {
+        final var log = new MockEmployeeChangeLog(10);
+        log.record(1, List.of(created(1)));
+
+        final var changes = log.since(null);
+
+        assertEquals(1, changes.version());
+        assertFalse(changes.truncated());
+        assertEquals(List.of(), changes.changes());
+    }
+
+    @Test
+    void testSince_returnsChangesAfterVersionOldestFirst() {
+        final var log = new MockEmployeeChangeLog(10);
+        final var first = created(1);
+        final var second = created(2);
+        final var third = deleted(2);
+        log.record(1, List.of(first));
+        log.record(2, List.of(second, third));
+
+        assertEquals(List.of(first, second, third), log.since(0L).changes());
+        assertEquals(List.of(second, third), log.since(1L).changes());
+        assertEquals(List.of(), log.since(2L).changes());
+        assertFalse(log.since(2L).truncated());
+    }
+
+    @Test
+    void testSince_versionWithoutChangesStillAdvances() {
+        final var log = new MockEmployeeChangeLog(10);
+        final var change = created(1);
+        log.record(1, List.of(change));
+        log.record(2, List.of());
+
+        final var changes = log.since(0L);
+
+        assertEquals(2, changes.version());
+        assertEquals(List.of(change), changes.changes());
+        assertEquals(List.of(), log.since(1L).changes());
+    }
+
+    @Test
+    void testSince_truncatedOnlyBehindDroppedVersion() {
+        final var log = new MockEmployeeChangeLog(3);
+        final var second = created(2);
+        final var third = created(3);
+        final var fourth = created(4);
+        log.record(1, List.of(created(1)));
+        log.record(2, List.of(second));
+        log.record(3, List.of(third));
+        log.record(4, List.of(fourth));
+
+        assertTrue(log.since(0L).truncated());
+        assertEquals(List.of(), log.since(0L).changes());
+        assertFalse(log.since(1L).truncated());
+        assertEquals(List.of(second, third, fourth), log.since(1L).changes());
+    }
+
+    @Test
+    void testSince_partlyDroppedVersionIsTruncated() {
+        final var log = new MockEmployeeChangeLog(2);
+        final var kept = deleted(1);
+        final var next = created(2);
+        log.record(1, List.of(created(1), kept));
+        log.record(2, List.of(next));
+
+        // One of version 1's two changes was dropped, so a reader at 0 cannot catch up, but one at 1 can
+        assertTrue(log.since(0L).truncated());
+        assertFalse(log.since(1L).truncated());
+        assertEquals(List.of(next), log.since(1L).changes());
+    }
+
+    @Test
+    void testSince_aheadOfLogIsTruncated() {
+        final var log = new MockEmployeeChangeLog(10);
+        log.record(1, List.of(created(1)));
+
+        final var changes = log.since(2L);
+
+        assertEquals(1, changes.version());
+        assertTrue(changes.truncated());
+    }
+
+    @Test
+    void testZeroCapacity_onlyCurrentVersionCatchesUp() {
+        final var log = new MockEmployeeChangeLog(0);
+        log.record(1, List.of(created(1)));
+        log.record(2, List.of(created(2)));
+
+        assertTrue(log.since(1L).truncated());
+        assertFalse(log.since(2L).truncated());
+        assertEquals(List.of(), log.since(2L).changes());
+    }
+
+    @Test
+    void testEpoch_isNewPerLog() {
+        assertNotEquals(
+                new MockEmployeeChangeLog(1).since(null).epoch(),
+                new MockEmployeeChangeLog(1).since(null).epoch());
+    }
+
+    @Test
+    void testNegativeCapacity_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MockEmployeeChangeLog(-1));
+    }
+
+    private static MockEmployeeChange created(long version) {
+        return MockEmployeeChange.created(version, employee());
+    }
+
+    private static MockEmployeeChange deleted(long version) {
+        return MockEmployeeChange.deleted(version, employee());
+    }
+
+    private static MockEmployee employee() {
+        return MockEmployee.builder().id(UUID.randomUUID()).name("Employee").build();
+    }
+}
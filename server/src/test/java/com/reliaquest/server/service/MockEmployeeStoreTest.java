@@ -0,0 +1,224 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MockEmployeeStoreTest {
+
+    private static final UUID FIRST = UUID.fromString("10000000-0000-0000-0000-000000000000");
+    private static final UUID SECOND = UUID.fromString("20000000-0000-0000-0000-000000000000");
+    private static final UUID THIRD = UUID.fromString("90000000-0000-0000-0000-000000000000");
+    private static final UUID FOURTH = UUID.fromString("f0000000-0000-0000-0000-000000000000");
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testSnapshot_listsSeedInIdOrder(boolean columnar) {
+        final var store = store(columnar, employee(THIRD, "Carol"), employee(FIRST, "Alice"));
+
+        final var snapshot = store.snapshot();
+
+        assertEquals(0, snapshot.version());
+        assertEquals(2, snapshot.size());
+        assertEquals(List.of(FIRST, THIRD), ids(snapshot.employees()));
+        assertEquals("Carol", snapshot.findById(THIRD).orElseThrow().getName());
+        assertEquals(Optional.empty(), snapshot.findById(SECOND));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testAdd_publishesNewVersionAndKeepsOldSnapshot(boolean columnar) {
+        final var store = store(columnar, employee(FIRST, "Alice"), employee(THIRD, "Carol"));
+        final var before = store.snapshot();
+
+        store.add(employee(SECOND, "Bob"));
+
+        final var after = store.snapshot();
+        assertEquals(1, after.version());
+        assertEquals(List.of(FIRST, SECOND, THIRD), ids(after.employees()));
+        assertEquals(List.of(FIRST, THIRD), ids(before.employees()));
+        assertEquals(Optional.empty(), before.findById(SECOND));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testAdd_replacesEmployeeWithSameId(boolean columnar) {
+        final var store = store(columnar, employee(FIRST, "Alice"), employee(THIRD, "Carol"));
+
+        store.add(employee(FIRST, "Alicia"));
+
+        final var snapshot = store.snapshot();
+        assertEquals(2, snapshot.size());
+        assertEquals(List.of(FIRST, THIRD), ids(snapshot.employees()));
+        assertEquals("Alicia", snapshot.findById(FIRST).orElseThrow().getName());
+        assertEquals(Optional.empty(), store.removeByName("Alice"));
+        assertEquals(FIRST, store.removeByName("alicia").orElseThrow().getId());
+    }
+
+    @Test
+    void testAdd_rejectsMissingId() {
+        final var store = store(false);
+
+        assertThrows(NullPointerException.class, () -> store.add(MockEmployee.builder().build()));
+        assertEquals(0, store.snapshot().version());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testAddAll_publishesOneVersion(boolean columnar) {
+        final var store = store(columnar, employee(FIRST, "Alice"));
+
+        store.addAll(List.of(employee(FOURTH, "Dave"), employee(SECOND, "Bob")));
+
+        final var snapshot = store.snapshot();
+        assertEquals(1, snapshot.version());
+        assertEquals(List.of(FIRST, SECOND, FOURTH), ids(snapshot.employees()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testRemoveByName_removesLongestHeldIgnoringCase(boolean columnar) {
+        final var store = store(columnar, employee(THIRD, "Alice"));
+        store.add(employee(FIRST, "alice"));
+
+        final var removed = store.removeByName("ALICE");
+
+        assertEquals(THIRD, removed.orElseThrow().getId());
+        assertEquals(List.of(FIRST), ids(store.snapshot().employees()));
+        assertEquals(FIRST, store.removeByName("Alice").orElseThrow().getId());
+        assertEquals(Optional.empty(), store.removeByName("Alice"));
+        assertEquals(0, store.snapshot().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testRemoveAllByName_removesOnePerNameInOneVersion(boolean columnar) {
+        final var store = store(columnar, employee(FIRST, "Alice"), employee(SECOND, "Alice"), employee(THIRD, "Bob"));
+
+        final var removed = store.removeAllByName(List.of("Alice", "Carol", "Alice"));
+
+        assertEquals(3, removed.size());
+        assertTrue(removed.get(0).isPresent());
+        assertFalse(removed.get(1).isPresent());
+        assertTrue(removed.get(2).isPresent());
+        assertEquals(1, store.snapshot().version());
+        assertEquals(List.of(THIRD), ids(store.snapshot().employees()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testPage_walksIdOrderAcrossSeedAndCreated(boolean columnar) {
+        final var store = store(columnar, employee(FIRST, "Alice"), employee(THIRD, "Carol"));
+        store.add(employee(SECOND, "Bob"));
+        store.add(employee(FOURTH, "Dave"));
+        store.removeByName("Carol");
+
+        final var snapshot = store.snapshot();
+
+        assertEquals(List.of(FIRST, SECOND), ids(snapshot.page(null, null, null, 2)));
+        assertEquals(List.of(FOURTH), ids(snapshot.page(SECOND, null, null, 2)));
+        assertEquals(List.of(SECOND, FOURTH), ids(snapshot.page(null, SECOND, null, 10)));
+        assertEquals(List.of(FIRST, SECOND), ids(snapshot.page(null, null, THIRD, 10)));
+        assertEquals(List.of(), ids(snapshot.page(FOURTH, null, null, 10)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testChangesSince_recordsCreatesAndDeletesByVersion(boolean columnar) {
+        final var store = store(columnar, employee(FIRST, "Alice"));
+        store.add(employee(SECOND, "Bob"));
+        store.removeByName("Alice");
+
+        final var changes = store.changesSince(0L);
+
+        assertEquals(2, changes.version());
+        assertFalse(changes.truncated());
+        assertEquals(
+                List.of(
+                        MockEmployeeChange.created(1, employee(SECOND, "Bob")),
+                        MockEmployeeChange.deleted(2, employee(FIRST, "Alice"))),
+                changes.changes());
+        assertEquals(List.of(), store.changesSince(2L).changes());
+    }
+
+    @Test
+    void testOnPublish_runsOncePerVersion() {
+        final var store = store(false);
+        final var published = new AtomicInteger();
+        store.onPublish(published::incrementAndGet);
+
+        store.add(employee(FIRST, "Alice"));
+        store.addAll(List.of(employee(SECOND, "Bob"), employee(THIRD, "Carol")));
+        store.removeByName("Bob");
+
+        assertEquals(3, published.get());
+        assertEquals(3, store.snapshot().version());
+    }
+
+    @Test
+    void testConcurrentWrites_areAllPublished() throws Exception {
+        final var store = store(false);
+        final var threads = 8;
+        final var perThread = 200;
+        final var start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final var futures = new ArrayList<Future<?>>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        store.add(employee(UUID.randomUUID(), "Employee"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final var snapshot = store.snapshot();
+        assertEquals(threads * perThread, snapshot.size());
+        assertTrue(snapshot.version() <= threads * perThread);
+        assertEquals(threads * perThread, store.changesSince(0L).changes().size());
+        final var ids = ids(snapshot.employees());
+        final var sorted = new ArrayList<>(ids);
+        sorted.sort(Comparator.comparing(UUID::toString));
+        assertEquals(sorted, ids);
+    }
+
+    private static MockEmployeeStore store(boolean columnar, MockEmployee... seed) {
+        return new MockEmployeeStore(List.of(seed), columnar, 10_000);
+    }
+
+    private static List<UUID> ids(List<MockEmployee> employees) {
+        final var ids = new ArrayList<UUID>();
+        employees.forEach(employee -> ids.add(employee.getId()));
+        return ids;
+    }
+
+    private static MockEmployee employee(UUID id, String name) {
+        return MockEmployee.builder().id(id).name(name).salary(1000).age(30).build();
+    }
+}
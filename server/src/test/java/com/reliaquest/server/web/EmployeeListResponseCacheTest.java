@@ -0,0 +1,165 @@
+package com.reliaquest.server.web;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeSnapshot;
+import com.reliaquest.server.model.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EmployeeListResponseCacheTest {
+
+    private static final MockEmployee ALICE = employee("10000000-0000-0000-0000-000000000000", "Alice");
+    private static final MockEmployee BOB = employee("20000000-0000-0000-0000-000000000000", "Bob");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeListResponseCache cache = new EmployeeListResponseCache(objectMapper);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxBytes", 1 << 20);
+    }
+
+    @Test
+    void testRespond_encodesJsonWithStrongEtag() throws IOException {
+        final var response = respond(new MockEmployeeSnapshot(1, List.of(ALICE, BOB)), null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getETag().matches("\"[0-9a-f]{32}\""));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), response.getHeaders().getVary());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        final var expected = objectMapper.writeValueAsBytes(Response.handledWith(List.of(ALICE, BOB)));
+        assertArrayEquals(expected, response.getBody());
+    }
+
+    @Test
+    void testRespond_gzipHasItsOwnEtag() throws IOException {
+        final var snapshot = new MockEmployeeSnapshot(1, List.of(ALICE, BOB));
+        final var plain = respond(snapshot, null, null);
+
+        final var gzipped = respond(snapshot, null, "gzip, deflate");
+
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(unquote(plain) + "-gzip", unquote(gzipped));
+        try (final var in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertArrayEquals(plain.getBody(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void testRespond_matchingEtagGetsNotModified() {
+        final var snapshot = new MockEmployeeSnapshot(1, List.of(ALICE));
+        final var etag = respond(snapshot, null, null).getHeaders().getETag();
+
+        final var response = respond(snapshot, etag, null);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(etag, response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void testRespond_etagOfOtherEncodingDoesNotMatch() {
+        final var snapshot = new MockEmployeeSnapshot(1, List.of(ALICE));
+        final var etag = respond(snapshot, null, null).getHeaders().getETag();
+
+        assertEquals(HttpStatus.OK, respond(snapshot, etag, "gzip").getStatusCode());
+    }
+
+    @Test
+    void testRespond_changedListGetsNewEtag() {
+        final var etag = respond(new MockEmployeeSnapshot(1, List.of(ALICE)), null, null).getHeaders().getETag();
+
+        final var response = respond(new MockEmployeeSnapshot(2, List.of(ALICE, BOB)), etag, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(etag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void testRespond_newVersionWithSameListKeepsEtag() {
+        final var etag = respond(new MockEmployeeSnapshot(1, List.of(ALICE)), null, null).getHeaders().getETag();
+
+        // A create followed by the delete of the same employee publishes two versions but leaves the list as it was
+        final var response = respond(new MockEmployeeSnapshot(3, List.of(ALICE)), etag, null);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(etag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void testRespond_olderVersionDoesNotReplaceNewerEncoding() {
+        final var newer = respond(new MockEmployeeSnapshot(2, List.of(ALICE, BOB)), null, null);
+
+        final var older = respond(new MockEmployeeSnapshot(1, List.of(ALICE)), null, null);
+
+        assertEquals(newer.getHeaders().getETag(), older.getHeaders().getETag());
+    }
+
+    @Test
+    void testInvalidate_reencodesSameEtag() {
+        final var snapshot = new MockEmployeeSnapshot(1, List.of(ALICE));
+        final var etag = respond(snapshot, null, null).getHeaders().getETag();
+
+        cache.invalidate();
+
+        assertEquals(HttpStatus.NOT_MODIFIED, respond(snapshot, etag, null).getStatusCode());
+    }
+
+    @Test
+    void testRespond_listOverLimitIsNotCached() {
+        ReflectionTestUtils.setField(cache, "maxBytes", 16);
+
+        final var response = cache.respond(new MockEmployeeSnapshot(1, List.of(ALICE, BOB)), null, null);
+
+        assertTrue(response.isEmpty());
+    }
+
+    @Test
+    void testMatches() {
+        assertTrue(EmployeeListResponseCache.matches("\"abc\"", "\"abc\""));
+        assertTrue(EmployeeListResponseCache.matches("W/\"abc\"", "\"abc\""));
+        assertTrue(EmployeeListResponseCache.matches("\"xyz\", \"abc\"", "\"abc\""));
+        assertTrue(EmployeeListResponseCache.matches("*", "\"abc\""));
+        assertFalse(EmployeeListResponseCache.matches("\"abc-gzip\"", "\"abc\""));
+        assertFalse(EmployeeListResponseCache.matches(null, "\"abc\""));
+    }
+
+    @Test
+    void testAccepts() {
+        assertTrue(EmployeeListResponseCache.accepts("deflate, GZIP", "gzip"));
+        assertTrue(EmployeeListResponseCache.accepts("gzip;q=0.5", "gzip"));
+        assertTrue(EmployeeListResponseCache.accepts("*", "gzip"));
+        assertFalse(EmployeeListResponseCache.accepts("gzip;q=0", "gzip"));
+        assertFalse(EmployeeListResponseCache.accepts("br", "gzip"));
+        assertFalse(EmployeeListResponseCache.accepts(null, "gzip"));
+    }
+
+    private ResponseEntity<byte[]> respond(MockEmployeeSnapshot snapshot, String ifNoneMatch, String acceptEncoding) {
+        return cache.respond(snapshot, ifNoneMatch, acceptEncoding).orElseThrow();
+    }
+
+    private static String unquote(ResponseEntity<byte[]> response) {
+        return response.getHeaders().getETag().replace("\"", "");
+    }
+
+    private static MockEmployee employee(String id, String name) {
+        return MockEmployee.builder().id(UUID.fromString(id)).name(name).salary(1000).age(30).build();
+    }
+}